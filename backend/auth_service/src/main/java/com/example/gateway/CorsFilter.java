@@ -47,6 +47,8 @@ public class CorsFilter implements Filter {
             response.setHeader("Access-Control-Allow-Methods", "GET, POST, PUT, DELETE, PATCH, OPTIONS");
             response.setHeader("Access-Control-Allow-Headers", "*");
             response.setHeader("Access-Control-Max-Age", "3600");
+            // Let the browser read paging and caching headers from listing responses
+            response.setHeader("Access-Control-Expose-Headers", "X-Next-Cursor, ETag");
         } else if (origin != null) {
             logger.warn("CORS Filter - Origin not allowed: {}", origin);
         }
@@ -34,14 +34,15 @@ public class GatewayConfig {
     public RouterFunction<ServerResponse> gatewayRoutes() {
         return route("entity_service_routes")
                 .route(request -> 
-                    request.path().startsWith("/book") || 
+                    (request.path().startsWith("/book") && !isBestsellers(request.path())) || 
                     request.path().startsWith("/address"), 
                     HandlerFunctions.http(entityServiceUrl))
                 .build()
             .and(route("order_service_routes")
                 .route(request -> 
                     request.path().startsWith("/cart") || 
-                    request.path().startsWith("/orders"), 
+                    request.path().startsWith("/orders") || 
+                    isBestsellers(request.path()), 
                     HandlerFunctions.http(orderServiceUrl))
                 .build())
             .and(route("payment_service_routes")
@@ -50,4 +51,11 @@ public class GatewayConfig {
                     HandlerFunctions.http(paymentServiceUrl))
                 .build());
     }
+
+    /**
+     * The bestseller leaderboard is fed by order creation, so the order service serves it
+     */
+    private static boolean isBestsellers(String path) {
+        return path.equals("/book/bestsellers") || path.startsWith("/book/bestsellers/");
+    }
 }
@@ -1,12 +1,18 @@
 package com.example.common.controller;
 
+import java.util.List;
+
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.example.common.pagination.KeysetPage;
+import com.example.common.pagination.KeysetPagination;
+
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -41,4 +47,16 @@ public abstract class BaseController {
         return jwt.getClaim("userId");
     }
 
+    /**
+     * 200 with the page items as a plain JSON array and, unless this is the last page,
+     * the cursor for the next page in the X-Next-Cursor header
+     */
+    protected <T> ResponseEntity<List<T>> keysetPage(KeysetPage<T> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(KeysetPagination.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+
 }
@@ -0,0 +1,14 @@
+package com.example.common.pagination;
+
+import java.util.List;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+@Data
+@RequiredArgsConstructor
+public class KeysetPage<T> {
+    private final List<T> items;
+    // Opaque token for the next page, null on the last page
+    private final String nextCursor;
+}
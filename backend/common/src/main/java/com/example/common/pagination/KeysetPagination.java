@@ -0,0 +1,152 @@
+package com.example.common.pagination;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.jooq.Field;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Page size policy and cursor tokens for keyset paginated listings.
+ *
+ * A cursor is the sort name plus the last row's key values, HMAC-signed so clients can pass it back but cannot
+ * forge positions or reuse a cursor with a different sort. Token format: base64url(payload).base64url(signature)
+ */
+@Component
+public class KeysetPagination {
+
+    // Listings return a plain JSON array, the cursor for the next page travels in this response header
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SecretKeySpec key;
+    private final int maxPageSize;
+
+    /**
+     * secret has no default: a key everyone can read from the repository would let clients forge cursors.
+     */
+    public KeysetPagination(@Value("${pagination.cursor-secret}") String secret,
+            @Value("${pagination.max-page-size:100}") int maxPageSize) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("pagination.cursor-secret (PAGINATION_CURSOR_SECRET) must be set");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.maxPageSize = maxPageSize;
+    }
+
+    /**
+     * The client's requested page size, or the listing's default, capped at pagination.max-page-size.
+     */
+    public int pageSize(Integer requested, int defaultSize) {
+        int size = requested == null ? defaultSize : requested;
+        return Math.min(Math.max(size, 1), maxPageSize);
+    }
+
+    public <T> KeysetPage<T> toPage(KeysetSlice<T> slice, KeysetSort sort) {
+        return new KeysetPage<>(slice.items(), slice.hasMore() ? encode(sort, slice.nextKey()) : null);
+    }
+
+    public String encode(KeysetSort sort, Object[] key) {
+        String[] payload = new String[key.length + 1];
+        payload[0] = sort.getName();
+        for (int i = 0; i < key.length; i++) {
+            payload[i + 1] = key[i] == null ? null : key[i].toString();
+        }
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(payload);
+            return ENCODER.encodeToString(body) + "." + ENCODER.encodeToString(sign(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode cursor", e);
+        }
+    }
+
+    /**
+     * Key values to seek after, converted to the sort fields' Java types. Null or blank cursors mean the first page.
+     */
+    public Object[] decode(KeysetSort sort, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            int dot = cursor.indexOf('.');
+            byte[] body = DECODER.decode(cursor.substring(0, dot));
+            byte[] signature = DECODER.decode(cursor.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(body), signature)) {
+                throw invalid();
+            }
+
+            String[] payload = objectMapper.readValue(body, String[].class);
+            List<Field<?>> fields = sort.getFields();
+            if (payload.length != fields.size() + 1 || !sort.getName().equals(payload[0])) {
+                throw invalid();
+            }
+            Object[] key = new Object[fields.size()];
+            for (int i = 0; i < key.length; i++) {
+                key[i] = convert(payload[i + 1], fields.get(i).getType());
+            }
+            return key;
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeException | IOException e) {
+            throw invalid();
+        }
+    }
+
+    private static Object convert(String value, Class<?> type) {
+        if (value == null) {
+            return null;
+        }
+        if (type == Integer.class) {
+            return Integer.valueOf(value);
+        }
+        if (type == Long.class) {
+            return Long.valueOf(value);
+        }
+        if (type == BigDecimal.class) {
+            return new BigDecimal(value);
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.parse(value);
+        }
+        if (type == LocalDate.class) {
+            return LocalDate.parse(value);
+        }
+        if (type == String.class) {
+            return value;
+        }
+        throw new IllegalArgumentException("Unsupported keyset column type " + type);
+    }
+
+    private byte[] sign(byte[] body) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(body);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not sign cursor", e);
+        }
+    }
+
+    private static ResponseStatusException invalid() {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid page cursor");
+    }
+}
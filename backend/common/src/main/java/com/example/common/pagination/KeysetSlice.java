@@ -0,0 +1,13 @@
+package com.example.common.pagination;
+
+import java.util.List;
+
+/**
+ * One page of rows plus the sort key of its last row. nextKey is null when this is the last page.
+ */
+public record KeysetSlice<T>(List<T> items, Object[] nextKey) {
+
+    public boolean hasMore() {
+        return nextKey != null;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.common.pagination;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jooq.Field;
+import org.jooq.OrderField;
+import org.jooq.Record;
+import org.jooq.RecordMapper;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.jooq.SelectOrderByStep;
+import org.jooq.SelectSeekStepN;
+import org.jooq.SortField;
+import org.jooq.impl.DSL;
+
+/**
+ * A named, composite sort order for keyset ("seek") pagination, e.g. price asc then id asc.
+ * The last key should be unique (normally the primary key) so every row has exactly one position.
+ *
+ * Instead of OFFSET, the next page starts strictly after the previous page's last key, which jOOQ turns
+ * into a row-value predicate the database can answer from an index. Deep pages cost the same as page one.
+ */
+public final class KeysetSort {
+
+    private final String name;
+    private final List<Field<?>> fields;
+    private final List<Object> nullValues;
+    private final List<SortField<?>> orderBy;
+
+    private KeysetSort(String name, List<Field<?>> fields, List<Object> nullValues, List<SortField<?>> orderBy) {
+        this.name = name;
+        this.fields = fields;
+        this.nullValues = nullValues;
+        this.orderBy = orderBy;
+    }
+
+    public static KeysetSort named(String name) {
+        return new KeysetSort(name, List.of(), List.of(), List.of());
+    }
+
+    public KeysetSort asc(Field<?> field) {
+        return then(field, null, field.asc());
+    }
+
+    public KeysetSort desc(Field<?> field) {
+        return then(field, null, field.desc());
+    }
+
+    /**
+     * For nullable columns: sorts and seeks on coalesce(field, ifNull), since a row-value comparison against NULL
+     * would silently drop those rows from every page after the first.
+     */
+    public <T> KeysetSort asc(Field<T> field, T ifNull) {
+        return then(field, ifNull, DSL.coalesce(field, ifNull).asc());
+    }
+
+    public <T> KeysetSort desc(Field<T> field, T ifNull) {
+        return then(field, ifNull, DSL.coalesce(field, ifNull).desc());
+    }
+
+    /**
+     * Like asc(field, ifNull), but sorts and seeks under the given collation, e.g. a binary one that a copy of the
+     * rows sorted in memory can reproduce exactly. Keys are still read off the plain field.
+     */
+    public KeysetSort asc(Field<String> field, String ifNull, String collation) {
+        return then(field, ifNull, DSL.coalesce(field, ifNull).collate(collation).asc());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<Field<?>> getFields() {
+        return fields;
+    }
+
+    /**
+     * Orders the query by this sort, seeks past the given key (null for the first page) and fetches one row more
+     * than the limit so callers can tell whether a next page exists without a COUNT.
+     */
+    public <R extends Record, T> KeysetSlice<T> fetch(SelectOrderByStep<R> query, Object[] after, int limit,
+            RecordMapper<? super R, T> mapper) {
+        SelectSeekStepN<R> ordered = query.orderBy(orderBy.toArray(new OrderField<?>[0]));
+        ResultQuery<R> limited = after == null
+                ? ordered.limit(limit + 1)
+                : ordered.seek(after).limit(limit + 1);
+
+        Result<R> rows = limited.fetch();
+        boolean hasMore = rows.size() > limit;
+        List<T> items = new ArrayList<>(Math.min(rows.size(), limit));
+        Object[] lastKey = null;
+        for (int i = 0; i < rows.size() && i < limit; i++) {
+            R row = rows.get(i);
+            items.add(mapper.map(row));
+            lastKey = keyOf(row);
+        }
+        return new KeysetSlice<>(items, hasMore ? lastKey : null);
+    }
+
+    private Object[] keyOf(Record row) {
+        Object[] key = new Object[fields.size()];
+        for (int i = 0; i < key.length; i++) {
+            Object value = row.get(fields.get(i));
+            key[i] = value == null ? nullValues.get(i) : value;
+        }
+        return key;
+    }
+
+    private KeysetSort then(Field<?> field, Object ifNull, SortField<?> sortField) {
+        List<Field<?>> newFields = new ArrayList<>(fields);
+        newFields.add(field);
+        // List.copyOf rejects nulls, and most keys have no null substitute
+        List<Object> newNullValues = new ArrayList<>(nullValues);
+        newNullValues.add(ifNull);
+        List<SortField<?>> newOrderBy = new ArrayList<>(orderBy);
+        newOrderBy.add(sortField);
+        return new KeysetSort(name, List.copyOf(newFields), Collections.unmodifiableList(newNullValues),
+                List.copyOf(newOrderBy));
+    }
+}
@@ -5,6 +5,7 @@ package com.example.database.generated;
 
 
 import com.example.database.generated.tables.Book;
+import com.example.database.generated.tables.BookCatalog;
 import com.example.database.generated.tables.BookOrders;
 import com.example.database.generated.tables.CartItem;
 import com.example.database.generated.tables.Orders;
@@ -29,6 +30,8 @@ public class Indexes {
     public static final Index BOOK_AUTHOR_ID = Internal.createIndex(DSL.name("author_id"), Book.BOOK, new OrderField[] { Book.BOOK.AUTHOR_ID }, false);
     public static final Index BOOK_ORDERS_BOOK_ID = Internal.createIndex(DSL.name("book_id"), BookOrders.BOOK_ORDERS, new OrderField[] { BookOrders.BOOK_ORDERS.BOOK_ID }, false);
     public static final Index CART_ITEM_BOOK_ID = Internal.createIndex(DSL.name("book_id"), CartItem.CART_ITEM, new OrderField[] { CartItem.CART_ITEM.BOOK_ID }, false);
+    public static final Index BOOK_CATALOG_IDX_BOOK_CATALOG_AUTHOR_ID = Internal.createIndex(DSL.name("idx_book_catalog_author_id"), BookCatalog.BOOK_CATALOG, new OrderField[] { BookCatalog.BOOK_CATALOG.AUTHOR_ID }, false);
+    public static final Index BOOK_CATALOG_IDX_BOOK_CATALOG_PRICE_ID = Internal.createIndex(DSL.name("idx_book_catalog_price_id"), BookCatalog.BOOK_CATALOG, new OrderField[] { BookCatalog.BOOK_CATALOG.PRICE, BookCatalog.BOOK_CATALOG.ID }, false);
     public static final Index USER_ADDRESS_IDX_USER_ADDRESS_USER_ID = Internal.createIndex(DSL.name("idx_user_address_user_id"), UserAddress.USER_ADDRESS, new OrderField[] { UserAddress.USER_ADDRESS.USER_ID }, false);
     public static final Index BOOK_ORDERS_ORDER_ID = Internal.createIndex(DSL.name("order_id"), BookOrders.BOOK_ORDERS, new OrderField[] { BookOrders.BOOK_ORDERS.ORDER_ID }, false);
     public static final Index ORDERS_USER_ID = Internal.createIndex(DSL.name("user_id"), Orders.ORDERS, new OrderField[] { Orders.ORDERS.USER_ID }, false);
@@ -5,14 +5,20 @@ package com.example.database.generated;
 
 
 import com.example.database.generated.tables.Author;
+import com.example.database.generated.tables.AuthorChangeLog;
 import com.example.database.generated.tables.Book;
+import com.example.database.generated.tables.BookCatalog;
+import com.example.database.generated.tables.BookChangeLog;
 import com.example.database.generated.tables.BookOrders;
 import com.example.database.generated.tables.CartItem;
 import com.example.database.generated.tables.Databasechangeloglock;
 import com.example.database.generated.tables.Orders;
 import com.example.database.generated.tables.User;
 import com.example.database.generated.tables.UserAddress;
+import com.example.database.generated.tables.records.AuthorChangeLogRecord;
 import com.example.database.generated.tables.records.AuthorRecord;
+import com.example.database.generated.tables.records.BookCatalogRecord;
+import com.example.database.generated.tables.records.BookChangeLogRecord;
 import com.example.database.generated.tables.records.BookOrdersRecord;
 import com.example.database.generated.tables.records.BookRecord;
 import com.example.database.generated.tables.records.CartItemRecord;
@@ -40,7 +46,10 @@ public class Keys {
     // -------------------------------------------------------------------------
 
     public static final UniqueKey<AuthorRecord> KEY_AUTHOR_PRIMARY = Internal.createUniqueKey(Author.AUTHOR, DSL.name("KEY_author_PRIMARY"), new TableField[] { Author.AUTHOR.ID }, true);
+    public static final UniqueKey<AuthorChangeLogRecord> KEY_AUTHOR_CHANGE_LOG_PRIMARY = Internal.createUniqueKey(AuthorChangeLog.AUTHOR_CHANGE_LOG, DSL.name("KEY_author_change_log_PRIMARY"), new TableField[] { AuthorChangeLog.AUTHOR_CHANGE_LOG.SEQ }, true);
     public static final UniqueKey<BookRecord> KEY_BOOK_PRIMARY = Internal.createUniqueKey(Book.BOOK, DSL.name("KEY_book_PRIMARY"), new TableField[] { Book.BOOK.ID }, true);
+    public static final UniqueKey<BookCatalogRecord> KEY_BOOK_CATALOG_PRIMARY = Internal.createUniqueKey(BookCatalog.BOOK_CATALOG, DSL.name("KEY_book_catalog_PRIMARY"), new TableField[] { BookCatalog.BOOK_CATALOG.ID }, true);
+    public static final UniqueKey<BookChangeLogRecord> KEY_BOOK_CHANGE_LOG_PRIMARY = Internal.createUniqueKey(BookChangeLog.BOOK_CHANGE_LOG, DSL.name("KEY_book_change_log_PRIMARY"), new TableField[] { BookChangeLog.BOOK_CHANGE_LOG.SEQ }, true);
     public static final UniqueKey<BookOrdersRecord> KEY_BOOK_ORDERS_PRIMARY = Internal.createUniqueKey(BookOrders.BOOK_ORDERS, DSL.name("KEY_book_orders_PRIMARY"), new TableField[] { BookOrders.BOOK_ORDERS.ID }, true);
     public static final UniqueKey<CartItemRecord> KEY_CART_ITEM_PRIMARY = Internal.createUniqueKey(CartItem.CART_ITEM, DSL.name("KEY_cart_item_PRIMARY"), new TableField[] { CartItem.CART_ITEM.ID }, true);
     public static final UniqueKey<CartItemRecord> KEY_CART_ITEM_UNIQUE_USER_BOOK = Internal.createUniqueKey(CartItem.CART_ITEM, DSL.name("KEY_cart_item_unique_user_book"), new TableField[] { CartItem.CART_ITEM.USER_ID, CartItem.CART_ITEM.BOOK_ID }, true);
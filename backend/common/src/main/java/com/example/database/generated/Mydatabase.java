@@ -5,8 +5,11 @@ package com.example.database.generated;
 
 
 import com.example.database.generated.tables.Author;
+import com.example.database.generated.tables.AuthorChangeLog;
 import com.example.database.generated.tables.Book;
 import com.example.database.generated.tables.BookAuthorVw;
+import com.example.database.generated.tables.BookCatalog;
+import com.example.database.generated.tables.BookChangeLog;
 import com.example.database.generated.tables.BookOrders;
 import com.example.database.generated.tables.CartItem;
 import com.example.database.generated.tables.CartItemDetailVw;
@@ -43,6 +46,11 @@ public class Mydatabase extends SchemaImpl {
      */
     public final Author AUTHOR = Author.AUTHOR;
 
+    /**
+     * The table <code>mydatabase.author_change_log</code>.
+     */
+    public final AuthorChangeLog AUTHOR_CHANGE_LOG = AuthorChangeLog.AUTHOR_CHANGE_LOG;
+
     /**
      * The table <code>mydatabase.book</code>.
      */
@@ -53,6 +61,16 @@ public class Mydatabase extends SchemaImpl {
      */
     public final BookAuthorVw BOOK_AUTHOR_VW = BookAuthorVw.BOOK_AUTHOR_VW;
 
+    /**
+     * The table <code>mydatabase.book_catalog</code>.
+     */
+    public final BookCatalog BOOK_CATALOG = BookCatalog.BOOK_CATALOG;
+
+    /**
+     * The table <code>mydatabase.book_change_log</code>.
+     */
+    public final BookChangeLog BOOK_CHANGE_LOG = BookChangeLog.BOOK_CHANGE_LOG;
+
     /**
      * The table <code>mydatabase.book_orders</code>.
      */
@@ -115,8 +133,11 @@ public class Mydatabase extends SchemaImpl {
     public final List<Table<?>> getTables() {
         return Arrays.asList(
             Author.AUTHOR,
+            AuthorChangeLog.AUTHOR_CHANGE_LOG,
             Book.BOOK,
             BookAuthorVw.BOOK_AUTHOR_VW,
+            BookCatalog.BOOK_CATALOG,
+            BookChangeLog.BOOK_CHANGE_LOG,
             BookOrders.BOOK_ORDERS,
             CartItem.CART_ITEM,
             CartItemDetailVw.CART_ITEM_DETAIL_VW,
@@ -5,8 +5,11 @@ package com.example.database.generated;
 
 
 import com.example.database.generated.tables.Author;
+import com.example.database.generated.tables.AuthorChangeLog;
 import com.example.database.generated.tables.Book;
 import com.example.database.generated.tables.BookAuthorVw;
+import com.example.database.generated.tables.BookCatalog;
+import com.example.database.generated.tables.BookChangeLog;
 import com.example.database.generated.tables.BookOrders;
 import com.example.database.generated.tables.CartItem;
 import com.example.database.generated.tables.CartItemDetailVw;
@@ -29,6 +32,11 @@ public class Tables {
      */
     public static final Author AUTHOR = Author.AUTHOR;
 
+    /**
+     * The table <code>mydatabase.author_change_log</code>.
+     */
+    public static final AuthorChangeLog AUTHOR_CHANGE_LOG = AuthorChangeLog.AUTHOR_CHANGE_LOG;
+
     /**
      * The table <code>mydatabase.book</code>.
      */
@@ -39,6 +47,16 @@ public class Tables {
      */
     public static final BookAuthorVw BOOK_AUTHOR_VW = BookAuthorVw.BOOK_AUTHOR_VW;
 
+    /**
+     * The table <code>mydatabase.book_catalog</code>.
+     */
+    public static final BookCatalog BOOK_CATALOG = BookCatalog.BOOK_CATALOG;
+
+    /**
+     * The table <code>mydatabase.book_change_log</code>.
+     */
+    public static final BookChangeLog BOOK_CHANGE_LOG = BookChangeLog.BOOK_CHANGE_LOG;
+
     /**
      * The table <code>mydatabase.book_orders</code>.
      */
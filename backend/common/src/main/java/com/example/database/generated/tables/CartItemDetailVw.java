@@ -103,7 +103,7 @@ public class CartItemDetailVw extends TableImpl<CartItemDetailVwRecord> {
     }
 
     private CartItemDetailVw(Name alias, Table<CartItemDetailVwRecord> aliased, Field<?>[] parameters, Condition where) {
-        super(alias, null, aliased, parameters, DSL.comment(""), TableOptions.view("create view `cart_item_detail_vw` as select `mydatabase`.`cart_item`.`id` AS `cart_item_id`,`mydatabase`.`cart_item`.`user_id` AS `user_id`,`mydatabase`.`cart_item`.`book_id` AS `book_id`,`mydatabase`.`cart_item`.`book_quantity` AS `book_quantity`,`mydatabase`.`book_author_vw`.`author_id` AS `author_id`,`mydatabase`.`book_author_vw`.`title` AS `title`,`mydatabase`.`book_author_vw`.`price` AS `price`,`mydatabase`.`book_author_vw`.`description` AS `description`,`mydatabase`.`book_author_vw`.`first_name` AS `first_name`,`mydatabase`.`book_author_vw`.`last_name` AS `last_name` from (`mydatabase`.`cart_item` join `mydatabase`.`book_author_vw` on((`mydatabase`.`cart_item`.`book_id` = `mydatabase`.`book_author_vw`.`id`)))"), where);
+        super(alias, null, aliased, parameters, DSL.comment(""), TableOptions.view("create view `cart_item_detail_vw` as select `mydatabase`.`cart_item`.`id` AS `cart_item_id`,`mydatabase`.`cart_item`.`user_id` AS `user_id`,`mydatabase`.`cart_item`.`book_id` AS `book_id`,`mydatabase`.`cart_item`.`book_quantity` AS `book_quantity`,`mydatabase`.`book_catalog`.`author_id` AS `author_id`,`mydatabase`.`book_catalog`.`title` AS `title`,`mydatabase`.`book_catalog`.`price` AS `price`,`mydatabase`.`book_catalog`.`description` AS `description`,`mydatabase`.`book_catalog`.`first_name` AS `first_name`,`mydatabase`.`book_catalog`.`last_name` AS `last_name` from (`mydatabase`.`cart_item` join `mydatabase`.`book_catalog` on((`mydatabase`.`cart_item`.`book_id` = `mydatabase`.`book_catalog`.`id`)))"), where);
     }
 
     /**
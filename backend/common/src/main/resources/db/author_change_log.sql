@@ -0,0 +1,10 @@
+-- Append-only log of author changes, one row per author created, updated or deleted. Written by AuthorRepository
+-- in the same transaction as the change itself, and replayed by every entity_service instance so authors written
+-- through one of them show up in the others' author listings and search.
+CREATE TABLE if not exists author_change_log (
+  seq bigint NOT NULL AUTO_INCREMENT,
+  author_id int NOT NULL,
+  change_type varchar(16) NOT NULL,
+  changed_at timestamp(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+  PRIMARY KEY (seq)
+);
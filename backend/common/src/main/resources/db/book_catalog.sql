@@ -0,0 +1,43 @@
+-- Denormalized copy of book_author_vw so catalog and cart reads do not join book to author.
+-- Kept in sync by the entity_service BookRepository / AuthorRepository writes, in the same transaction.
+CREATE TABLE if not exists book_catalog (
+  id int NOT NULL,
+  author_id int NOT NULL,
+  title varchar(255) DEFAULT NULL,
+  price DECIMAL(10, 2) DEFAULT 0.00,
+  description TEXT,
+  first_name varchar(255) DEFAULT NULL,
+  last_name varchar(255) DEFAULT NULL,
+  PRIMARY KEY (id),
+  INDEX idx_book_catalog_author_id (author_id)
+);
+
+-- Backfill from the existing rows
+INSERT INTO book_catalog (id, author_id, title, price, description, first_name, last_name)
+SELECT book.id, book.author_id, book.title, book.price, book.description, author.first_name, author.last_name
+FROM book
+INNER JOIN author ON book.author_id = author.id
+ON DUPLICATE KEY UPDATE
+  author_id = VALUES(author_id),
+  title = VALUES(title),
+  price = VALUES(price),
+  description = VALUES(description),
+  first_name = VALUES(first_name),
+  last_name = VALUES(last_name);
+
+-- Same columns as before, read from book_catalog instead of the join
+CREATE or replace VIEW cart_item_detail_vw as (
+SELECT 
+  cart_item.id as cart_item_id,
+  cart_item.user_id, 
+  cart_item.book_id, 
+  cart_item.book_quantity, 
+  book_catalog.author_id, 
+  book_catalog.title,
+  book_catalog.price,
+  book_catalog.description,
+  book_catalog.first_name,
+  book_catalog.last_name
+FROM cart_item
+INNER JOIN book_catalog ON cart_item.book_id = book_catalog.id
+);
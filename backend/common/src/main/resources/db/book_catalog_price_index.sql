@@ -0,0 +1,10 @@
+-- Price browse on GET /book (minPrice / maxPrice, sort=price_asc|price_desc) is keyset paged on (price, id).
+-- A missing price is already treated as 0.00 everywhere (column default, sort key), so store it that way: with
+-- price NOT NULL the ORDER BY needs no COALESCE and both directions are a range scan of idx_book_catalog_price_id.
+UPDATE book_catalog SET price = 0.00 WHERE price IS NULL;
+
+ALTER TABLE book_catalog MODIFY price DECIMAL(10, 2) NOT NULL DEFAULT 0.00;
+
+-- InnoDB appends the primary key to every secondary index, so this is (price, id) and
+-- idx_book_catalog_author_id is already (author_id, id) for the per-author listing
+CREATE INDEX idx_book_catalog_price_id ON book_catalog (price, id);
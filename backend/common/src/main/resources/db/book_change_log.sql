@@ -0,0 +1,10 @@
+-- Append-only log of book changes, one row per book created, updated or deleted (author renames log UPDATED
+-- for each of the author's books). Written by the entity_service repositories in the same transaction as the
+-- change itself, and read as an ordered feed from GET /book/changes?since=<seq>.
+CREATE TABLE if not exists book_change_log (
+  seq bigint NOT NULL AUTO_INCREMENT,
+  book_id int NOT NULL,
+  change_type varchar(16) NOT NULL,
+  changed_at timestamp(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+  PRIMARY KEY (seq)
+);
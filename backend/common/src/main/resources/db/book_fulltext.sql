@@ -0,0 +1,5 @@
+-- Full-text indexes for relevance search (MATCH ... AGAINST) on /book/search?mode=FULLTEXT
+-- MATCH() column lists must match an index exactly, so book and author each get one index
+ALTER TABLE book ADD FULLTEXT INDEX ft_book_title_description (title, description);
+
+ALTER TABLE author ADD FULLTEXT INDEX ft_author_name (first_name, last_name);
@@ -0,0 +1,3 @@
+-- The bestseller leaderboard (order service) reloads the last 7 days of book_orders by orders.created_at when it
+-- starts and on every rebuild, so that read should be a range scan rather than a walk over the whole order history
+CREATE INDEX idx_orders_created_at ON orders (created_at);
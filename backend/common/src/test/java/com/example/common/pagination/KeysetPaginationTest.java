@@ -0,0 +1,105 @@
+package com.example.common.pagination;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+class KeysetPaginationTest {
+
+    private static final KeysetSort PRICE_THEN_ID = KeysetSort.named("price")
+            .asc(DSL.field(DSL.name("price"), SQLDataType.DECIMAL(10, 2)))
+            .asc(DSL.field(DSL.name("id"), SQLDataType.INTEGER));
+
+    private static final KeysetSort RECENT = KeysetSort.named("recent")
+            .desc(DSL.field(DSL.name("created_at"), SQLDataType.LOCALDATETIME))
+            .desc(DSL.field(DSL.name("id"), SQLDataType.INTEGER));
+
+    private final KeysetPagination pagination = new KeysetPagination("test-secret", 50);
+
+    @Test
+    void encodeDecode_RoundTripsTypedKey() {
+        // Arrange
+        Object[] key = { new BigDecimal("19.99"), 42 };
+
+        // Act
+        Object[] decoded = pagination.decode(PRICE_THEN_ID, pagination.encode(PRICE_THEN_ID, key));
+
+        // Assert
+        assertArrayEquals(key, decoded);
+    }
+
+    @Test
+    void encodeDecode_RoundTripsTimestamps() {
+        // Arrange
+        Object[] key = { LocalDateTime.of(2026, 1, 15, 10, 30), 7 };
+
+        // Act / Assert
+        assertArrayEquals(key, pagination.decode(RECENT, pagination.encode(RECENT, key)));
+    }
+
+    @Test
+    void decode_BlankCursor_MeansFirstPage() {
+        assertNull(pagination.decode(PRICE_THEN_ID, null));
+        assertNull(pagination.decode(PRICE_THEN_ID, " "));
+    }
+
+    @Test
+    void decode_TamperedCursor_Returns400() {
+        // Arrange
+        String cursor = pagination.encode(PRICE_THEN_ID, new Object[] { new BigDecimal("19.99"), 42 });
+        String forged = pagination.encode(PRICE_THEN_ID, new Object[] { new BigDecimal("0.01"), 1 });
+        String tampered = forged.substring(0, forged.indexOf('.')) + cursor.substring(cursor.indexOf('.'));
+
+        // Act / Assert
+        assertThrows(ResponseStatusException.class, () -> pagination.decode(PRICE_THEN_ID, tampered));
+        assertThrows(ResponseStatusException.class, () -> pagination.decode(PRICE_THEN_ID, "not-a-cursor"));
+    }
+
+    @Test
+    void decode_CursorFromOtherSortOrSecret_Returns400() {
+        // Arrange
+        String recentCursor = pagination.encode(RECENT, new Object[] { LocalDateTime.now(), 1 });
+        String otherSecret = new KeysetPagination("other-secret", 50)
+                .encode(PRICE_THEN_ID, new Object[] { BigDecimal.ONE, 1 });
+
+        // Act / Assert
+        assertThrows(ResponseStatusException.class, () -> pagination.decode(PRICE_THEN_ID, recentCursor));
+        assertThrows(ResponseStatusException.class, () -> pagination.decode(PRICE_THEN_ID, otherSecret));
+    }
+
+    @Test
+    void constructor_BlankSecret_Throws() {
+        // Act / Assert
+        assertThrows(IllegalStateException.class, () -> new KeysetPagination(" ", 50));
+    }
+
+    @Test
+    void pageSize_DefaultsAndCaps() {
+        assertEquals(10, pagination.pageSize(null, 10));
+        assertEquals(25, pagination.pageSize(25, 10));
+        assertEquals(50, pagination.pageSize(10_000, 10));
+        assertEquals(1, pagination.pageSize(0, 10));
+    }
+
+    @Test
+    void toPage_OnlyLastPageHasNoCursor() {
+        // Act
+        KeysetPage<String> last = pagination.toPage(new KeysetSlice<>(List.of("a"), null), PRICE_THEN_ID);
+        KeysetPage<String> more = pagination.toPage(
+                new KeysetSlice<>(List.of("a"), new Object[] { BigDecimal.TEN, 3 }), PRICE_THEN_ID);
+
+        // Assert
+        assertNull(last.getNextCursor());
+        assertArrayEquals(new Object[] { BigDecimal.TEN, 3 }, pagination.decode(PRICE_THEN_ID, more.getNextCursor()));
+    }
+}
@@ -0,0 +1,124 @@
+package com.bookstore.entity.cache;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.bookstore.entity.events.AuthorChangedEvent;
+import com.bookstore.entity.events.AuthorsReplayedEvent;
+import com.bookstore.entity.repository.AuthorRepository;
+import com.example.database.generated.tables.pojos.Author;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Versioned in-memory snapshot of the author table, keyset paged by author id.
+ * Default-size pages are serialized at most once per version; any committed author write, here or replayed from
+ * author_change_log by BookCatalogStore, bumps the version and the snapshot is reloaded on the next read.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class AuthorListingCache {
+
+    public static final int PAGE_SIZE = 10;
+
+    private final AuthorRepository authorRepository;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    // pages is keyed by the index of the page's first author
+    private record Snapshot(long version, List<Author> authors, int[] ids, ConcurrentMap<Integer, Page> pages) {
+    }
+
+    /**
+     * A serialized page plus the id of its last author, which is null when no authors follow.
+     */
+    public record Page(CachedJson json, Integer nextAfterId) {
+    }
+
+    /**
+     * Up to size authors with id greater than prevPageLastAuthorId.
+     */
+    public Page page(int prevPageLastAuthorId, int size) {
+        Snapshot current = current();
+        int from = start(current, prevPageLastAuthorId);
+        if (size != PAGE_SIZE || from % PAGE_SIZE != 0) {
+            // Only default-size pages starting on a page boundary are kept, at most one per PAGE_SIZE authors,
+            // so neither client-chosen sizes nor arbitrary ids can grow the cache
+            return serialize(current, from, size);
+        }
+        return current.pages().computeIfAbsent(from, start -> serialize(current, start, PAGE_SIZE));
+    }
+
+    /**
+     * Whether an author with this id exists, answered from the snapshot.
+     */
+    public boolean containsAuthor(int authorId) {
+        return Arrays.binarySearch(current().ids(), authorId) >= 0;
+    }
+
+    @Order(CatalogVersion.EVICT_ORDER)
+    @TransactionalEventListener
+    public void onAuthorChanged(AuthorChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    // Writes made through other instances, about a second later
+    @Order(CatalogVersion.EVICT_ORDER)
+    @EventListener
+    public void onAuthorsReplayed(AuthorsReplayedEvent event) {
+        version.incrementAndGet();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null && current.version() == version.get()) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            long wanted = version.get();
+            if (current == null || current.version() != wanted) {
+                List<Author> authors = authorRepository.findAll().stream()
+                        .sorted(Comparator.comparing(Author::getId))
+                        .toList();
+                int[] ids = authors.stream().mapToInt(Author::getId).toArray();
+                current = new Snapshot(wanted, authors, ids, new ConcurrentHashMap<>());
+                snapshot = current;
+                log.debug("Loaded author snapshot version {} with {} authors", wanted, authors.size());
+            }
+            return current;
+        }
+    }
+
+    // Index of the first author with id greater than the given one
+    private static int start(Snapshot current, int prevPageLastAuthorId) {
+        int index = Arrays.binarySearch(current.ids(), prevPageLastAuthorId);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    private Page serialize(Snapshot current, int from, int size) {
+        int to = Math.min(from + size, current.ids().length);
+        Integer nextAfterId = to < current.ids().length ? current.ids()[to - 1] : null;
+        try {
+            return new Page(CachedJson.of(objectMapper.writeValueAsBytes(current.authors().subList(from, to))),
+                    nextAfterId);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize author page", e);
+        }
+    }
+}
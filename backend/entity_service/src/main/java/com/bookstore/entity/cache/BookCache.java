@@ -0,0 +1,94 @@
+package com.bookstore.entity.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.bookstore.entity.events.AuthorChangedEvent;
+import com.bookstore.entity.events.BookChangedEvent;
+import com.bookstore.entity.events.BooksReplayedEvent;
+import com.bookstore.entity.events.BooksRepricedEvent;
+import com.example.database.generated.tables.pojos.BookAuthorVw;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Read-through cache for book detail (GET /book/{id}).
+ * Entries are dropped once a book or author write commits, or BookCatalogStore replays one made elsewhere; size and
+ * TTL bound anything else.
+ * Hit/miss/eviction counts are published as the cache.* metrics with tag cache=books.
+ */
+@Component
+public class BookCache implements MeterBinder {
+
+    private final Cache<Integer, BookAuthorVw> cache;
+
+    public BookCache(@Value("${bookstore.cache.books.maximum-size:10000}") long maximumSize,
+            @Value("${bookstore.cache.books.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Missing books are not cached, so a lookup for an id that does not exist yet always goes to the loader.
+     */
+    public Optional<BookAuthorVw> get(Integer id, Function<Integer, Optional<BookAuthorVw>> loader) {
+        return Optional.ofNullable(cache.get(id, key -> loader.apply(key).orElse(null)));
+    }
+
+    /**
+     * Cached books for the given ids; all misses are handed to the loader in one call.
+     * Ids the loader does not return are left out of the result.
+     */
+    public Map<Integer, BookAuthorVw> getAll(Collection<Integer> ids,
+            Function<Set<Integer>, Map<Integer, BookAuthorVw>> loader) {
+        return cache.getAll(ids, missing -> loader.apply(Set.copyOf(missing)));
+    }
+
+    @Order(CatalogVersion.EVICT_ORDER)
+    @TransactionalEventListener
+    public void onBookChanged(BookChangedEvent event) {
+        cache.invalidate(event.getBookId());
+    }
+
+    @Order(CatalogVersion.EVICT_ORDER)
+    @TransactionalEventListener
+    public void onBooksRepriced(BooksRepricedEvent event) {
+        cache.invalidateAll(event.getBookIds());
+    }
+
+    @Order(CatalogVersion.EVICT_ORDER)
+    @EventListener
+    public void onBooksReplayed(BooksReplayedEvent event) {
+        event.getBooks().forEach(book -> cache.invalidate(book.getId()));
+        cache.invalidateAll(event.getDeletedBookIds());
+    }
+
+    @Order(CatalogVersion.EVICT_ORDER)
+    @TransactionalEventListener
+    public void onAuthorChanged(AuthorChangedEvent event) {
+        // Author names are part of every cached book row
+        cache.asMap().values().removeIf(book -> event.getAuthorId().equals(book.getAuthorId()));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "books");
+    }
+}
@@ -0,0 +1,138 @@
+package com.bookstore.entity.cache;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import com.bookstore.entity.events.AuthorChangedEvent;
+import com.bookstore.entity.events.BookChangedEvent;
+import com.bookstore.entity.events.BooksImportedEvent;
+import com.bookstore.entity.events.BooksReplayedEvent;
+import com.bookstore.entity.events.BooksRepricedEvent;
+import com.bookstore.entity.models.BookField;
+import com.bookstore.entity.models.BookSort;
+import com.example.common.pagination.KeysetPage;
+import com.example.database.generated.tables.pojos.BookAuthorVw;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Ready-to-write JSON (and a gzip copy of larger bodies) for GET /book pages and GET /book/{id}, so hot responses
+ * skip both the lookup and Jackson.
+ *
+ * Entries are keyed by the catalog version as well as the request. A response built while a write is committing is
+ * filed under a version that is gone once the write commits, so it is never served afterwards; committed writes,
+ * and changes replayed from other instances, also clear everything to free the memory. Entries expire after
+ * bookstore.cache.responses.expire-after-write as a backstop. The cache is bounded by total body bytes, and
+ * Caffeine's frequency-based admission keeps the pages most visitors ask for. Hit/miss counts are published as the
+ * cache.* metrics with tag cache=book-responses.
+ */
+@Component
+public class BookResponseCache implements MeterBinder {
+
+    /**
+     * Everything a GET /book page depends on besides the catalog itself.
+     */
+    public record PageRequest(Integer prevPageLastBookId, BookSort sort, BigDecimal minPrice, BigDecimal maxPrice,
+            Integer size, String cursor, Set<BookField> fields) {
+    }
+
+    // request is a PageRequest or a book id
+    private record Key(long version, Object request) {
+    }
+
+    private final CatalogVersion catalogVersion;
+    private final ObjectMapper objectMapper;
+    private final Cache<Key, CachedPage> cache;
+
+    public BookResponseCache(CatalogVersion catalogVersion, ObjectMapper objectMapper,
+            @Value("${bookstore.cache.responses.maximum-bytes:64MB}") DataSize maximumBytes,
+            @Value("${bookstore.cache.responses.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.catalogVersion = catalogVersion;
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes.toBytes())
+                .weigher((Key key, CachedPage page) -> weight(page.json()))
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    public CachedPage page(PageRequest request, Supplier<KeysetPage<BookAuthorVw>> loader) {
+        return cache.get(new Key(catalogVersion.current().version(), request), key -> {
+            KeysetPage<BookAuthorVw> page = loader.get();
+            return new CachedPage(serialize(page.getItems()), page.getNextCursor());
+        });
+    }
+
+    /**
+     * Books that do not exist are not cached, so a lookup for an id that does not exist yet always goes to the loader.
+     */
+    public Optional<CachedJson> book(Integer id, Supplier<Optional<BookAuthorVw>> loader) {
+        CachedPage cached = cache.get(new Key(catalogVersion.current().version(), id),
+                key -> loader.get().map(book -> new CachedPage(serialize(book), null)).orElse(null));
+        return Optional.ofNullable(cached).map(CachedPage::json);
+    }
+
+    @Order(CatalogVersion.EVICT_ORDER)
+    @TransactionalEventListener
+    public void onBookChanged(BookChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    @Order(CatalogVersion.EVICT_ORDER)
+    @TransactionalEventListener
+    public void onBooksImported(BooksImportedEvent event) {
+        cache.invalidateAll();
+    }
+
+    @Order(CatalogVersion.EVICT_ORDER)
+    @TransactionalEventListener
+    public void onBooksRepriced(BooksRepricedEvent event) {
+        cache.invalidateAll();
+    }
+
+    @Order(CatalogVersion.EVICT_ORDER)
+    @EventListener
+    public void onBooksReplayed(BooksReplayedEvent event) {
+        cache.invalidateAll();
+    }
+
+    @Order(CatalogVersion.EVICT_ORDER)
+    @TransactionalEventListener
+    public void onAuthorChanged(AuthorChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "book-responses");
+    }
+
+    private CachedJson serialize(Object value) {
+        try {
+            return CachedJson.withGzip(objectMapper.writeValueAsBytes(value));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize book response", e);
+        }
+    }
+
+    private static int weight(CachedJson json) {
+        return json.body().length + (json.gzippedBody() == null ? 0 : json.gzippedBody().length);
+    }
+}
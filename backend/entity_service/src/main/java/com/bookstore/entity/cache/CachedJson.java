@@ -0,0 +1,45 @@
+package com.bookstore.entity.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.util.DigestUtils;
+
+/**
+ * A response body serialized once, with a strong ETag derived from its bytes.
+ * Content-based tags mean every pod hands out the same tag for the same body.
+ * gzippedBody is the same body gzip-compressed, or null when none was kept.
+ */
+public record CachedJson(byte[] body, byte[] gzippedBody, String etag) {
+
+    // Smaller bodies fit in a packet or two anyway, so compressing them saves nothing worth the memory
+    static final int MIN_GZIP_BYTES = 1024;
+
+    public static CachedJson of(byte[] body) {
+        return new CachedJson(body, null, etag(body));
+    }
+
+    /**
+     * Like of, but also keeps a gzip copy when the body is large enough to benefit.
+     */
+    public static CachedJson withGzip(byte[] body) {
+        return new CachedJson(body, body.length >= MIN_GZIP_BYTES ? gzip(body) : null, etag(body));
+    }
+
+    private static String etag(byte[] body) {
+        return "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            // Writing to memory does not fail
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
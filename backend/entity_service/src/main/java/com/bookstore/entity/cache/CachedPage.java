@@ -0,0 +1,7 @@
+package com.bookstore.entity.cache;
+
+/**
+ * A pre-serialized listing page and the cursor for the page after it (null on the last page).
+ */
+public record CachedPage(CachedJson json, String nextCursor) {
+}
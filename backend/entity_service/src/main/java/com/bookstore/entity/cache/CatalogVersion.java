@@ -0,0 +1,147 @@
+package com.bookstore.entity.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.bookstore.entity.events.AuthorChangedEvent;
+import com.bookstore.entity.events.BookChangedEvent;
+import com.bookstore.entity.events.BooksImportedEvent;
+import com.bookstore.entity.events.BooksRepricedEvent;
+import com.bookstore.entity.repository.BookChangeLogRepository;
+
+/**
+ * Version of the book catalog, used as a weak ETag / Last-Modified for book reads so clients can revalidate with
+ * a 304 before any lookup happens. The tag is weak because the same version is served both as is and gzipped, and
+ * a strong tag must differ between content codings.
+ *
+ * The tag is derived from book_change_log, which every instance shares: once the in-memory catalog has applied
+ * everything logged up to seq N, the tag is W/"catalog-N" on every instance that got there, so a client can
+ * revalidate against any of them. advance() moves it on as BookCatalogStore applies the log.
+ *
+ * Writes made through this instance show up in its catalog before the log is replayed, so every book or author write
+ * also bumps the version twice: before commit, so nothing read while the commit is in flight keeps the old tag, and
+ * after commit (behind the catalog, the indexes and the caches, see APPLY_ORDER and EVICT_ORDER), so nothing read
+ * from a not-yet-invalidated cache keeps the new one. Until the replayed log covers those writes the tag carries a
+ * per-instance part, since no other instance has the same content yet.
+ */
+@Component
+public class CatalogVersion {
+
+    /**
+     * After-commit order of the in-memory catalog and indexes, which apply a committed change first.
+     */
+    public static final int APPLY_ORDER = Ordered.HIGHEST_PRECEDENCE + 100;
+
+    /**
+     * After-commit order of the caches: cleared once the catalog and indexes have the change, so they cannot refill
+     * from the old state, and before the version moves on.
+     */
+    public static final int EVICT_ORDER = 0;
+
+    /**
+     * version only ever grows and changes whenever the content may have; it keys cached responses. etag and
+     * lastModified are what clients see.
+     */
+    public record Stamp(long version, String etag, long lastModified) {
+    }
+
+    private final BookChangeLogRepository bookChangeLogRepository;
+    private final String instance = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+
+    // Guarded by this. The seq the catalog has applied the log through (-1 until it is loaded), and the highest seq
+    // seen by a write through this instance
+    private long appliedSeq = -1;
+    private long writtenSeq;
+    private volatile Stamp current = new Stamp(0, etag(0), System.currentTimeMillis() / 1000 * 1000);
+
+    public CatalogVersion(BookChangeLogRepository bookChangeLogRepository) {
+        this.bookChangeLogRepository = bookChangeLogRepository;
+    }
+
+    public Stamp current() {
+        return current;
+    }
+
+    /**
+     * Called by BookCatalogStore once its catalog holds everything logged up to seq.
+     */
+    public synchronized void advance(long seq) {
+        if (seq > appliedSeq) {
+            appliedSeq = seq;
+            bump();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void beforeBookCommit(BookChangedEvent event) {
+        beforeCommit();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void beforeBooksImportedCommit(BooksImportedEvent event) {
+        beforeCommit();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void beforeBooksRepricedCommit(BooksRepricedEvent event) {
+        beforeCommit();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void beforeAuthorCommit(AuthorChangedEvent event) {
+        beforeCommit();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onBookChanged(BookChangedEvent event) {
+        bump();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onBooksImported(BooksImportedEvent event) {
+        bump();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onBooksRepriced(BooksRepricedEvent event) {
+        bump();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onAuthorChanged(AuthorChangedEvent event) {
+        bump();
+    }
+
+    private void beforeCommit() {
+        // Read inside the writing transaction, so it covers this write's own log entries
+        long seq = bookChangeLogRepository.findMaxSeq();
+        synchronized (this) {
+            writtenSeq = Math.max(writtenSeq, seq);
+            bump();
+        }
+    }
+
+    private synchronized void bump() {
+        // HTTP dates have second precision: truncate so If-Modified-Since can match, and never reuse a second,
+        // or a client that read just before a write in the same second would be told nothing changed
+        long now = System.currentTimeMillis() / 1000 * 1000;
+        long version = current.version() + 1;
+        current = new Stamp(version, etag(version), Math.max(now, current.lastModified() + 1000));
+    }
+
+    private String etag(long version) {
+        if (appliedSeq >= 0 && appliedSeq >= writtenSeq) {
+            return "W/\"catalog-" + appliedSeq + "\"";
+        }
+        return "W/\"catalog-" + appliedSeq + "-" + instance + "-" + version + "\"";
+    }
+}
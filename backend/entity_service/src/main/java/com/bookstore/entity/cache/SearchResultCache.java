@@ -0,0 +1,130 @@
+package com.bookstore.entity.cache;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.bookstore.entity.events.AuthorChangedEvent;
+import com.bookstore.entity.events.BookChangedEvent;
+import com.bookstore.entity.events.BooksImportedEvent;
+import com.bookstore.entity.events.BooksReplayedEvent;
+import com.bookstore.entity.events.BooksRepricedEvent;
+import com.bookstore.entity.models.BookField;
+import com.bookstore.entity.models.BookSearchResponse;
+import com.bookstore.entity.models.SearchMode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Result pages of GET /book/search, keyed by search mode, the normalized query (trimmed, whitespace collapsed,
+ * lower-cased), page, page size and requested fields, so "Harry  Potter" and "harry potter" share an entry.
+ *
+ * Concurrent misses on the same key wait for a single load rather than each running the search. Any committed
+ * book or author write, or one replayed from another instance, clears everything, since a change can move a book
+ * into or out of any result; size and TTL bound the rest. A fuzzy page that ran out of time before finishing is
+ * served but not kept, so a slow moment does not pin missing hits for the whole TTL. Hit/miss counts are published
+ * as the cache.* metrics with tag cache=search, and the hit ratio as bookstore.search.cache.hit.ratio.
+ */
+@Component
+public class SearchResultCache implements MeterBinder {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * A loaded page and whether it is complete enough to cache.
+     */
+    public record Loaded(BookSearchResponse response, boolean complete) {
+    }
+
+    private record Key(SearchMode mode, String query, int page, int size, Set<BookField> fields) {
+    }
+
+    private final Cache<Key, BookSearchResponse> cache;
+
+    public SearchResultCache(@Value("${bookstore.cache.search.maximum-size:10000}") long maximumSize,
+            @Value("${bookstore.cache.search.expire-after-write:30s}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    public BookSearchResponse get(SearchMode mode, String query, int page, int size, Set<BookField> fields,
+            Supplier<BookSearchResponse> loader) {
+        return cache.get(new Key(mode, normalize(query), page, size, fields), key -> loader.get());
+    }
+
+    /**
+     * Like get, but a page the loader reports as not complete is returned without being cached.
+     */
+    public BookSearchResponse getUnlessPartial(SearchMode mode, String query, int page, int size,
+            Set<BookField> fields, Supplier<Loaded> loader) {
+        Loaded[] partial = new Loaded[1];
+        BookSearchResponse response = cache.get(new Key(mode, normalize(query), page, size, fields), key -> {
+            Loaded loaded = loader.get();
+            if (loaded.complete()) {
+                return loaded.response();
+            }
+            // Returning null leaves the key absent
+            partial[0] = loaded;
+            return null;
+        });
+        return response != null ? response : partial[0].response();
+    }
+
+    @Order(CatalogVersion.EVICT_ORDER)
+    @TransactionalEventListener
+    public void onBookChanged(BookChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    @Order(CatalogVersion.EVICT_ORDER)
+    @TransactionalEventListener
+    public void onBooksImported(BooksImportedEvent event) {
+        cache.invalidateAll();
+    }
+
+    @Order(CatalogVersion.EVICT_ORDER)
+    @TransactionalEventListener
+    public void onBooksRepriced(BooksRepricedEvent event) {
+        cache.invalidateAll();
+    }
+
+    @Order(CatalogVersion.EVICT_ORDER)
+    @EventListener
+    public void onBooksReplayed(BooksReplayedEvent event) {
+        cache.invalidateAll();
+    }
+
+    @Order(CatalogVersion.EVICT_ORDER)
+    @TransactionalEventListener
+    public void onAuthorChanged(AuthorChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "search");
+        Gauge.builder("bookstore.search.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Share of book searches answered from the result cache")
+                .register(registry);
+    }
+
+    static String normalize(String query) {
+        return query == null ? "" : WHITESPACE.matcher(query.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
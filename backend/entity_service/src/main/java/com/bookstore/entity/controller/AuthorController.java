@@ -3,6 +3,7 @@ package com.bookstore.entity.controller;
 import java.util.List;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,12 +14,22 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.bookstore.entity.cache.CachedJson;
+import com.bookstore.entity.cache.CachedPage;
 import com.bookstore.entity.models.AuthorCreateRequest;
 import com.bookstore.entity.service.AuthorService;
 import com.example.common.controller.BaseController;
+import com.example.common.pagination.KeysetPagination;
+import com.example.database.generated.tables.pojos.BookAuthorVw;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 
@@ -28,13 +39,36 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AuthorController extends BaseController {
 
+    static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
     private final AuthorService authorService;
 
     @GetMapping
-    @Operation(summary = "Get all authors", description = "Retrieve a list of all authors")
-    public ResponseEntity<List<com.example.database.generated.tables.pojos.Author>> getAllAuthors() {
-        List<com.example.database.generated.tables.pojos.Author> authors = authorService.getAllAuthors();
-        return ResponseEntity.ok(authors);
+    @Operation(summary = "Get all authors", description = "Retrieve a page of authors ordered by id. "
+            + "Pass the X-Next-Cursor response header back as cursor to get the next page. "
+            + "Supports If-None-Match, unchanged pages return 304")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK", content = {
+                    @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = com.example.database.generated.tables.pojos.Author.class)))
+            }),
+            @ApiResponse(responseCode = "304", description = "Not Modified")
+    })
+    public ResponseEntity<byte[]> getAllAuthors(@RequestParam(required = false, defaultValue = "0") Integer prevPageLastAuthorId,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor,
+            WebRequest request) {
+        CachedPage page = authorService.getAuthorPage(prevPageLastAuthorId, size, cursor);
+        CachedJson json = page.json();
+        if (request.checkNotModified(json.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(json.etag()).build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(json.etag())
+                .contentType(MediaType.APPLICATION_JSON);
+        if (page.nextCursor() != null) {
+            response.header(KeysetPagination.NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(json.body());
     }
 
     @GetMapping("/{id}")
@@ -45,6 +79,24 @@ public class AuthorController extends BaseController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/{id}/books")
+    @Operation(summary = "Get an author's books", description = "Retrieve a page of the author's books ordered by id. "
+            + "Pass the X-Next-Cursor response header back as cursor to get the next page. "
+            + "With includeCount=true the X-Total-Count header carries how many books the author has")
+    public ResponseEntity<List<BookAuthorVw>> getBooksByAuthor(@PathVariable Integer id,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "false") boolean includeCount) {
+        ResponseEntity<List<BookAuthorVw>> page = keysetPage(authorService.getBooksByAuthor(id, size, cursor));
+        if (!includeCount) {
+            return page;
+        }
+        return ResponseEntity.ok()
+                .headers(page.getHeaders())
+                .header(TOTAL_COUNT_HEADER, Long.toString(authorService.countBooksByAuthor(id)))
+                .body(page.getBody());
+    }
+
     @PostMapping
     @Operation(summary = "Create a new author", description = "Add a new author to the database")
     public ResponseEntity<Void> createAuthor(@RequestBody AuthorCreateRequest author) {
@@ -73,9 +125,17 @@ public class AuthorController extends BaseController {
     }
 
     @GetMapping("/search")
-    @Operation(summary = "Search authors", description = "Search for authors by last name")
-    public ResponseEntity<List<com.example.database.generated.tables.pojos.Author>> searchAuthors(@RequestParam String lastName) {
-        List<com.example.database.generated.tables.pojos.Author> authors = authorService.searchAuthors(lastName);
-        return ResponseEntity.ok(authors);
+    @Operation(summary = "Search authors", description = "Search for authors whose last name contains lastName, "
+            + "or whose full name contains name, ignoring case and accents")
+    public ResponseEntity<List<com.example.database.generated.tables.pojos.Author>> searchAuthors(
+            @RequestParam(required = false) String lastName,
+            @RequestParam(required = false) String name) {
+        if (lastName != null) {
+            return ResponseEntity.ok(authorService.searchAuthors(lastName));
+        }
+        if (name != null) {
+            return ResponseEntity.ok(authorService.searchAuthorsByName(name));
+        }
+        return ResponseEntity.badRequest().build();
     }
 }
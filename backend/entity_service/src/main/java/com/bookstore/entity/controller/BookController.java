@@ -1,11 +1,21 @@
 package com.bookstore.entity.controller;
 
+import java.beans.PropertyEditorSupport;
+import java.io.IOException;
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Supplier;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -13,14 +23,42 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.bookstore.entity.cache.CachedJson;
+import com.bookstore.entity.cache.CachedPage;
+import com.bookstore.entity.cache.CatalogVersion;
+import com.bookstore.entity.models.BookBatchResponse;
+import com.bookstore.entity.models.BookChangesResponse;
 import com.bookstore.entity.models.BookCreateRequest;
+import com.bookstore.entity.models.BookFacets;
+import com.bookstore.entity.models.BookField;
+import com.bookstore.entity.models.BookImportResponse;
+import com.bookstore.entity.models.BookRepriceResponse;
+import com.bookstore.entity.models.BookSearchResponse;
+import com.bookstore.entity.models.BookSort;
+import com.bookstore.entity.models.BookSuggestion;
+import com.bookstore.entity.models.ExportFormat;
+import com.bookstore.entity.models.ImportFormat;
+import com.bookstore.entity.models.SearchMode;
+import com.bookstore.entity.service.BookChangeService;
+import com.bookstore.entity.service.BookExportService;
+import com.bookstore.entity.service.BookImportService;
+import com.bookstore.entity.service.BookRepriceService;
 import com.bookstore.entity.service.BookService;
 import com.example.common.controller.BaseController;
+import com.example.common.pagination.KeysetPagination;
 import com.example.database.generated.tables.pojos.BookAuthorVw;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -30,20 +68,102 @@ import lombok.RequiredArgsConstructor;
 public class BookController extends BaseController {
 
     private final BookService bookService;
+    private final BookExportService bookExportService;
+    private final BookImportService bookImportService;
+    private final BookRepriceService bookRepriceService;
+    private final BookChangeService bookChangeService;
+    private final CatalogVersion catalogVersion;
+
+    // Accept sort=price_asc as well as sort=PRICE_ASC
+    @InitBinder
+    void initBinder(WebDataBinder binder) {
+        binder.registerCustomEditor(BookSort.class, new PropertyEditorSupport() {
+            @Override
+            public void setAsText(String text) {
+                setValue(BookSort.valueOf(text.trim().toUpperCase(Locale.ROOT)));
+            }
+        });
+    }
 
     @GetMapping
-    @Operation(summary = "Get all books", description = "Retrieve a list of all books")
-    public ResponseEntity<List<BookAuthorVw>> getAllBooks(@RequestParam(required = false, defaultValue = "0") Integer prevPageLastBookId) {
-        List<BookAuthorVw> books = bookService.getAllBooks(prevPageLastBookId);
-        return ResponseEntity.ok(books);
+    @Operation(summary = "Get all books", description = "Retrieve a page of books in the given sort order, "
+            + "optionally within an inclusive minPrice / maxPrice range. Pass the X-Next-Cursor response header "
+            + "back as cursor (with the same sort and prices) to get the next page. "
+            + "fields=id,authorId,title,price,description,author limits what is read and returned, e.g. "
+            + "fields=id,title,price,author for browse tiles. "
+            + "Supports If-None-Match / If-Modified-Since against the catalog version, and Accept-Encoding: gzip")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK", content = {
+                    @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = BookAuthorVw.class)))
+            }),
+            @ApiResponse(responseCode = "304", description = "Not Modified")
+    })
+    public ResponseEntity<byte[]> getAllBooks(@RequestParam(required = false, defaultValue = "0") Integer prevPageLastBookId,
+            @RequestParam(required = false, defaultValue = "ID") BookSort sort,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
+        Set<BookField> bookFields = BookField.parse(fields);
+        return ifCatalogModified(request, () -> {
+            CachedPage page = bookService.getAllBooksJson(prevPageLastBookId, sort, minPrice, maxPrice, size, cursor,
+                    bookFields);
+            return json(page.json(), page.nextCursor(), request);
+        });
+    }
+
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get books by IDs", description = "Retrieve up to 250 books in one call, e.g. ?ids=3,1,2. "
+            + "Books come back in request order, unknown ids are listed in missingIds. Accepts fields like GET /book")
+    public ResponseEntity<BookBatchResponse> getBooksByIds(@RequestParam List<Integer> ids,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(bookService.getBooksByIds(ids, BookField.parse(fields)));
+    }
+
+    @GetMapping("/facets")
+    @Operation(summary = "Get browse facets", description = "Number of books per price band and per author, "
+            + "for filtering alongside the paged book listing")
+    public ResponseEntity<BookFacets> getFacets() {
+        return ResponseEntity.ok(bookService.getFacets());
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Get catalog changes", description = "Books created, updated or deleted after the given "
+            + "sequence number, oldest first. Start from since=0 and pass nextSince back to follow the feed")
+    public ResponseEntity<BookChangesResponse> getChanges(
+            @RequestParam(required = false, defaultValue = "0") Long since,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(bookChangeService.getChanges(since, size));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export the catalog", description = "Stream every book as NDJSON (default) or CSV, "
+            + "in id order, without paging")
+    public ResponseEntity<StreamingResponseBody> exportCatalog(
+            @RequestParam(required = false, defaultValue = "NDJSON") ExportFormat format) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"catalog." + format.getFileExtension() + "\"")
+                .body(out -> bookExportService.export(format, out));
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Get book by ID", description = "Retrieve a specific book by its ID")
-    public ResponseEntity<BookAuthorVw> getBookById(@PathVariable Integer id) {
-        return bookService.getBookById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    @Operation(summary = "Get book by ID", description = "Retrieve a specific book by its ID. "
+            + "Supports If-None-Match / If-Modified-Since against the catalog version, and Accept-Encoding: gzip")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK", content = {
+                    @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = BookAuthorVw.class))
+            }),
+            @ApiResponse(responseCode = "304", description = "Not Modified"),
+            @ApiResponse(responseCode = "404", description = "Not Found")
+    })
+    public ResponseEntity<byte[]> getBookById(@PathVariable Integer id, WebRequest request) {
+        return ifCatalogModified(request, () -> bookService.getBookJson(id)
+                .map(body -> json(body, null, request))
+                .orElse(ResponseEntity.notFound().build()));
     }
 
     @PostMapping
@@ -53,6 +173,35 @@ public class BookController extends BaseController {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Bulk import books (JSON)", description = "Import a JSON array of books in chunks of 1000. "
+            + "Invalid rows are skipped and reported per chunk")
+    public ResponseEntity<BookImportResponse> importBooksJson(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(bookImportService.importBooks(ImportFormat.JSON, request.getInputStream()));
+    }
+
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    @Operation(summary = "Bulk import books (CSV)", description = "Import CSV with a header naming author_id, title, "
+            + "price and description, in chunks of 1000. Invalid rows are skipped and reported per chunk")
+    public ResponseEntity<BookImportResponse> importBooksCsv(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(bookImportService.importBooks(ImportFormat.CSV, request.getInputStream()));
+    }
+
+    @PostMapping(value = "/prices", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Bulk reprice books (JSON)", description = "Apply a JSON array of {bookId, price} in chunks "
+            + "of 1000, each committed on its own. Invalid rows and unknown books are skipped and reported per chunk")
+    public ResponseEntity<BookRepriceResponse> repriceBooksJson(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(bookRepriceService.reprice(ImportFormat.JSON, request.getInputStream()));
+    }
+
+    @PostMapping(value = "/prices", consumes = "text/csv")
+    @Operation(summary = "Bulk reprice books (CSV)", description = "Apply CSV with a header naming book_id and price, "
+            + "in chunks of 1000, each committed on its own. Invalid rows and unknown books are skipped and reported "
+            + "per chunk")
+    public ResponseEntity<BookRepriceResponse> repriceBooksCsv(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(bookRepriceService.reprice(ImportFormat.CSV, request.getInputStream()));
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update a book", description = "Update an existing book's information")
     public ResponseEntity<Void> updateBook(@PathVariable Integer id, @RequestBody BookCreateRequest bookDetails) {
@@ -73,10 +222,108 @@ public class BookController extends BaseController {
         return ResponseEntity.notFound().build();
     }
 
+    @GetMapping("/suggest")
+    @Operation(summary = "Suggest completions", description = "Typeahead: up to 10 of the most popular book titles "
+            + "and author names containing a word that starts with q")
+    public ResponseEntity<List<BookSuggestion>> suggest(@RequestParam String q,
+            @RequestParam(required = false, defaultValue = "10") Integer limit) {
+        return ResponseEntity.ok(bookService.suggest(q, limit));
+    }
+
     @GetMapping("/search")
-    @Operation(summary = "Search books", description = "Search for books by title")
-    public ResponseEntity<List<BookAuthorVw>> searchBooks(@RequestParam String title) {
-        List<BookAuthorVw> books = bookService.searchBooks(title);
-        return ResponseEntity.ok(books);
+    @Operation(summary = "Search books", description = "Ranked, paginated search over book titles and author names. "
+            + "mode=FUZZY also matches terms misspelled by up to two edits, ranking exact matches first. "
+            + "mode=FULLTEXT uses MySQL relevance ranking and pages with the returned nextCursor instead of page. "
+            + "Accepts fields like GET /book. Supports If-None-Match / If-Modified-Since against the catalog version")
+    public ResponseEntity<BookSearchResponse> searchBooks(@RequestParam String title,
+            @RequestParam(required = false, defaultValue = "INDEX") SearchMode mode,
+            @RequestParam(required = false, defaultValue = "0") Integer page,
+            @RequestParam(required = false, defaultValue = "20") Integer size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
+        Set<BookField> bookFields = BookField.parse(fields);
+        return ifCatalogModified(request, () -> ResponseEntity.ok(switch (mode) {
+            case FULLTEXT -> bookService.searchBooksFullText(title, cursor, size, bookFields);
+            case FUZZY -> bookService.searchBooksFuzzy(title, page, size, bookFields);
+            case INDEX -> bookService.searchBooks(title, page, size, bookFields);
+        }));
+    }
+
+    /**
+     * A pre-serialized body written as is, gzipped when the client accepts it and a gzip copy was kept.
+     */
+    private static ResponseEntity<byte[]> json(CachedJson json, String nextCursor, WebRequest request) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (nextCursor != null) {
+            response.header(KeysetPagination.NEXT_CURSOR_HEADER, nextCursor);
+        }
+        if (json.gzippedBody() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(json.gzippedBody());
+        }
+        return response.body(json.body());
+    }
+
+    /**
+     * Whether an Accept-Encoding header allows gzip: listed (or covered by *) with a q-value above 0, so
+     * "gzip;q=0" refuses it. An explicit gzip entry wins over *.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double wildcard = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                return quality(parts) > 0;
+            }
+            if (name.equals("*")) {
+                wildcard = quality(parts);
+            }
+        }
+        return wildcard != null && wildcard > 0;
+    }
+
+    // The q parameter of one Accept-Encoding entry; 1 when absent, 0 when unreadable
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 2 && parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * 304 if the client already has this response at the current catalog version, otherwise the response tagged
+     * with it. The version is read before the response is built, so a write racing the read only ever makes the
+     * tag older than the body, never newer.
+     */
+    private <T> ResponseEntity<T> ifCatalogModified(WebRequest request, Supplier<ResponseEntity<T>> response) {
+        CatalogVersion.Stamp stamp = catalogVersion.current();
+        if (request.checkNotModified(stamp.etag(), stamp.lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(stamp.etag())
+                    .lastModified(stamp.lastModified())
+                    .build();
+        }
+        ResponseEntity<T> built = response.get();
+        if (!built.getStatusCode().is2xxSuccessful()) {
+            return built;
+        }
+        return ResponseEntity.status(built.getStatusCode())
+                .headers(built.getHeaders())
+                .eTag(stamp.etag())
+                .lastModified(stamp.lastModified())
+                .body(built.getBody());
     }
 }
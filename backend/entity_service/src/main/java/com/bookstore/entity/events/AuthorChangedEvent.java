@@ -0,0 +1,15 @@
+package com.bookstore.entity.events;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published by AuthorService whenever an author row is written.
+ * Author names are denormalised into book reads, so book caches care about these too.
+ */
+@Data
+@RequiredArgsConstructor
+public class AuthorChangedEvent {
+    private final Integer authorId;
+    private final ChangeType type;
+}
@@ -0,0 +1,20 @@
+package com.bookstore.entity.events;
+
+import java.util.List;
+
+import com.example.database.generated.tables.pojos.Author;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published by BookCatalogStore after it replayed author_change_log entries, which may have been written through
+ * another instance and so never raised an AuthorChangedEvent here. Carries the authors just re-read; ids that no
+ * longer exist are in deletedAuthorIds. Not transactional: use @EventListener.
+ */
+@Data
+@RequiredArgsConstructor
+public class AuthorsReplayedEvent {
+    private final List<Author> authors;
+    private final List<Integer> deletedAuthorIds;
+}
@@ -0,0 +1,15 @@
+package com.bookstore.entity.events;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published by BookService whenever a book row is written.
+ * Listeners use @TransactionalEventListener so they only see committed changes.
+ */
+@Data
+@RequiredArgsConstructor
+public class BookChangedEvent {
+    private final Integer bookId;
+    private final ChangeType type;
+}
@@ -0,0 +1,16 @@
+package com.bookstore.entity.events;
+
+import java.util.List;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published once per committed bulk import chunk instead of one BookChangedEvent per book,
+ * so listeners can load the new books in a single query.
+ */
+@Data
+@RequiredArgsConstructor
+public class BooksImportedEvent {
+    private final List<Integer> bookIds;
+}
@@ -0,0 +1,20 @@
+package com.bookstore.entity.events;
+
+import java.util.List;
+
+import com.example.database.generated.tables.pojos.BookAuthorVw;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published by BookCatalogStore after it replayed book_change_log entries, which may have been written through
+ * another instance and so never raised an event here. Carries the rows the store has just re-read, so listeners need
+ * no query of their own; ids that no longer exist are in deletedBookIds. Not transactional: use @EventListener.
+ */
+@Data
+@RequiredArgsConstructor
+public class BooksReplayedEvent {
+    private final List<BookAuthorVw> books;
+    private final List<Integer> deletedBookIds;
+}
@@ -0,0 +1,16 @@
+package com.bookstore.entity.events;
+
+import java.util.List;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published once per committed bulk repricing chunk instead of one BookChangedEvent per book,
+ * so listeners can reload the changed books in a single query. Only prices changed.
+ */
+@Data
+@RequiredArgsConstructor
+public class BooksRepricedEvent {
+    private final List<Integer> bookIds;
+}
@@ -0,0 +1,7 @@
+package com.bookstore.entity.events;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,16 @@
+package com.bookstore.entity.models;
+
+import java.util.List;
+
+import com.example.database.generated.tables.pojos.BookAuthorVw;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+@Data
+@RequiredArgsConstructor
+public class BookBatchResponse {
+    // In the order the ids were requested, duplicates removed
+    private final List<BookAuthorVw> books;
+    private final List<Integer> missingIds;
+}
@@ -0,0 +1,19 @@
+package com.bookstore.entity.models;
+
+import java.util.List;
+
+import com.example.database.generated.tables.pojos.BookChangeLog;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+@Data
+@RequiredArgsConstructor
+public class BookChangesResponse {
+    // Oldest first; changeType is CREATED, UPDATED or DELETED
+    private final List<BookChangeLog> changes;
+    // Pass back as ?since= for the next page; unchanged when there was nothing new
+    private final long nextSince;
+    // True when more changes are already waiting, so the client can ask again without pausing
+    private final boolean hasMore;
+}
@@ -0,0 +1,26 @@
+package com.bookstore.entity.models;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+@Data
+@RequiredArgsConstructor
+public class BookFacets {
+
+    @Data
+    @RequiredArgsConstructor
+    public static class AuthorCount {
+        private final Integer authorId;
+        private final String name;
+        private final long count;
+    }
+
+    private final long total;
+    // Every band, in price order, including empty ones
+    private final Map<PriceBand, Long> priceBands;
+    // Authors with at least one book, most books first
+    private final List<AuthorCount> authors;
+}
@@ -0,0 +1,82 @@
+package com.bookstore.entity.models;
+
+import static com.example.database.generated.tables.BookCatalog.BOOK_CATALOG;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.jooq.Field;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.example.database.generated.tables.pojos.BookAuthorVw;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Sparse fieldsets for the book listings, e.g. ?fields=id,title,price,author. Fields left out are not selected from
+ * book_catalog and come back null, which the JSON output omits. The id is always included.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BookField {
+    ID("id", List.of(BOOK_CATALOG.ID)),
+    AUTHOR_ID("authorId", List.of(BOOK_CATALOG.AUTHOR_ID)),
+    TITLE("title", List.of(BOOK_CATALOG.TITLE)),
+    PRICE("price", List.of(BOOK_CATALOG.PRICE)),
+    DESCRIPTION("description", List.of(BOOK_CATALOG.DESCRIPTION)),
+    // firstName and lastName
+    AUTHOR("author", List.of(BOOK_CATALOG.FIRST_NAME, BOOK_CATALOG.LAST_NAME));
+
+    public static final Set<BookField> ALL = Collections.unmodifiableSet(EnumSet.allOf(BookField.class));
+
+    private final String paramName;
+    private final List<Field<?>> columns;
+
+    /**
+     * The fields named in a comma-separated ?fields= value, names matched case-insensitively. Null or blank means
+     * every field.
+     */
+    public static Set<BookField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<BookField> parsed = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.strip();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            parsed.add(Arrays.stream(values())
+                    .filter(field -> field.paramName.equalsIgnoreCase(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                            "Unknown field '" + trimmed + "', expected any of " + Arrays.stream(values())
+                                    .map(BookField::getParamName)
+                                    .collect(Collectors.joining(",")))));
+        }
+        return parsed;
+    }
+
+    /**
+     * The book with every field outside the set cleared; the same instance when nothing is left out.
+     */
+    public static BookAuthorVw project(BookAuthorVw book, Set<BookField> fields) {
+        if (fields.size() == values().length) {
+            return book;
+        }
+        boolean author = fields.contains(AUTHOR);
+        return new BookAuthorVw(book.getId(),
+                fields.contains(AUTHOR_ID) ? book.getAuthorId() : null,
+                fields.contains(TITLE) ? book.getTitle() : null,
+                fields.contains(PRICE) ? book.getPrice() : null,
+                fields.contains(DESCRIPTION) ? book.getDescription() : null,
+                author ? book.getFirstName() : null,
+                author ? book.getLastName() : null);
+    }
+}
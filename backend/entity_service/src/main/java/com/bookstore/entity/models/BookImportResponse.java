@@ -0,0 +1,38 @@
+package com.bookstore.entity.models;
+
+import java.util.List;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+@Data
+@RequiredArgsConstructor
+public class BookImportResponse {
+
+    @Data
+    @RequiredArgsConstructor
+    public static class RowError {
+        // 1-based position in the upload, not counting a CSV header
+        private final long row;
+        private final String reason;
+    }
+
+    @Data
+    @RequiredArgsConstructor
+    public static class Chunk {
+        private final int index;
+        private final long firstRow;
+        private final int rows;
+        private final int inserted;
+        // Rows that failed validation; the rest of the chunk is still inserted
+        private final List<RowError> errors;
+        // Set when the whole chunk was rolled back
+        private final String failure;
+    }
+
+    private final long rows;
+    private final long inserted;
+    private final List<Chunk> chunks;
+    // Set when the upload could not be read to the end; chunks before it are committed
+    private final String failure;
+}
@@ -0,0 +1,13 @@
+package com.bookstore.entity.models;
+
+import java.math.BigDecimal;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+@Data
+@RequiredArgsConstructor
+public class BookPriceChange {
+    private final Integer bookId;
+    private final BigDecimal price;
+}
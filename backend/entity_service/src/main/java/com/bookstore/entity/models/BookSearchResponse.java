@@ -0,0 +1,21 @@
+package com.bookstore.entity.models;
+
+import java.util.List;
+
+import com.example.database.generated.tables.pojos.BookAuthorVw;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+@Data
+@RequiredArgsConstructor
+public class BookSearchResponse {
+    private final List<BookAuthorVw> books;
+    // Null in FULLTEXT mode, which pages by cursor instead
+    private final Integer page;
+    private final int size;
+    // Null when the total is unknown (search index still building, or FULLTEXT mode)
+    private final Integer totalMatches;
+    // Pass back as ?cursor= for the next FULLTEXT page, null on the last page
+    private final String nextCursor;
+}
@@ -0,0 +1,33 @@
+package com.bookstore.entity.models;
+
+import static com.example.database.generated.tables.BookCatalog.BOOK_CATALOG;
+
+import com.example.common.pagination.KeysetSort;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Sort orders for GET /book. Every order ends with the book id so each row has a unique keyset position.
+ * The price orders are served by idx_book_catalog_price_id (price, id), so they need no filesort.
+ * Titles sort by code point (utf8mb4_0900_bin) rather than the column's accent- and case-insensitive collation,
+ * which ColumnarCatalog could only approximate: both must put rows in exactly the same order, or a cursor issued by
+ * one would skip or repeat rows when the next page comes from the other.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BookSort {
+    ID(KeysetSort.named("id")
+            .asc(BOOK_CATALOG.ID)),
+    PRICE_ASC(KeysetSort.named("price_asc")
+            .asc(BOOK_CATALOG.PRICE)
+            .asc(BOOK_CATALOG.ID)),
+    PRICE_DESC(KeysetSort.named("price_desc")
+            .desc(BOOK_CATALOG.PRICE)
+            .asc(BOOK_CATALOG.ID)),
+    TITLE(KeysetSort.named("title")
+            .asc(BOOK_CATALOG.TITLE, "", "utf8mb4_0900_bin")
+            .asc(BOOK_CATALOG.ID));
+
+    private final KeysetSort keyset;
+}
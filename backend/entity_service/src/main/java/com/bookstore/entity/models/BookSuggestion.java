@@ -0,0 +1,18 @@
+package com.bookstore.entity.models;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+@Data
+@RequiredArgsConstructor
+public class BookSuggestion {
+
+    public enum Type {
+        TITLE,
+        AUTHOR
+    }
+
+    // Completion as it should be shown, e.g. "The Secret Garden" or "Emily Hernandez"
+    private final String text;
+    private final Type type;
+}
@@ -0,0 +1,16 @@
+package com.bookstore.entity.models;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    // One JSON object per line
+    NDJSON("application/x-ndjson", "ndjson"),
+    // RFC 4180, with a header row
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String fileExtension;
+}
@@ -0,0 +1,9 @@
+package com.bookstore.entity.models;
+
+public enum ImportFormat {
+    // A JSON array of BookCreateRequest objects (BookPriceChange for repricing)
+    JSON,
+    // A header row naming author_id, title, price and description (book_id and price for repricing; other columns
+    // are ignored), then one book per row
+    CSV
+}
@@ -0,0 +1,35 @@
+package com.bookstore.entity.models;
+
+import java.math.BigDecimal;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Price ranges used for faceted browse. Bounds are [min, max); a null bound is open.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PriceBand {
+    UNDER_10(null, new BigDecimal("10")),
+    FROM_10_TO_20(new BigDecimal("10"), new BigDecimal("20")),
+    FROM_20_TO_30(new BigDecimal("20"), new BigDecimal("30")),
+    FROM_30_TO_50(new BigDecimal("30"), new BigDecimal("50")),
+    FROM_50(new BigDecimal("50"), null);
+
+    private final BigDecimal min;
+    private final BigDecimal max;
+
+    // Books without a price are counted in the lowest band
+    public static PriceBand of(BigDecimal price) {
+        if (price == null) {
+            return UNDER_10;
+        }
+        for (PriceBand band : values()) {
+            if (band.max == null || price.compareTo(band.max) < 0) {
+                return band;
+            }
+        }
+        return FROM_50;
+    }
+}
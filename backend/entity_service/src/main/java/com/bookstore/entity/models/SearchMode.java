@@ -0,0 +1,10 @@
+package com.bookstore.entity.models;
+
+public enum SearchMode {
+    // In-memory inverted index, page/size paging
+    INDEX,
+    // In-memory inverted index, terms may be misspelled by up to two edits, page/size paging
+    FUZZY,
+    // MySQL MATCH ... AGAINST relevance, (score, id) cursor paging
+    FULLTEXT
+}
@@ -0,0 +1,51 @@
+package com.bookstore.entity.repository;
+
+import static com.example.database.generated.tables.AuthorChangeLog.AUTHOR_CHANGE_LOG;
+
+import java.util.List;
+
+import org.jooq.DSLContext;
+import org.springframework.stereotype.Repository;
+
+import com.bookstore.entity.events.ChangeType;
+import com.example.database.generated.tables.pojos.AuthorChangeLog;
+import com.example.database.generated.tables.records.AuthorChangeLogRecord;
+
+/**
+ * Appends to author_change_log, the ordered feed of author changes every instance replays into its author caches.
+ * Called from AuthorRepository right after it writes the author table, so a change and its log row commit or roll
+ * back together.
+ */
+@Repository
+public class AuthorChangeLogRepository {
+
+    private final DSLContext dsl;
+    private final ChangeLogReader<AuthorChangeLogRecord, AuthorChangeLog> reader;
+
+    public AuthorChangeLogRepository(DSLContext dsl) {
+        this.dsl = dsl;
+        this.reader = new ChangeLogReader<>(dsl, AUTHOR_CHANGE_LOG, AUTHOR_CHANGE_LOG.SEQ,
+                AUTHOR_CHANGE_LOG.CHANGED_AT, AuthorChangeLog.class);
+    }
+
+    public void append(Integer authorId, ChangeType type) {
+        dsl.insertInto(AUTHOR_CHANGE_LOG, AUTHOR_CHANGE_LOG.AUTHOR_ID, AUTHOR_CHANGE_LOG.CHANGE_TYPE)
+                .values(authorId, type.name())
+                .execute();
+    }
+
+    /**
+     * Up to limit entries after the given seq, oldest first, stopping at a gap until it is gapTimeoutSeconds old;
+     * see ChangeLogReader.
+     */
+    public List<AuthorChangeLog> findSince(long since, int gapTimeoutSeconds, int limit) {
+        return reader.findSince(since, gapTimeoutSeconds, limit);
+    }
+
+    /**
+     * The highest seq at least gapTimeoutSeconds old, or 0 for an empty log.
+     */
+    public long findSettledSeq(int gapTimeoutSeconds) {
+        return reader.findSettledSeq(gapTimeoutSeconds);
+    }
+}
@@ -1,11 +1,15 @@
 package com.bookstore.entity.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
 import org.springframework.stereotype.Repository;
 
+import com.bookstore.entity.events.ChangeType;
 import com.bookstore.entity.models.AuthorCreateRequest;
 import com.example.database.generated.tables.Author;
 
@@ -16,6 +20,9 @@ import lombok.RequiredArgsConstructor;
 public class AuthorRepository {
 
     private final DSLContext dsl;
+    private final BookCatalogRepository bookCatalogRepository;
+    private final BookChangeLogRepository bookChangeLogRepository;
+    private final AuthorChangeLogRepository authorChangeLogRepository;
 
     public List<com.example.database.generated.tables.pojos.Author> findAll() {
         return dsl.selectFrom(Author.AUTHOR)
@@ -23,16 +30,39 @@ public class AuthorRepository {
     }
 
     public Optional<com.example.database.generated.tables.pojos.Author> findById(Integer id) {
-        return Optional.ofNullable(
-                dsl.selectFrom(Author.AUTHOR)
-                        .where(Author.AUTHOR.ID.eq(id))
-                        .fetchOne().into(com.example.database.generated.tables.pojos.Author.class));
+        return dsl.selectFrom(Author.AUTHOR)
+                .where(Author.AUTHOR.ID.eq(id))
+                .fetchOptionalInto(com.example.database.generated.tables.pojos.Author.class);
+    }
+
+    public boolean existsById(Integer id) {
+        return dsl.fetchExists(Author.AUTHOR, Author.AUTHOR.ID.eq(id));
     }
 
-    public void save(AuthorCreateRequest author) {
-        dsl.insertInto(Author.AUTHOR)
+    /**
+     * Which of the given ids belong to an existing author, in one IN query.
+     */
+    public Set<Integer> findExistingIds(Collection<Integer> ids) {
+        return dsl.select(Author.AUTHOR.ID)
+                .from(Author.AUTHOR)
+                .where(Author.AUTHOR.ID.in(ids))
+                .fetchSet(Author.AUTHOR.ID);
+    }
+
+    public List<com.example.database.generated.tables.pojos.Author> findAllById(Collection<Integer> ids) {
+        return dsl.selectFrom(Author.AUTHOR)
+                .where(Author.AUTHOR.ID.in(ids))
+                .fetch().into(com.example.database.generated.tables.pojos.Author.class);
+    }
+
+    public Integer save(AuthorCreateRequest author) {
+        Integer id = dsl.insertInto(Author.AUTHOR)
                 .set(dsl.newRecord(Author.AUTHOR, author))
-                .execute();
+                .returningResult(Author.AUTHOR.ID)
+                .fetchOne()
+                .value1();
+        authorChangeLogRepository.append(id, ChangeType.CREATED);
+        return id;
     }
 
     public void update(com.example.database.generated.tables.pojos.Author existing, AuthorCreateRequest authorCreateRequest) {
@@ -41,12 +71,17 @@ public class AuthorRepository {
                 .set(Author.AUTHOR.LAST_NAME, authorCreateRequest.getLastName())
                 .where(Author.AUTHOR.ID.eq(existing.getId()))
                 .execute();
+        bookCatalogRepository.renameAuthor(existing.getId(), authorCreateRequest.getFirstName(),
+                authorCreateRequest.getLastName());
+        bookChangeLogRepository.appendForAuthor(existing.getId());
+        authorChangeLogRepository.append(existing.getId(), ChangeType.UPDATED);
     }
 
     public void deleteById(Integer id) {
         dsl.deleteFrom(Author.AUTHOR)
                 .where(Author.AUTHOR.ID.eq(id))
                 .execute();
+        authorChangeLogRepository.append(id, ChangeType.DELETED);
     }
 
     public List<com.example.database.generated.tables.pojos.Author> findByLastNameContaining(String lastName) {
@@ -54,4 +89,13 @@ public class AuthorRepository {
                 .where(Author.AUTHOR.LAST_NAME.containsIgnoreCase(lastName))
                 .fetch().into(com.example.database.generated.tables.pojos.Author.class);
     }
+
+    // Only used while the in-memory author search index is still being built
+    public List<com.example.database.generated.tables.pojos.Author> findByNameContaining(String name) {
+        return dsl.selectFrom(Author.AUTHOR)
+                .where(DSL.concat(DSL.coalesce(Author.AUTHOR.FIRST_NAME, ""), DSL.inline(" "),
+                        DSL.coalesce(Author.AUTHOR.LAST_NAME, "")).containsIgnoreCase(name))
+                .orderBy(Author.AUTHOR.ID)
+                .fetch().into(com.example.database.generated.tables.pojos.Author.class);
+    }
 }
@@ -0,0 +1,85 @@
+package com.bookstore.entity.repository;
+
+import static com.example.database.generated.tables.Author.AUTHOR;
+import static com.example.database.generated.tables.Book.BOOK;
+import static com.example.database.generated.tables.BookCatalog.BOOK_CATALOG;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Writes to book_catalog, the denormalized copy of book joined to author that all catalog reads use.
+ * Called from BookRepository and AuthorRepository right after they write the base tables, so both land in the
+ * same transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookCatalogRepository {
+
+    private final DSLContext dsl;
+
+    /**
+     * Copies a book and its author's name into the catalog, inserting or overwriting its row.
+     */
+    public void refresh(Integer bookId) {
+        upsertFromBaseTables(BOOK.ID.eq(bookId));
+    }
+
+    public void refreshAll(Collection<Integer> bookIds) {
+        if (!bookIds.isEmpty()) {
+            upsertFromBaseTables(BOOK.ID.in(bookIds));
+        }
+    }
+
+    public void delete(Integer bookId) {
+        dsl.deleteFrom(BOOK_CATALOG)
+                .where(BOOK_CATALOG.ID.eq(bookId))
+                .execute();
+    }
+
+    public void renameAuthor(Integer authorId, String firstName, String lastName) {
+        dsl.update(BOOK_CATALOG)
+                .set(BOOK_CATALOG.FIRST_NAME, firstName)
+                .set(BOOK_CATALOG.LAST_NAME, lastName)
+                .where(BOOK_CATALOG.AUTHOR_ID.eq(authorId))
+                .execute();
+    }
+
+    /**
+     * Rebuilds every catalog row from book and author and drops rows whose book is gone.
+     * Repairs drift from writes that bypass entity_service (e.g. Liquibase data loads); returns rows affected.
+     */
+    public int backfill() {
+        int upserted = upsertFromBaseTables(DSL.noCondition());
+        int deleted = dsl.deleteFrom(BOOK_CATALOG)
+                .where(BOOK_CATALOG.ID.notIn(dsl.select(BOOK.ID).from(BOOK)))
+                .execute();
+        return upserted + deleted;
+    }
+
+    // book_catalog.price is NOT NULL so price pages can be read straight off its (price, id) index
+    private int upsertFromBaseTables(Condition condition) {
+        return dsl.insertInto(BOOK_CATALOG, BOOK_CATALOG.ID, BOOK_CATALOG.AUTHOR_ID, BOOK_CATALOG.TITLE,
+                        BOOK_CATALOG.PRICE, BOOK_CATALOG.DESCRIPTION, BOOK_CATALOG.FIRST_NAME, BOOK_CATALOG.LAST_NAME)
+                .select(dsl.select(BOOK.ID, BOOK.AUTHOR_ID, BOOK.TITLE, DSL.coalesce(BOOK.PRICE, BigDecimal.ZERO),
+                                BOOK.DESCRIPTION, AUTHOR.FIRST_NAME, AUTHOR.LAST_NAME)
+                        .from(BOOK)
+                        .join(AUTHOR).on(BOOK.AUTHOR_ID.eq(AUTHOR.ID))
+                        .where(condition))
+                .onDuplicateKeyUpdate()
+                .set(BOOK_CATALOG.AUTHOR_ID, DSL.excluded(BOOK_CATALOG.AUTHOR_ID))
+                .set(BOOK_CATALOG.TITLE, DSL.excluded(BOOK_CATALOG.TITLE))
+                .set(BOOK_CATALOG.PRICE, DSL.excluded(BOOK_CATALOG.PRICE))
+                .set(BOOK_CATALOG.DESCRIPTION, DSL.excluded(BOOK_CATALOG.DESCRIPTION))
+                .set(BOOK_CATALOG.FIRST_NAME, DSL.excluded(BOOK_CATALOG.FIRST_NAME))
+                .set(BOOK_CATALOG.LAST_NAME, DSL.excluded(BOOK_CATALOG.LAST_NAME))
+                .execute();
+    }
+}
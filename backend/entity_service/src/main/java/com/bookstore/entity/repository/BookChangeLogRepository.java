@@ -0,0 +1,85 @@
+package com.bookstore.entity.repository;
+
+import static com.example.database.generated.tables.Book.BOOK;
+import static com.example.database.generated.tables.BookChangeLog.BOOK_CHANGE_LOG;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.jooq.DSLContext;
+import org.springframework.stereotype.Repository;
+
+import com.bookstore.entity.events.ChangeType;
+import com.example.database.generated.tables.pojos.BookChangeLog;
+import com.example.database.generated.tables.records.BookChangeLogRecord;
+
+/**
+ * Appends to book_change_log, the ordered feed of book changes behind GET /book/changes.
+ * Like BookCatalogRepository, called from BookRepository and AuthorRepository right after they write the base
+ * tables, so a change and its log row commit or roll back together.
+ */
+@Repository
+public class BookChangeLogRepository {
+
+    private final DSLContext dsl;
+    private final ChangeLogReader<BookChangeLogRecord, BookChangeLog> reader;
+
+    public BookChangeLogRepository(DSLContext dsl) {
+        this.dsl = dsl;
+        this.reader = new ChangeLogReader<>(dsl, BOOK_CHANGE_LOG, BOOK_CHANGE_LOG.SEQ, BOOK_CHANGE_LOG.CHANGED_AT,
+                BookChangeLog.class);
+    }
+
+    public void append(Integer bookId, ChangeType type) {
+        dsl.insertInto(BOOK_CHANGE_LOG, BOOK_CHANGE_LOG.BOOK_ID, BOOK_CHANGE_LOG.CHANGE_TYPE)
+                .values(bookId, type.name())
+                .execute();
+    }
+
+    public void appendAll(Collection<Integer> bookIds, ChangeType type) {
+        if (bookIds.isEmpty()) {
+            return;
+        }
+        var insert = dsl.insertInto(BOOK_CHANGE_LOG, BOOK_CHANGE_LOG.BOOK_ID, BOOK_CHANGE_LOG.CHANGE_TYPE);
+        for (Integer bookId : bookIds) {
+            insert = insert.values(bookId, type.name());
+        }
+        insert.execute();
+    }
+
+    /**
+     * Logs an update for every book by the author, e.g. after a rename changed the name shown on each of them.
+     * The ids are read first and logged with a plain multi-row insert: INSERT ... SELECT reserves seqs in blocks and
+     * leaves the unused ones as gaps, which findSince would then wait out.
+     */
+    public void appendForAuthor(Integer authorId) {
+        appendAll(dsl.select(BOOK.ID)
+                .from(BOOK)
+                .where(BOOK.AUTHOR_ID.eq(authorId))
+                .orderBy(BOOK.ID)
+                .fetch(BOOK.ID), ChangeType.UPDATED);
+    }
+
+    /**
+     * Up to limit entries after the given seq, oldest first, stopping at a gap until it is gapTimeoutSeconds old;
+     * see ChangeLogReader.
+     */
+    public List<BookChangeLog> findSince(long since, int gapTimeoutSeconds, int limit) {
+        return reader.findSince(since, gapTimeoutSeconds, limit);
+    }
+
+    /**
+     * The highest seq at least gapTimeoutSeconds old, or 0 for an empty log: a position findSince can later resume
+     * from without skipping writes that were still committing when it was taken. Entries after it may be read again.
+     */
+    public long findSettledSeq(int gapTimeoutSeconds) {
+        return reader.findSettledSeq(gapTimeoutSeconds);
+    }
+
+    /**
+     * The highest seq this transaction can see, including its own uncommitted entries, or 0 for an empty log.
+     */
+    public long findMaxSeq() {
+        return reader.findMaxSeq();
+    }
+}
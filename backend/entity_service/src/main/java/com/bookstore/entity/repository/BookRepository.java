@@ -1,16 +1,42 @@
 package com.bookstore.entity.repository;
 
+import static com.example.database.generated.tables.Author.AUTHOR;
 import static com.example.database.generated.tables.Book.BOOK;
-import static com.example.database.generated.tables.BookAuthorVw.BOOK_AUTHOR_VW;
+import static com.example.database.generated.tables.BookCatalog.BOOK_CATALOG;
+import static com.example.database.generated.tables.BookOrders.BOOK_ORDERS;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
+import org.jooq.BatchBindStep;
+import org.jooq.Condition;
+import org.jooq.Cursor;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Record1;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
 import org.springframework.stereotype.Repository;
 
+import com.bookstore.entity.events.ChangeType;
 import com.bookstore.entity.models.BookCreateRequest;
+import com.bookstore.entity.models.BookField;
+import com.bookstore.entity.models.BookPriceChange;
+import com.bookstore.entity.models.BookSort;
+import com.bookstore.entity.search.FullTextCursor;
+import com.example.common.pagination.KeysetSlice;
+import com.example.common.pagination.KeysetSort;
 import com.example.database.generated.tables.pojos.BookAuthorVw;
+import com.example.database.generated.tables.records.BookCatalogRecord;
 
 import lombok.RequiredArgsConstructor;
 
@@ -19,54 +45,279 @@ import lombok.RequiredArgsConstructor;
 public class BookRepository {
 
     private final DSLContext dsl;
+    private final BookCatalogRepository bookCatalogRepository;
+    private final BookChangeLogRepository bookChangeLogRepository;
 
-    public List<BookAuthorVw> findAll(Integer prevPageLastBookId) {
-        var query = dsl.selectFrom(BOOK_AUTHOR_VW);
-        
-        if (prevPageLastBookId != null && prevPageLastBookId > 0) {
-            return query.where(BOOK_AUTHOR_VW.ID.greaterThan(prevPageLastBookId))
-                    .limit(10)
-                    .fetch()
-                    .into(BookAuthorVw.class);
+    // An author's books in id order: with author_id fixed, a range scan of idx_book_catalog_author_id (author_id, id)
+    public static final KeysetSort AUTHOR_BOOKS_ORDER = KeysetSort.named("author_books").asc(BOOK_CATALOG.ID);
+
+    public record ScoredBook(BookAuthorVw book, double score) {
+    }
+
+    public KeysetSlice<BookAuthorVw> findPage(BookSort sort, BigDecimal minPrice, BigDecimal maxPrice, Object[] after,
+            int limit) {
+        return findPage(sort, minPrice, maxPrice, after, limit, BookField.ALL);
+    }
+
+    /**
+     * One page of the catalog in the given order, starting strictly after the given key (null for the first page).
+     * minPrice and maxPrice are inclusive bounds, either may be null. Only the columns behind the given fields
+     * (plus the sort key) are selected; the rest come back null.
+     */
+    public KeysetSlice<BookAuthorVw> findPage(BookSort sort, BigDecimal minPrice, BigDecimal maxPrice, Object[] after,
+            int limit, Set<BookField> fields) {
+        Condition condition = DSL.noCondition();
+        if (minPrice != null) {
+            condition = condition.and(BOOK_CATALOG.PRICE.ge(minPrice));
+        }
+        if (maxPrice != null) {
+            condition = condition.and(BOOK_CATALOG.PRICE.le(maxPrice));
         }
-        
-        return query.limit(10)
-                .fetch()
-                .into(BookAuthorVw.class);
+        return sort.getKeyset().fetch(
+                dsl.select(columns(fields, sort.getKeyset().getFields())).from(BOOK_CATALOG).where(condition),
+                after, limit, r -> toBook(r, fields));
+    }
+
+    public KeysetSlice<BookAuthorVw> findPageByAuthor(Integer authorId, Object[] after, int limit) {
+        return AUTHOR_BOOKS_ORDER.fetch(dsl.selectFrom(BOOK_CATALOG).where(BOOK_CATALOG.AUTHOR_ID.eq(authorId)), after,
+                limit, r -> r.into(BookAuthorVw.class));
+    }
+
+    public long countByAuthor(Integer authorId) {
+        return dsl.fetchCount(BOOK_CATALOG, BOOK_CATALOG.AUTHOR_ID.eq(authorId));
     }
 
     public Optional<BookAuthorVw> findById(Integer id) {
-        return Optional.ofNullable(
-                dsl.selectFrom(BOOK_AUTHOR_VW)
-                        .where(BOOK_AUTHOR_VW.ID.eq(id))
-                        .fetchOne().into(BookAuthorVw.class));
+        return dsl.selectFrom(BOOK_CATALOG)
+                .where(BOOK_CATALOG.ID.eq(id))
+                .fetchOptionalInto(BookAuthorVw.class);
+    }
+
+    public List<BookAuthorVw> findAllById(Collection<Integer> ids) {
+        return findAllById(ids, BookField.ALL);
+    }
+
+    public List<BookAuthorVw> findAllById(Collection<Integer> ids, Set<BookField> fields) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return dsl.select(columns(fields, List.of()))
+                .from(BOOK_CATALOG)
+                .where(BOOK_CATALOG.ID.in(ids))
+                .fetch(r -> toBook(r, fields));
     }
 
     // ? 
     public void update(BookAuthorVw existing, BookCreateRequest bookCreateRequest) {
-        dsl.update(BOOK)
+        var update = dsl.update(BOOK)
                 .set(BOOK.TITLE, bookCreateRequest.getTitle())
-                .set(BOOK.AUTHOR_ID, bookCreateRequest.getAuthorId())
-                .where(BOOK.ID.eq(existing.getId()))
+                .set(BOOK.AUTHOR_ID, bookCreateRequest.getAuthorId());
+        // A missing price leaves the current one
+        if (bookCreateRequest.getPrice() != null) {
+            update = update.set(BOOK.PRICE, bookCreateRequest.getPrice());
+        }
+        update.where(BOOK.ID.eq(existing.getId()))
                 .execute();
+        bookCatalogRepository.refresh(existing.getId());
+        bookChangeLogRepository.append(existing.getId(), ChangeType.UPDATED);
     }
 
-    public void save(BookCreateRequest bookCreateRequest) {
+    public Integer save(BookCreateRequest bookCreateRequest) {
         // We're creating
-        dsl.insertInto(BOOK)
+        Integer id = dsl.insertInto(BOOK)
                 .set(dsl.newRecord(BOOK, bookCreateRequest))
-                .execute();
+                .returningResult(BOOK.ID)
+                .fetchOne()
+                .value1();
+        bookCatalogRepository.refresh(id);
+        bookChangeLogRepository.append(id, ChangeType.CREATED);
+        return id;
+    }
+
+    /**
+     * Inserts all books with one multi-row INSERT and returns their new ids in the same order.
+     * A missing price is stored as 0.00, the column default.
+     */
+    public List<Integer> saveAll(List<BookCreateRequest> books) {
+        if (books.isEmpty()) {
+            return List.of();
+        }
+        var insert = dsl.insertInto(BOOK, BOOK.AUTHOR_ID, BOOK.TITLE, BOOK.PRICE, BOOK.DESCRIPTION);
+        for (BookCreateRequest book : books) {
+            insert = insert.values(book.getAuthorId(), book.getTitle(),
+                    book.getPrice() == null ? BigDecimal.ZERO : book.getPrice(), book.getDescription());
+        }
+        List<Integer> ids = insert.returningResult(BOOK.ID).fetch(Record1::value1);
+        bookCatalogRepository.refreshAll(ids);
+        bookChangeLogRepository.appendAll(ids, ChangeType.CREATED);
+        return ids;
+    }
+
+    /**
+     * Sets the prices as one JDBC batch of single-row UPDATEs, applied in list order, and returns the ids of the
+     * books that exist, each once. Unknown ids are skipped.
+     */
+    public List<Integer> updatePrices(List<BookPriceChange> changes) {
+        if (changes.isEmpty()) {
+            return List.of();
+        }
+        BatchBindStep batch = dsl.batch(dsl.update(BOOK)
+                .set(BOOK.PRICE, (BigDecimal) null)
+                .where(BOOK.ID.eq((Integer) null)));
+        for (BookPriceChange change : changes) {
+            batch = batch.bind(change.getPrice(), change.getBookId());
+        }
+        int[] counts = batch.execute();
+
+        Set<Integer> updated = new LinkedHashSet<>();
+        for (int i = 0; i < counts.length; i++) {
+            // Statement.SUCCESS_NO_INFO (-2) still means the row was written
+            if (counts[i] != 0) {
+                updated.add(changes.get(i).getBookId());
+            }
+        }
+        List<Integer> ids = List.copyOf(updated);
+        bookCatalogRepository.refreshAll(ids);
+        bookChangeLogRepository.appendAll(ids, ChangeType.UPDATED);
+        return ids;
     }
 
     public void deleteById(Integer id) {
+        bookCatalogRepository.delete(id);
         dsl.deleteFrom(BOOK)
                 .where(BOOK.ID.eq(id))
                 .execute();
+        bookChangeLogRepository.append(id, ChangeType.DELETED);
+    }
+
+    // Only used while the in-memory search index is still being built
+    public List<BookAuthorVw> findByTitleContaining(String title, int offset, int limit, Set<BookField> fields) {
+        return dsl.select(columns(fields, List.of()))
+                .from(BOOK_CATALOG)
+                .where(BOOK_CATALOG.TITLE.containsIgnoreCase(title))
+                .orderBy(BOOK_CATALOG.ID)
+                .limit(limit)
+                .offset(offset)
+                .fetch(r -> toBook(r, fields));
+    }
+
+    private static List<Field<?>> columns(Set<BookField> fields, List<Field<?>> keyColumns) {
+        Set<Field<?>> columns = new LinkedHashSet<>();
+        fields.forEach(field -> columns.addAll(field.getColumns()));
+        columns.addAll(keyColumns);
+        return List.copyOf(columns);
+    }
+
+    // Sort key columns were selected for the keyset, but are only returned when asked for
+    private static BookAuthorVw toBook(Record record, Set<BookField> fields) {
+        return BookField.project(record.into(BOOK_CATALOG).into(BookAuthorVw.class), fields);
+    }
+
+    /**
+     * Hands every catalog row, in id order, to the action while it is read.
+     * Uses a MySQL streaming result set (fetch size Integer.MIN_VALUE) so rows are never buffered client-side.
+     * The connection is held until the last row, so the action must be quick and in-memory; never write to a client
+     * from it (the export pages with findPage instead).
+     */
+    public void forEachInCatalog(Consumer<BookAuthorVw> action) {
+        try (Cursor<BookCatalogRecord> cursor = dsl.selectFrom(BOOK_CATALOG)
+                .orderBy(BOOK_CATALOG.ID)
+                .fetchSize(Integer.MIN_VALUE)
+                .fetchLazy()) {
+            cursor.forEach(record -> action.accept(record.into(BookAuthorVw.class)));
+        }
+    }
+
+    // Everything the search index needs, without the description column
+    public List<BookAuthorVw> findAllForSearchIndex() {
+        return dsl.select(BOOK_CATALOG.ID, BOOK_CATALOG.AUTHOR_ID, BOOK_CATALOG.TITLE,
+                        BOOK_CATALOG.FIRST_NAME, BOOK_CATALOG.LAST_NAME)
+                .from(BOOK_CATALOG)
+                .fetch(r -> new BookAuthorVw(r.value1(), r.value2(), r.value3(), null, null, r.value4(), r.value5()));
+    }
+
+    // Everything the facet counters need, straight from the book table
+    public List<BookAuthorVw> findAllForFacets() {
+        return dsl.select(BOOK.ID, BOOK.AUTHOR_ID, BOOK.PRICE)
+                .from(BOOK)
+                .fetch(r -> new BookAuthorVw(r.value1(), r.value2(), null, r.value3(), null, null, null));
+    }
+
+    /**
+     * Ids of the most ordered books, most copies first.
+     */
+    public List<Integer> findTopSellerIds(int limit) {
+        var quantity = DSL.sum(BOOK_ORDERS.QUANTITY);
+        return dsl.select(BOOK_ORDERS.BOOK_ID)
+                .from(BOOK_ORDERS)
+                .groupBy(BOOK_ORDERS.BOOK_ID)
+                .orderBy(quantity.desc(), BOOK_ORDERS.BOOK_ID)
+                .limit(limit)
+                .fetch(Record1::value1);
+    }
+
+    /**
+     * Copies ordered per book, across all orders. Books never ordered are absent.
+     */
+    public Map<Integer, Long> findQuantitiesSold() {
+        return dsl.select(BOOK_ORDERS.BOOK_ID, DSL.sum(BOOK_ORDERS.QUANTITY))
+                .from(BOOK_ORDERS)
+                .groupBy(BOOK_ORDERS.BOOK_ID)
+                .fetchMap(r -> r.value1(), r -> r.value2().longValue());
+    }
+
+    /**
+     * Relevance search using the FULLTEXT indexes on book(title, description) and author(first_name, last_name).
+     * Each index is matched on its own table, so MySQL answers both from the index, and a book's score is its own
+     * relevance plus its author's. Scoring, the (score desc, id asc) seek past the cursor and the limit all happen
+     * in SQL, so only the page itself comes back. A book gets at most one score of each kind, and adding two
+     * doubles does not depend on their order, so the same book always gets the same score and a cursor holding it
+     * lands on the same row every time.
+     */
+    public List<ScoredBook> searchFullText(String query, FullTextCursor after, int limit) {
+        Field<Integer> bookId = DSL.field(DSL.name("matched", "book_id"), SQLDataType.INTEGER);
+        Field<Double> relevance = DSL.field(DSL.name("matched", "relevance"), SQLDataType.DOUBLE);
+        var matched = dsl.select(BOOK.ID.as("book_id"), match(BOOK.TITLE, BOOK.DESCRIPTION, query).as("relevance"))
+                .from(BOOK)
+                .where(matches(BOOK.TITLE, BOOK.DESCRIPTION, query))
+                .unionAll(DSL.select(BOOK.ID, match(AUTHOR.FIRST_NAME, AUTHOR.LAST_NAME, query))
+                        .from(AUTHOR)
+                        .join(BOOK).on(BOOK.AUTHOR_ID.eq(AUTHOR.ID))
+                        .where(matches(AUTHOR.FIRST_NAME, AUTHOR.LAST_NAME, query)))
+                .asTable("matched");
+
+        Field<Double> score = DSL.field("sum({0})", SQLDataType.DOUBLE, relevance);
+        Condition seek = after == null
+                ? DSL.noCondition()
+                : score.lt(after.score()).or(score.eq(after.score()).and(bookId.gt(after.id())));
+        List<Map.Entry<Integer, Double>> page = dsl.select(bookId, score)
+                .from(matched)
+                .groupBy(bookId)
+                .having(seek)
+                .orderBy(score.desc(), bookId.asc())
+                .limit(limit)
+                .fetch(r -> Map.entry(r.value1(), r.value2()));
+
+        Map<Integer, BookAuthorVw> books = new HashMap<>();
+        findAllById(page.stream().map(Map.Entry::getKey).toList()).forEach(book -> books.put(book.getId(), book));
+        List<ScoredBook> results = new ArrayList<>(page.size());
+        for (Map.Entry<Integer, Double> e : page) {
+            // A book deleted since the match is left out
+            BookAuthorVw book = books.get(e.getKey());
+            if (book != null) {
+                results.add(new ScoredBook(book, e.getValue()));
+            }
+        }
+        return results;
+    }
+
+    private static Field<Double> match(Field<String> first, Field<String> second, String query) {
+        return DSL.field("match({0}, {1}) against ({2} in natural language mode)", SQLDataType.DOUBLE,
+                first, second, DSL.val(query));
     }
 
-    public List<BookAuthorVw> findByTitleContaining(String title) {
-        return dsl.selectFrom(BOOK_AUTHOR_VW)
-                .where(BOOK_AUTHOR_VW.TITLE.containsIgnoreCase(title))
-                .fetch().into(BookAuthorVw.class);
+    // The bare MATCH predicate, which the optimizer answers from the FULLTEXT index
+    private static Condition matches(Field<String> first, Field<String> second, String query) {
+        return DSL.condition("match({0}, {1}) against ({2} in natural language mode)", first, second, DSL.val(query));
     }
 }
@@ -0,0 +1,92 @@
+package com.bookstore.entity.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+
+/**
+ * Reads shared by the append-only change logs (book_change_log, author_change_log), each keyed by an
+ * AUTO_INCREMENT seq and stamped with changed_at.
+ */
+final class ChangeLogReader<R extends Record, P> {
+
+    private final DSLContext dsl;
+    private final Table<R> table;
+    private final TableField<R, Long> seq;
+    private final TableField<R, LocalDateTime> changedAt;
+    private final Class<P> type;
+
+    ChangeLogReader(DSLContext dsl, Table<R> table, TableField<R, Long> seq, TableField<R, LocalDateTime> changedAt,
+            Class<P> type) {
+        this.dsl = dsl;
+        this.table = table;
+        this.seq = seq;
+        this.changedAt = changedAt;
+        this.type = type;
+    }
+
+    /**
+     * Up to limit entries after the given seq, oldest first, stopping at the first seq that is missing.
+     *
+     * AUTO_INCREMENT hands out seqs at insert, not at commit, so a missing seq usually belongs to a transaction that
+     * is still running and will commit it later; paging past it would skip that change for good. A gap is only
+     * stepped over once the entry after it is gapTimeoutSeconds old (by the database clock), by which time the
+     * missing seq is taken to be rolled back. The common case, no gap, is returned straight away.
+     */
+    List<P> findSince(long since, int gapTimeoutSeconds, int limit) {
+        Field<Boolean> gapExpired = DSL.field(settled(gapTimeoutSeconds));
+        List<P> changes = new ArrayList<>();
+        long expected = since + 1;
+        for (Record row : dsl.select(table.fields())
+                .select(gapExpired)
+                .from(table)
+                .where(seq.gt(since))
+                .orderBy(seq)
+                .limit(limit)
+                .fetch()) {
+            long rowSeq = row.get(seq);
+            if (rowSeq != expected && !Boolean.TRUE.equals(row.get(gapExpired))) {
+                break;
+            }
+            changes.add(row.into(table).into(type));
+            expected = rowSeq + 1;
+        }
+        return changes;
+    }
+
+    /**
+     * The highest seq at least gapTimeoutSeconds old, or 0 for an empty log: a position findSince can later resume
+     * from without skipping writes that were still committing when it was taken. Entries after it may be read again.
+     */
+    long findSettledSeq(int gapTimeoutSeconds) {
+        Long settledSeq = dsl.select(DSL.max(seq))
+                .from(table)
+                .where(settled(gapTimeoutSeconds))
+                .fetchOne(0, Long.class);
+        return settledSeq == null ? 0 : settledSeq;
+    }
+
+    /**
+     * The highest seq this transaction can see, including its own uncommitted entries, or 0 for an empty log.
+     */
+    long findMaxSeq() {
+        Long maxSeq = dsl.select(DSL.max(seq))
+                .from(table)
+                .fetchOne(0, Long.class);
+        return maxSeq == null ? 0 : maxSeq;
+    }
+
+    private Condition settled(int seconds) {
+        return changedAt.le(DSL.field("now(3) - interval {0} second", SQLDataType.LOCALDATETIME(3),
+                DSL.val(seconds)));
+    }
+}
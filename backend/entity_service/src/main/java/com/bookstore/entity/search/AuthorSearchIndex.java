@@ -0,0 +1,115 @@
+package com.bookstore.entity.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.bookstore.entity.cache.CatalogVersion;
+import com.bookstore.entity.events.AuthorChangedEvent;
+import com.bookstore.entity.events.AuthorsReplayedEvent;
+import com.bookstore.entity.events.ChangeType;
+import com.bookstore.entity.repository.AuthorRepository;
+import com.example.database.generated.tables.pojos.Author;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory substring search over author names, so /author/search never runs a leading-wildcard LIKE.
+ * Built once from the author table when the application is ready, then kept current from the committed author
+ * changes AuthorService publishes and, for writes through other instances, the author_change_log entries
+ * BookCatalogStore replays. Until the first build finishes, isReady() is false and callers should fall back to the
+ * database.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class AuthorSearchIndex {
+
+    private final AuthorRepository authorRepository;
+
+    private final TrigramIndex lastNames = new TrigramIndex();
+    private final TrigramIndex fullNames = new TrigramIndex();
+    private final Map<Integer, Author> authors = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    // Ahead of CatalogWarmup
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        authorRepository.findAll().forEach(this::put);
+        ready = true;
+        log.info("Built author search index with {} authors in {} ms", authors.size(),
+                System.currentTimeMillis() - start);
+    }
+
+    @Order(CatalogVersion.APPLY_ORDER)
+    @TransactionalEventListener
+    public void onAuthorChanged(AuthorChangedEvent event) {
+        if (event.getType() == ChangeType.DELETED) {
+            remove(event.getAuthorId());
+            return;
+        }
+        authorRepository.findById(event.getAuthorId()).ifPresent(this::put);
+    }
+
+    @Order(CatalogVersion.APPLY_ORDER)
+    @EventListener
+    public void onAuthorsReplayed(AuthorsReplayedEvent event) {
+        event.getAuthors().forEach(this::put);
+        event.getDeletedAuthorIds().forEach(this::remove);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Authors whose last name contains the text, ignoring case and accents, in id order.
+     */
+    public List<Author> searchLastName(String text) {
+        return resolve(lastNames.search(text));
+    }
+
+    /**
+     * Authors whose "first last" name contains the text, ignoring case and accents, in id order.
+     */
+    public List<Author> searchName(String text) {
+        return resolve(fullNames.search(text));
+    }
+
+    private void put(Author author) {
+        authors.put(author.getId(), author);
+        lastNames.put(author.getId(), author.getLastName());
+        fullNames.put(author.getId(),
+                Objects.toString(author.getFirstName(), "") + " " + Objects.toString(author.getLastName(), ""));
+    }
+
+    private void remove(Integer authorId) {
+        lastNames.remove(authorId);
+        fullNames.remove(authorId);
+        authors.remove(authorId);
+    }
+
+    private List<Author> resolve(int[] ids) {
+        List<Author> found = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            // Skip an author removed between the index lookup and here
+            Author author = authors.get(id);
+            if (author != null) {
+                found.add(author);
+            }
+        }
+        return found;
+    }
+}
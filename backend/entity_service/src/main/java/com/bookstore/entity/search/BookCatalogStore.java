@@ -0,0 +1,311 @@
+package com.bookstore.entity.search;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.bookstore.entity.cache.CatalogVersion;
+import com.bookstore.entity.events.AuthorChangedEvent;
+import com.bookstore.entity.events.AuthorsReplayedEvent;
+import com.bookstore.entity.events.BookChangedEvent;
+import com.bookstore.entity.events.BooksImportedEvent;
+import com.bookstore.entity.events.BooksReplayedEvent;
+import com.bookstore.entity.events.BooksRepricedEvent;
+import com.bookstore.entity.events.ChangeType;
+import com.bookstore.entity.models.BookSort;
+import com.bookstore.entity.repository.AuthorChangeLogRepository;
+import com.bookstore.entity.repository.AuthorRepository;
+import com.bookstore.entity.repository.BookChangeLogRepository;
+import com.bookstore.entity.repository.BookRepository;
+import com.example.common.pagination.KeysetSlice;
+import com.example.database.generated.tables.pojos.Author;
+import com.example.database.generated.tables.pojos.AuthorChangeLog;
+import com.example.database.generated.tables.pojos.BookAuthorVw;
+import com.example.database.generated.tables.pojos.BookChangeLog;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The whole catalog in a ColumnarCatalog, so GET /book, GET /book/{id} and GET /book?ids= are answered from
+ * memory. Loaded when the application is ready, then kept current from committed book and author changes. Until the
+ * first load finishes, isReady() is false and callers should fall back to the database. Book count and approximate
+ * heap are published as bookstore.catalog.books and bookstore.catalog.bytes.
+ *
+ * The store tracks how far through book_change_log the catalog is known to be current, and every
+ * bookstore.catalog.catch-up-interval (1s) replays what was logged since, which also picks up writes made through
+ * other instances. Each replayed batch is handed on as a BooksReplayedEvent, so the indexes and caches follow, and
+ * then the CatalogVersion moves to the new seq. author_change_log is replayed on the same schedule and handed on as
+ * an AuthorsReplayedEvent, so the author caches and search index follow authors written through other instances.
+ * Every bookstore.catalog.snapshot.interval, if the catalog moved on, it is written to a CatalogSnapshot file
+ * labelled with the seq it is current through. On startup the snapshot is mapped and restored, and only the changes
+ * logged since it was written are read from the database; without a usable snapshot, or with one labelled past the
+ * end of the log, the catalog is paged out of book_catalog as before.
+ */
+@Component
+@Slf4j
+public class BookCatalogStore implements MeterBinder {
+
+    // Rows are streamed from the database and merged in batches, so the load never holds the catalog as POJOs
+    private static final int LOAD_BATCH_SIZE = 50_000;
+    private static final int CATCH_UP_BATCH_SIZE = 1000;
+
+    private final BookRepository bookRepository;
+    private final AuthorRepository authorRepository;
+    private final BookChangeLogRepository bookChangeLogRepository;
+    private final AuthorChangeLogRepository authorChangeLogRepository;
+    private final CatalogVersion catalogVersion;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean snapshotEnabled;
+    private final Path snapshotPath;
+    private final int gapTimeoutSeconds;
+
+    private final ColumnarCatalog catalog = new ColumnarCatalog();
+    private volatile boolean ready;
+    // The book_change_log seq the catalog is current through, and the one the snapshot on disk was written at
+    private volatile long appliedSeq;
+    private long writtenSeq = -1;
+    // The author_change_log seq the author listeners are current through
+    private long appliedAuthorSeq;
+
+    public BookCatalogStore(BookRepository bookRepository, AuthorRepository authorRepository,
+            BookChangeLogRepository bookChangeLogRepository, AuthorChangeLogRepository authorChangeLogRepository,
+            CatalogVersion catalogVersion, ApplicationEventPublisher eventPublisher,
+            @Value("${bookstore.catalog.snapshot.enabled:true}") boolean snapshotEnabled,
+            @Value("${bookstore.catalog.snapshot.path:catalog.snapshot}") String snapshotPath,
+            @Value("${bookstore.changes.gap-timeout-seconds:60}") int gapTimeoutSeconds) {
+        this.bookRepository = bookRepository;
+        this.authorRepository = authorRepository;
+        this.bookChangeLogRepository = bookChangeLogRepository;
+        this.authorChangeLogRepository = authorChangeLogRepository;
+        this.catalogVersion = catalogVersion;
+        this.eventPublisher = eventPublisher;
+        this.snapshotEnabled = snapshotEnabled;
+        this.snapshotPath = Path.of(snapshotPath);
+        this.gapTimeoutSeconds = gapTimeoutSeconds;
+    }
+
+    // Ahead of the startup warm-up, which should already find the catalog here
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        // Taken before the author caches load, so the first catch-up replays anything they might have missed
+        appliedAuthorSeq = authorChangeLogRepository.findSettledSeq(gapTimeoutSeconds);
+        boolean restored = restoreSnapshot();
+        if (!restored) {
+            load();
+        }
+        int replayed = catchUp();
+        ready = true;
+        log.info("Loaded {} books into the in-memory catalog ({} MB) from {} and {} logged changes in {} ms",
+                catalog.size(), catalog.estimatedBytes() / (1024 * 1024), restored ? snapshotPath : "the database",
+                replayed, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Applies whatever book_change_log and author_change_log gained since the last call. One indexed range read per
+     * log when nothing changed.
+     */
+    @Scheduled(fixedDelayString = "${bookstore.catalog.catch-up-interval:1s}")
+    public void refresh() {
+        if (ready) {
+            catchUp();
+            catchUpAuthors();
+        }
+    }
+
+    /**
+     * Writes a new snapshot if the catalog moved on since the last one.
+     */
+    @Scheduled(fixedDelayString = "${bookstore.catalog.snapshot.interval:5m}",
+            initialDelayString = "${bookstore.catalog.snapshot.interval:5m}")
+    public void snapshot() {
+        if (ready && snapshotEnabled && appliedSeq != writtenSeq) {
+            writeSnapshot();
+        }
+    }
+
+    @Order(CatalogVersion.APPLY_ORDER)
+    @TransactionalEventListener
+    public void onBookChanged(BookChangedEvent event) {
+        if (event.getType() == ChangeType.DELETED) {
+            catalog.remove(event.getBookId());
+            return;
+        }
+        bookRepository.findById(event.getBookId()).ifPresent(catalog::put);
+    }
+
+    @Order(CatalogVersion.APPLY_ORDER)
+    @TransactionalEventListener
+    public void onBooksImported(BooksImportedEvent event) {
+        catalog.putAll(bookRepository.findAllById(event.getBookIds()));
+    }
+
+    @Order(CatalogVersion.APPLY_ORDER)
+    @TransactionalEventListener
+    public void onBooksRepriced(BooksRepricedEvent event) {
+        catalog.putAll(bookRepository.findAllById(event.getBookIds()));
+    }
+
+    @Order(CatalogVersion.APPLY_ORDER)
+    @TransactionalEventListener
+    public void onAuthorChanged(AuthorChangedEvent event) {
+        if (event.getType() != ChangeType.UPDATED) {
+            // New authors have no books yet, and authors with books cannot be deleted (foreign key)
+            return;
+        }
+        authorRepository.findById(event.getAuthorId())
+                .ifPresent(author -> catalog.renameAuthor(author.getId(), author.getFirstName(), author.getLastName()));
+    }
+
+    private boolean restoreSnapshot() {
+        if (!snapshotEnabled || !Files.isRegularFile(snapshotPath)) {
+            return false;
+        }
+        try {
+            CatalogSnapshot snapshot = CatalogSnapshot.read(snapshotPath);
+            // A snapshot past the end of the log was written against another database (or one restored from a
+            // backup), so the changes it would skip are not its own
+            long maxSeq = bookChangeLogRepository.findMaxSeq();
+            if (snapshot.seq() > maxSeq) {
+                log.warn("Ignoring catalog snapshot {} at change seq {}, past the end of the change log at {}",
+                        snapshotPath, snapshot.seq(), maxSeq);
+                return false;
+            }
+            catalog.restore(snapshot);
+            appliedSeq = snapshot.seq();
+            writtenSeq = snapshot.seq();
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not restore the catalog from {}, loading it from the database", snapshotPath, e);
+            catalog.clear();
+            return false;
+        }
+    }
+
+    private void load() {
+        // Taken first, so whatever commits during the load is either in it or replayed by catchUp
+        long seq = bookChangeLogRepository.findSettledSeq(gapTimeoutSeconds);
+        List<BookAuthorVw> batch = new ArrayList<>(LOAD_BATCH_SIZE);
+        bookRepository.forEachInCatalog(book -> {
+            batch.add(book);
+            if (batch.size() == LOAD_BATCH_SIZE) {
+                catalog.putAll(batch);
+                batch.clear();
+            }
+        });
+        catalog.putAll(batch);
+        appliedSeq = seq;
+    }
+
+    /**
+     * Re-reads every book logged after appliedSeq, dropping those that are gone, tells the indexes and caches (once
+     * the catalog is ready; before that they build from the database themselves), moves the CatalogVersion up to the
+     * new appliedSeq and returns how many entries that covered. Replaying a change the catalog already has just reads
+     * the same row again.
+     */
+    private synchronized int catchUp() {
+        int replayed = 0;
+        List<BookChangeLog> changes;
+        do {
+            changes = bookChangeLogRepository.findSince(appliedSeq, gapTimeoutSeconds, CATCH_UP_BATCH_SIZE);
+            if (changes.isEmpty()) {
+                break;
+            }
+            Set<Integer> ids = new LinkedHashSet<>();
+            changes.forEach(change -> ids.add(change.getBookId()));
+            List<BookAuthorVw> found = bookRepository.findAllById(ids);
+            catalog.putAll(found);
+            found.forEach(book -> ids.remove(book.getId()));
+            ids.forEach(catalog::remove);
+            if (ready) {
+                eventPublisher.publishEvent(new BooksReplayedEvent(found, List.copyOf(ids)));
+            }
+            appliedSeq = changes.get(changes.size() - 1).getSeq();
+            replayed += changes.size();
+        } while (changes.size() == CATCH_UP_BATCH_SIZE);
+        catalogVersion.advance(appliedSeq);
+        return replayed;
+    }
+
+    /**
+     * Re-reads every author logged after appliedAuthorSeq and hands them on as an AuthorsReplayedEvent. The catalog
+     * itself needs nothing here: a rename also logs each of the author's books in book_change_log.
+     */
+    private synchronized void catchUpAuthors() {
+        List<AuthorChangeLog> changes;
+        do {
+            changes = authorChangeLogRepository.findSince(appliedAuthorSeq, gapTimeoutSeconds, CATCH_UP_BATCH_SIZE);
+            if (changes.isEmpty()) {
+                break;
+            }
+            Set<Integer> ids = new LinkedHashSet<>();
+            changes.forEach(change -> ids.add(change.getAuthorId()));
+            List<Author> found = authorRepository.findAllById(ids);
+            found.forEach(author -> ids.remove(author.getId()));
+            eventPublisher.publishEvent(new AuthorsReplayedEvent(found, List.copyOf(ids)));
+            appliedAuthorSeq = changes.get(changes.size() - 1).getSeq();
+        } while (changes.size() == CATCH_UP_BATCH_SIZE);
+    }
+
+    private void writeSnapshot() {
+        long start = System.currentTimeMillis();
+        long seq = appliedSeq;
+        try {
+            catalog.snapshot(seq).write(snapshotPath);
+            writtenSeq = seq;
+            log.info("Wrote catalog snapshot {} at change seq {} in {} ms", snapshotPath, seq,
+                    System.currentTimeMillis() - start);
+        } catch (IOException e) {
+            log.warn("Could not write catalog snapshot {}", snapshotPath, e);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public KeysetSlice<BookAuthorVw> findPage(BookSort sort, BigDecimal minPrice, BigDecimal maxPrice, Object[] after,
+            int limit) {
+        return catalog.findPage(sort, minPrice, maxPrice, after, limit);
+    }
+
+    public Optional<BookAuthorVw> findById(Integer id) {
+        return catalog.findById(id);
+    }
+
+    public List<BookAuthorVw> findAllById(Collection<Integer> ids) {
+        return catalog.findAllById(ids);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("bookstore.catalog.books", catalog, ColumnarCatalog::size)
+                .description("Books held in the in-memory catalog")
+                .register(registry);
+        Gauge.builder("bookstore.catalog.bytes", catalog, ColumnarCatalog::estimatedBytes)
+                .description("Approximate heap used by the in-memory catalog")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+}
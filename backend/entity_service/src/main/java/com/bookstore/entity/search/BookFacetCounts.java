@@ -0,0 +1,185 @@
+package com.bookstore.entity.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.bookstore.entity.cache.CatalogVersion;
+import com.bookstore.entity.events.AuthorChangedEvent;
+import com.bookstore.entity.events.AuthorsReplayedEvent;
+import com.bookstore.entity.events.BookChangedEvent;
+import com.bookstore.entity.events.BooksImportedEvent;
+import com.bookstore.entity.events.BooksReplayedEvent;
+import com.bookstore.entity.events.BooksRepricedEvent;
+import com.bookstore.entity.events.ChangeType;
+import com.bookstore.entity.models.BookFacets;
+import com.bookstore.entity.models.PriceBand;
+import com.bookstore.entity.repository.AuthorRepository;
+import com.bookstore.entity.repository.BookRepository;
+import com.example.database.generated.tables.pojos.Author;
+import com.example.database.generated.tables.pojos.BookAuthorVw;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Book counts per price band and per author for faceted browse.
+ *
+ * Counted once from the book table when the application is ready, then adjusted by one book at a time from
+ * committed book changes. Each change publishes a new immutable BookFacets, so reads are a field access.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class BookFacetCounts {
+
+    private final BookRepository bookRepository;
+    private final AuthorRepository authorRepository;
+
+    private record Counted(PriceBand band, Integer authorId) {
+    }
+
+    // What each book was last counted under, so an update or delete can take it back out
+    private final Map<Integer, Counted> books = new HashMap<>();
+    private final Map<PriceBand, Long> bandCounts = new EnumMap<>(PriceBand.class);
+    private final Map<Integer, Long> authorCounts = new HashMap<>();
+    private final Map<Integer, String> authorNames = new HashMap<>();
+    private volatile BookFacets facets = new BookFacets(0, emptyBands(), List.of());
+    private volatile boolean counted;
+
+    // Ahead of CatalogWarmup
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        books.clear();
+        bandCounts.clear();
+        authorCounts.clear();
+        authorNames.clear();
+        authorRepository.findAll().forEach(this::putAuthor);
+        bookRepository.findAllForFacets().forEach(this::add);
+        publish();
+        counted = true;
+        log.info("Counted facets for {} books in {} ms", books.size(), System.currentTimeMillis() - start);
+    }
+
+    @Order(CatalogVersion.APPLY_ORDER)
+    @TransactionalEventListener
+    public synchronized void onBookChanged(BookChangedEvent event) {
+        remove(event.getBookId());
+        if (event.getType() != ChangeType.DELETED) {
+            bookRepository.findById(event.getBookId()).ifPresent(this::add);
+        }
+        publish();
+    }
+
+    @Order(CatalogVersion.APPLY_ORDER)
+    @TransactionalEventListener
+    public synchronized void onBooksImported(BooksImportedEvent event) {
+        bookRepository.findAllById(event.getBookIds()).forEach(this::add);
+        publish();
+    }
+
+    @Order(CatalogVersion.APPLY_ORDER)
+    @TransactionalEventListener
+    public synchronized void onBooksRepriced(BooksRepricedEvent event) {
+        // Prices moved, so books may have changed band
+        event.getBookIds().forEach(this::remove);
+        bookRepository.findAllById(event.getBookIds()).forEach(this::add);
+        publish();
+    }
+
+    @Order(CatalogVersion.APPLY_ORDER)
+    @EventListener
+    public synchronized void onBooksReplayed(BooksReplayedEvent event) {
+        event.getBooks().forEach(book -> {
+            remove(book.getId());
+            add(book);
+        });
+        event.getDeletedBookIds().forEach(this::remove);
+        publish();
+    }
+
+    @Order(CatalogVersion.APPLY_ORDER)
+    @TransactionalEventListener
+    public synchronized void onAuthorChanged(AuthorChangedEvent event) {
+        if (event.getType() == ChangeType.DELETED) {
+            authorNames.remove(event.getAuthorId());
+        } else {
+            authorRepository.findById(event.getAuthorId()).ifPresent(this::putAuthor);
+        }
+        publish();
+    }
+
+    @Order(CatalogVersion.APPLY_ORDER)
+    @EventListener
+    public synchronized void onAuthorsReplayed(AuthorsReplayedEvent event) {
+        event.getAuthors().forEach(this::putAuthor);
+        event.getDeletedAuthorIds().forEach(authorNames::remove);
+        publish();
+    }
+
+    public BookFacets getFacets() {
+        return facets;
+    }
+
+    /**
+     * How many books the author has, or null until the first count has finished.
+     */
+    public synchronized Long countForAuthor(int authorId) {
+        return counted ? authorCounts.getOrDefault(authorId, 0L) : null;
+    }
+
+    private void add(BookAuthorVw book) {
+        Counted counted = new Counted(PriceBand.of(book.getPrice()), book.getAuthorId());
+        books.put(book.getId(), counted);
+        bandCounts.merge(counted.band(), 1L, Long::sum);
+        authorCounts.merge(counted.authorId(), 1L, Long::sum);
+    }
+
+    private void remove(Integer bookId) {
+        Counted counted = books.remove(bookId);
+        if (counted == null) {
+            return;
+        }
+        bandCounts.computeIfPresent(counted.band(), (band, count) -> count > 1 ? count - 1 : null);
+        authorCounts.computeIfPresent(counted.authorId(), (id, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private void putAuthor(Author author) {
+        authorNames.put(author.getId(),
+                (Objects.toString(author.getFirstName(), "") + " " + Objects.toString(author.getLastName(), "")).trim());
+    }
+
+    private void publish() {
+        Map<PriceBand, Long> bands = emptyBands();
+        bands.putAll(bandCounts);
+
+        List<BookFacets.AuthorCount> authors = new ArrayList<>(authorCounts.size());
+        authorCounts.forEach((id, count) -> authors.add(new BookFacets.AuthorCount(id, authorNames.get(id), count)));
+        authors.sort(Comparator.comparingLong(BookFacets.AuthorCount::getCount).reversed()
+                .thenComparing(BookFacets.AuthorCount::getAuthorId, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        facets = new BookFacets(books.size(), Collections.unmodifiableMap(bands), Collections.unmodifiableList(authors));
+    }
+
+    private static Map<PriceBand, Long> emptyBands() {
+        Map<PriceBand, Long> bands = new EnumMap<>(PriceBand.class);
+        for (PriceBand band : PriceBand.values()) {
+            bands.put(band, 0L);
+        }
+        return bands;
+    }
+}
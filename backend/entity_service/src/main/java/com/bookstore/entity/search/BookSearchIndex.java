@@ -0,0 +1,116 @@
+package com.bookstore.entity.search;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.bookstore.entity.cache.CatalogVersion;
+import com.bookstore.entity.events.AuthorChangedEvent;
+import com.bookstore.entity.events.BookChangedEvent;
+import com.bookstore.entity.events.BooksImportedEvent;
+import com.bookstore.entity.events.BooksReplayedEvent;
+import com.bookstore.entity.events.ChangeType;
+import com.bookstore.entity.repository.AuthorRepository;
+import com.bookstore.entity.repository.BookRepository;
+import com.example.database.generated.tables.pojos.BookAuthorVw;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory title/author search over the whole catalog.
+ * Built once from book_catalog when the application is ready, then kept current from committed book and author
+ * changes, including those BookCatalogStore replays from other instances. Until the first build finishes,
+ * isReady() is false and callers should fall back to the database.
+ */
+@Component
+@Slf4j
+public class BookSearchIndex {
+
+    private final BookRepository bookRepository;
+    private final AuthorRepository authorRepository;
+    private final Duration fuzzyBudget;
+
+    private final InvertedIndex index = new InvertedIndex();
+    private volatile boolean ready;
+
+    public BookSearchIndex(BookRepository bookRepository, AuthorRepository authorRepository,
+            @Value("${bookstore.search.fuzzy-budget:50ms}") Duration fuzzyBudget) {
+        this.bookRepository = bookRepository;
+        this.authorRepository = authorRepository;
+        this.fuzzyBudget = fuzzyBudget;
+    }
+
+    // Ahead of CatalogWarmup
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        bookRepository.findAllForSearchIndex().forEach(this::put);
+        ready = true;
+        log.info("Built book search index with {} books in {} ms", index.size(), System.currentTimeMillis() - start);
+    }
+
+    @Order(CatalogVersion.APPLY_ORDER)
+    @TransactionalEventListener
+    public void onBookChanged(BookChangedEvent event) {
+        if (event.getType() == ChangeType.DELETED) {
+            index.remove(event.getBookId());
+            return;
+        }
+        bookRepository.findById(event.getBookId()).ifPresent(this::put);
+    }
+
+    @Order(CatalogVersion.APPLY_ORDER)
+    @TransactionalEventListener
+    public void onBooksImported(BooksImportedEvent event) {
+        bookRepository.findAllById(event.getBookIds()).forEach(this::put);
+    }
+
+    @Order(CatalogVersion.APPLY_ORDER)
+    @EventListener
+    public void onBooksReplayed(BooksReplayedEvent event) {
+        event.getBooks().forEach(this::put);
+        event.getDeletedBookIds().forEach(index::remove);
+    }
+
+    @Order(CatalogVersion.APPLY_ORDER)
+    @TransactionalEventListener
+    public void onAuthorChanged(AuthorChangedEvent event) {
+        if (event.getType() != ChangeType.UPDATED) {
+            // New authors have no books yet, and authors with books cannot be deleted (foreign key)
+            return;
+        }
+        authorRepository.findById(event.getAuthorId()).ifPresent(author -> index.renameAuthor(author.getId(),
+                authorName(author.getFirstName(), author.getLastName())));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public InvertedIndex.Hits search(String query, int offset, int limit) {
+        return index.search(query, offset, limit);
+    }
+
+    /**
+     * Typo-tolerant search, spending at most the configured fuzzy budget looking for close spellings.
+     */
+    public InvertedIndex.Hits searchFuzzy(String query, int offset, int limit) {
+        return index.searchFuzzy(query, offset, limit, fuzzyBudget.toNanos());
+    }
+
+    private void put(BookAuthorVw book) {
+        index.put(book.getId(), book.getTitle(), book.getAuthorId(), authorName(book.getFirstName(), book.getLastName()));
+    }
+
+    private static String authorName(String firstName, String lastName) {
+        return Objects.toString(firstName, "") + " " + Objects.toString(lastName, "");
+    }
+}
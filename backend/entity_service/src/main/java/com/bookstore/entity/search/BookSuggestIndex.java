@@ -0,0 +1,203 @@
+package com.bookstore.entity.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.bookstore.entity.cache.CatalogVersion;
+import com.bookstore.entity.events.AuthorChangedEvent;
+import com.bookstore.entity.events.AuthorsReplayedEvent;
+import com.bookstore.entity.events.BookChangedEvent;
+import com.bookstore.entity.events.BooksImportedEvent;
+import com.bookstore.entity.events.BooksReplayedEvent;
+import com.bookstore.entity.events.ChangeType;
+import com.bookstore.entity.models.BookSuggestion;
+import com.bookstore.entity.repository.AuthorRepository;
+import com.bookstore.entity.repository.BookRepository;
+import com.example.database.generated.tables.pojos.Author;
+import com.example.database.generated.tables.pojos.BookAuthorVw;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Typeahead completions for book titles and author names.
+ *
+ * A book counts 1 plus the copies ordered so far, re-read every bookstore.suggest.sales-refresh-interval; a title
+ * or author is as popular as all of its books together. Book and author writes only update the maps in memory.
+ * The trie is rebuilt from them off the request thread, at most once per bookstore.suggest.publish-interval however
+ * many writes arrived, and swapped in, so reads never take a lock or touch the database. Writes that leave every
+ * title, author name and sales count as it was (a price change, a replayed batch already applied here) do not
+ * trigger a rebuild.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class BookSuggestIndex {
+
+    private final BookRepository bookRepository;
+    private final AuthorRepository authorRepository;
+
+    private record Book(String title, int authorId) {
+    }
+
+    private final Map<Integer, Book> books = new HashMap<>();
+    private final Map<Integer, String> authorNames = new HashMap<>();
+    private final Map<Integer, Long> quantitiesSold = new HashMap<>();
+    // Set by writes that changed the maps above, cleared when the trie is rebuilt from them
+    private boolean dirty;
+    private volatile SuggestTrie trie = SuggestTrie.build(List.of());
+
+    // Ahead of CatalogWarmup
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        books.clear();
+        authorNames.clear();
+        quantitiesSold.clear();
+        bookRepository.findAllForSearchIndex().forEach(this::putBook);
+        authorRepository.findAll().forEach(this::putAuthor);
+        quantitiesSold.putAll(bookRepository.findQuantitiesSold());
+        dirty = false;
+        trie = SuggestTrie.build(entries());
+        log.info("Built suggest trie with {} completions in {} ms", trie.size(), System.currentTimeMillis() - start);
+    }
+
+    @Order(CatalogVersion.APPLY_ORDER)
+    @TransactionalEventListener
+    public synchronized void onBookChanged(BookChangedEvent event) {
+        if (event.getType() == ChangeType.DELETED) {
+            removeBook(event.getBookId());
+        } else {
+            bookRepository.findById(event.getBookId()).ifPresent(this::putBook);
+        }
+    }
+
+    @Order(CatalogVersion.APPLY_ORDER)
+    @TransactionalEventListener
+    public synchronized void onBooksImported(BooksImportedEvent event) {
+        bookRepository.findAllById(event.getBookIds()).forEach(this::putBook);
+    }
+
+    @Order(CatalogVersion.APPLY_ORDER)
+    @EventListener
+    public synchronized void onBooksReplayed(BooksReplayedEvent event) {
+        event.getBooks().forEach(this::putBook);
+        event.getDeletedBookIds().forEach(this::removeBook);
+    }
+
+    @Order(CatalogVersion.APPLY_ORDER)
+    @TransactionalEventListener
+    public synchronized void onAuthorChanged(AuthorChangedEvent event) {
+        if (event.getType() == ChangeType.DELETED) {
+            removeAuthor(event.getAuthorId());
+        } else {
+            authorRepository.findById(event.getAuthorId()).ifPresent(this::putAuthor);
+        }
+    }
+
+    @Order(CatalogVersion.APPLY_ORDER)
+    @EventListener
+    public synchronized void onAuthorsReplayed(AuthorsReplayedEvent event) {
+        event.getAuthors().forEach(this::putAuthor);
+        event.getDeletedAuthorIds().forEach(this::removeAuthor);
+    }
+
+    /**
+     * Rebuilds the trie if anything was written since the last rebuild. Writes arriving meanwhile wait only for the
+     * maps to be copied, not for the build.
+     */
+    @Scheduled(fixedDelayString = "${bookstore.suggest.publish-interval:2s}")
+    public void publish() {
+        List<SuggestTrie.Entry> entries;
+        synchronized (this) {
+            if (!dirty) {
+                return;
+            }
+            dirty = false;
+            entries = entries();
+        }
+        trie = SuggestTrie.build(entries);
+    }
+
+    /**
+     * Re-reads the copies sold per book, so the ranking follows orders placed since startup.
+     */
+    @Scheduled(fixedDelayString = "${bookstore.suggest.sales-refresh-interval:15m}",
+            initialDelayString = "${bookstore.suggest.sales-refresh-interval:15m}")
+    public void refreshSales() {
+        Map<Integer, Long> sold = bookRepository.findQuantitiesSold();
+        synchronized (this) {
+            if (!sold.equals(quantitiesSold)) {
+                quantitiesSold.clear();
+                quantitiesSold.putAll(sold);
+                dirty = true;
+            }
+        }
+    }
+
+    public List<BookSuggestion> suggest(String prefix, int limit) {
+        return trie.suggest(prefix, limit);
+    }
+
+    private void putBook(BookAuthorVw book) {
+        Book indexed = new Book(book.getTitle(), book.getAuthorId());
+        if (!indexed.equals(books.put(book.getId(), indexed))) {
+            dirty = true;
+        }
+    }
+
+    private void removeBook(Integer bookId) {
+        if (books.remove(bookId) != null) {
+            dirty = true;
+        }
+    }
+
+    private void putAuthor(Author author) {
+        String name = (Objects.toString(author.getFirstName(), "") + " "
+                + Objects.toString(author.getLastName(), "")).trim();
+        if (!name.equals(authorNames.put(author.getId(), name))) {
+            dirty = true;
+        }
+    }
+
+    private void removeAuthor(Integer authorId) {
+        if (authorNames.remove(authorId) != null) {
+            dirty = true;
+        }
+    }
+
+    private List<SuggestTrie.Entry> entries() {
+        Map<String, Long> titleWeights = new HashMap<>();
+        Map<Integer, Long> authorWeights = new HashMap<>();
+        books.forEach((id, book) -> {
+            long weight = 1 + quantitiesSold.getOrDefault(id, 0L);
+            if (book.title() != null) {
+                titleWeights.merge(book.title(), weight, Long::sum);
+            }
+            authorWeights.merge(book.authorId(), weight, Long::sum);
+        });
+
+        // Authors sharing a name complete to one suggestion
+        Map<String, Long> authorNameWeights = new HashMap<>();
+        authorNames.forEach((id, name) -> authorNameWeights.merge(name, authorWeights.getOrDefault(id, 0L), Long::sum));
+
+        List<SuggestTrie.Entry> entries = new ArrayList<>(titleWeights.size() + authorNameWeights.size());
+        titleWeights.forEach((title, weight) -> entries.add(
+                new SuggestTrie.Entry(new BookSuggestion(title, BookSuggestion.Type.TITLE), weight)));
+        authorNameWeights.forEach((name, weight) -> entries.add(
+                new SuggestTrie.Entry(new BookSuggestion(name, BookSuggestion.Type.AUTHOR), weight)));
+        return entries;
+    }
+}
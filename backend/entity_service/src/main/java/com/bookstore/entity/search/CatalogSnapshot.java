@@ -0,0 +1,195 @@
+package com.bookstore.entity.search;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import com.bookstore.entity.models.BookSort;
+
+/**
+ * A ColumnarCatalog as a compact binary file, so a starting instance that finds one (left by its previous run, or
+ * by another replica on a shared volume) can restore the catalog from disk instead of paging every book out of the
+ * database. seq is the book_change_log position the catalog was current through; whoever restores it catches up
+ * from there.
+ *
+ * Rows are compacted and numbered in id order. The file is a 32-byte header, then fixed-width columns of one int or
+ * long per row, then one int[] of rows per BookSort (the orders themselves, so restoring sorts nothing), then the
+ * string table as int offsets followed by a heap of UTF-8 bytes. String columns hold an index into that table, or -1
+ * for null. All numbers are big-endian. The reader maps the file with FileChannel.map and bulk-copies each column out
+ * of the mapping, and rejects anything whose header or length does not add up rather than restore half a catalog.
+ */
+record CatalogSnapshot(long seq, int[] ids, int[] authorIds, long[] prices, int[] titles, int[] descriptions,
+        int[] firstNames, int[] lastNames, int[][] orders, String[] strings) {
+
+    // "BKCS"
+    private static final int MAGIC = 0x424B4353;
+    // Bump whenever the layout or the order rows are sorted in changes, so older files are rebuilt instead
+    private static final int FORMAT = 2;
+    private static final int HEADER_BYTES = 32;
+
+    int size() {
+        return ids.length;
+    }
+
+    /**
+     * Writes to a temporary file next to the target and moves it into place, so readers only ever see a complete
+     * snapshot, even with several instances sharing the directory.
+     */
+    void write(Path path) throws IOException {
+        Path dir = path.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        byte[][] encoded = new byte[strings.length][];
+        int heapBytes = 0;
+        for (int i = 0; i < strings.length; i++) {
+            encoded[i] = strings[i].getBytes(StandardCharsets.UTF_8);
+            heapBytes = Math.addExact(heapBytes, encoded[i].length);
+        }
+
+        Path tmp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE);
+                    DataOutputStream out = new DataOutputStream(
+                            new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT);
+                out.writeLong(seq);
+                out.writeInt(size());
+                out.writeInt(strings.length);
+                out.writeInt(orders.length);
+                out.writeInt(heapBytes);
+
+                writeInts(out, ids);
+                writeInts(out, authorIds);
+                for (long price : prices) {
+                    out.writeLong(price);
+                }
+                writeInts(out, titles);
+                writeInts(out, descriptions);
+                writeInts(out, firstNames);
+                writeInts(out, lastNames);
+                for (int[] order : orders) {
+                    writeInts(out, order);
+                }
+                int offset = 0;
+                out.writeInt(offset);
+                for (byte[] bytes : encoded) {
+                    offset += bytes.length;
+                    out.writeInt(offset);
+                }
+                for (byte[] bytes : encoded) {
+                    out.write(bytes);
+                }
+                out.flush();
+                channel.force(false);
+            }
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    static CatalogSnapshot read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < HEADER_BYTES || length > Integer.MAX_VALUE) {
+                throw new IOException("Not a catalog snapshot: " + path + " is " + length + " bytes");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+
+            int magic = buffer.getInt();
+            int format = buffer.getInt();
+            if (magic != MAGIC || format != FORMAT) {
+                throw new IOException("Not a format " + FORMAT + " catalog snapshot: " + path);
+            }
+            long seq = buffer.getLong();
+            int rows = buffer.getInt();
+            int stringCount = buffer.getInt();
+            int orderCount = buffer.getInt();
+            int heapBytes = buffer.getInt();
+            long expected = HEADER_BYTES + 4L * rows * (6 + orderCount) + 8L * rows + 4L * (stringCount + 1)
+                    + heapBytes;
+            if (rows < 0 || stringCount < 0 || heapBytes < 0 || orderCount != BookSort.values().length
+                    || expected != length) {
+                throw new IOException("Catalog snapshot " + path + " is truncated or corrupt");
+            }
+
+            int[] ids = readInts(buffer, rows);
+            int[] authorIds = readInts(buffer, rows);
+            long[] prices = new long[rows];
+            buffer.asLongBuffer().get(prices);
+            buffer.position(buffer.position() + 8 * rows);
+            int[] titles = readInts(buffer, rows);
+            int[] descriptions = readInts(buffer, rows);
+            int[] firstNames = readInts(buffer, rows);
+            int[] lastNames = readInts(buffer, rows);
+            int[][] orders = new int[orderCount][];
+            for (int i = 0; i < orderCount; i++) {
+                orders[i] = readInts(buffer, rows);
+            }
+            int[] offsets = readInts(buffer, stringCount + 1);
+            int heap = buffer.position();
+            String[] strings = new String[stringCount];
+            for (int i = 0; i < stringCount; i++) {
+                if (offsets[i] < 0 || offsets[i] > offsets[i + 1] || offsets[i + 1] > heapBytes) {
+                    throw new IOException("Catalog snapshot " + path + " has a corrupt string table");
+                }
+                byte[] bytes = new byte[offsets[i + 1] - offsets[i]];
+                buffer.get(heap + offsets[i], bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            CatalogSnapshot snapshot = new CatalogSnapshot(seq, ids, authorIds, prices, titles, descriptions,
+                    firstNames, lastNames, orders, strings);
+            snapshot.validate(path);
+            return snapshot;
+        }
+    }
+
+    // Ids ascending, every ref in range and every order a permutation of the rows, so a damaged file cannot corrupt
+    // the catalog
+    private void validate(Path path) throws IOException {
+        for (int row = 0; row < ids.length; row++) {
+            if (ids[row] <= (row == 0 ? 0 : ids[row - 1])) {
+                throw new IOException("Catalog snapshot " + path + " has ids out of order");
+            }
+        }
+        for (int[] column : new int[][] { titles, descriptions, firstNames, lastNames }) {
+            for (int ref : column) {
+                if (ref < StringPool.NULL_REF || ref >= strings.length) {
+                    throw new IOException("Catalog snapshot " + path + " refers to a missing string");
+                }
+            }
+        }
+        for (int[] order : orders) {
+            boolean[] seen = new boolean[size()];
+            for (int row : order) {
+                if (row < 0 || row >= seen.length || seen[row]) {
+                    throw new IOException("Catalog snapshot " + path + " has a corrupt sort order");
+                }
+                seen[row] = true;
+            }
+        }
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static int[] readInts(ByteBuffer buffer, int count) {
+        int[] values = new int[count];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + 4 * count);
+        return values;
+    }
+}
@@ -0,0 +1,604 @@
+package com.bookstore.entity.search;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.bookstore.entity.models.BookSort;
+import com.example.common.pagination.KeysetSlice;
+import com.example.database.generated.tables.pojos.BookAuthorVw;
+
+/**
+ * The book catalog held in primitive columns, so browse and detail reads need no database round trip. A million
+ * books measured about 140 MB, most of it the titles and descriptions in the string pool, several times less than
+ * a List of BookAuthorVw; bookstore.catalog.bytes tracks the real figure, and the heap has to be sized for it.
+ *
+ * Every book is a row across parallel arrays: ids and author ids are ints, prices are longs in pence, and titles,
+ * descriptions and author names are refs into a deduplicated StringPool. An open-addressing table maps a book id
+ * to its row, and every BookSort keeps the rows as a sorted int[], so a keyset page is a binary search plus a
+ * short scan, and only the rows on the page are turned into BookAuthorVw. Titles sort by code point, the order
+ * BookSort.TITLE asks MySQL for, so cursors move freely between this catalog and the database.
+ *
+ * Writes take the write lock; a single book moves within each sorted array with one arraycopy, a batch is sorted
+ * and merged in. Reads take the read lock. Book ids come from AUTO_INCREMENT, so id 0 marks a free row.
+ */
+public class ColumnarCatalog {
+
+    private static final int NONE = RefTable.EMPTY;
+    private static final int FREE = 0;
+    // Far beyond DECIMAL(10, 2), and small enough that any bound a client sends still fits a long in pence
+    private static final BigDecimal MAX_AMOUNT = new BigDecimal("1E15");
+
+    private int[] ids = new int[1024];
+    private int[] authorIds = new int[1024];
+    private long[] prices = new long[1024];
+    private int[] titles = new int[1024];
+    private int[] descriptions = new int[1024];
+    private int[] firstNames = new int[1024];
+    private int[] lastNames = new int[1024];
+    private int used;
+    private int[] freeRows = new int[16];
+    private int freeCount;
+
+    private final StringPool strings = new StringPool();
+    private final RefTable rowsById = new RefTable() {
+        @Override
+        protected int hashOf(int row) {
+            return ids[row];
+        }
+    };
+    private final Map<BookSort, SortedRows> orders = new EnumMap<>(BookSort.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // A keyset position to seek past, in the same terms rows compare in
+    private record Probe(long price, String title, int id) {
+    }
+
+    public ColumnarCatalog() {
+        for (BookSort sort : BookSort.values()) {
+            orders.put(sort, new SortedRows(sort));
+        }
+    }
+
+    public void put(BookAuthorVw book) {
+        putAll(List.of(book));
+    }
+
+    /**
+     * Adds or replaces the books, whose ids must be distinct. A batch is sorted once and merged into every order in
+     * one pass, which also drops the replaced rows' old positions, so no order is shifted per row.
+     */
+    public void putAll(Collection<BookAuthorVw> books) {
+        if (books.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            int[] changed = new int[books.size()];
+            int n = 0;
+            BitSet replaced = null;
+            for (BookAuthorVw book : books) {
+                int row = rowOf(book.getId());
+                if (row == NONE) {
+                    row = allocate();
+                    ids[row] = book.getId();
+                    rowsById.add(row);
+                } else {
+                    if (books.size() == 1) {
+                        // Out of every order while the columns still hold the values it was sorted under
+                        for (SortedRows order : orders.values()) {
+                            order.remove(row);
+                        }
+                    } else {
+                        if (replaced == null) {
+                            replaced = new BitSet(used);
+                        }
+                        replaced.set(row);
+                    }
+                    releaseStrings(row);
+                }
+                write(row, book);
+                changed[n++] = row;
+            }
+            for (SortedRows order : orders.values()) {
+                if (n == 1) {
+                    order.insert(changed[0]);
+                } else {
+                    order.mergeIn(changed, n, replaced);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int id) {
+        lock.writeLock().lock();
+        try {
+            int row = rowOf(id);
+            if (row == NONE) {
+                return;
+            }
+            orders.values().forEach(order -> order.remove(row));
+            rowsById.remove(row);
+            releaseStrings(row);
+            ids[row] = FREE;
+            if (freeCount == freeRows.length) {
+                freeRows = Arrays.copyOf(freeRows, freeCount * 2);
+            }
+            freeRows[freeCount++] = row;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Points every book by the author at the new name. No order sorts on author names, so no row moves.
+     */
+    public void renameAuthor(int authorId, String firstName, String lastName) {
+        lock.writeLock().lock();
+        try {
+            for (int row = 0; row < used; row++) {
+                if (ids[row] != FREE && authorIds[row] == authorId) {
+                    strings.release(firstNames[row]);
+                    strings.release(lastNames[row]);
+                    firstNames[row] = strings.intern(firstName);
+                    lastNames[row] = strings.intern(lastName);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            Arrays.fill(ids, 0, used, FREE);
+            used = 0;
+            freeCount = 0;
+            strings.clear();
+            rowsById.clear();
+            orders.values().forEach(SortedRows::clear);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * A compacted copy of the catalog, rows renumbered in id order and only the strings still in use, labelled with
+     * the change-log seq it is current through. Holds the read lock only for the copy.
+     */
+    CatalogSnapshot snapshot(long seq) {
+        lock.readLock().lock();
+        try {
+            SortedRows byId = orders.get(BookSort.ID);
+            int n = byId.size;
+            int[] renumbered = new int[used];
+            for (int i = 0; i < n; i++) {
+                renumbered[byId.rows[i]] = i;
+            }
+            int[] stringRefs = new int[strings.refLimit()];
+            Arrays.fill(stringRefs, NONE);
+            List<String> kept = new ArrayList<>();
+
+            int[] snapshotIds = new int[n];
+            int[] snapshotAuthorIds = new int[n];
+            long[] snapshotPrices = new long[n];
+            int[][] refs = new int[4][n];
+            for (int i = 0; i < n; i++) {
+                int row = byId.rows[i];
+                snapshotIds[i] = ids[row];
+                snapshotAuthorIds[i] = authorIds[row];
+                snapshotPrices[i] = prices[row];
+                int[] rowRefs = { titles[row], descriptions[row], firstNames[row], lastNames[row] };
+                for (int c = 0; c < rowRefs.length; c++) {
+                    int ref = rowRefs[c];
+                    if (ref != StringPool.NULL_REF && stringRefs[ref] == NONE) {
+                        stringRefs[ref] = kept.size();
+                        kept.add(strings.get(ref));
+                    }
+                    refs[c][i] = ref == StringPool.NULL_REF ? StringPool.NULL_REF : stringRefs[ref];
+                }
+            }
+            int[][] sorted = new int[BookSort.values().length][];
+            for (BookSort sort : BookSort.values()) {
+                SortedRows order = orders.get(sort);
+                int[] rows = new int[n];
+                for (int i = 0; i < n; i++) {
+                    rows[i] = renumbered[order.rows[i]];
+                }
+                sorted[sort.ordinal()] = rows;
+            }
+            return new CatalogSnapshot(seq, snapshotIds, snapshotAuthorIds, snapshotPrices, refs[0], refs[1], refs[2],
+                    refs[3], sorted, kept.toArray(String[]::new));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the whole catalog with the snapshot. Its orders are taken as they are, so nothing is sorted.
+     */
+    void restore(CatalogSnapshot snapshot) {
+        lock.writeLock().lock();
+        try {
+            clear();
+            int n = snapshot.size();
+            int capacity = Math.max(1024, n);
+            ids = Arrays.copyOf(snapshot.ids(), capacity);
+            authorIds = Arrays.copyOf(snapshot.authorIds(), capacity);
+            prices = Arrays.copyOf(snapshot.prices(), capacity);
+            titles = Arrays.copyOf(snapshot.titles(), capacity);
+            descriptions = Arrays.copyOf(snapshot.descriptions(), capacity);
+            firstNames = Arrays.copyOf(snapshot.firstNames(), capacity);
+            lastNames = Arrays.copyOf(snapshot.lastNames(), capacity);
+            used = n;
+
+            int[] counts = new int[snapshot.strings().length];
+            for (int[] column : new int[][] { titles, descriptions, firstNames, lastNames }) {
+                for (int row = 0; row < n; row++) {
+                    if (column[row] != StringPool.NULL_REF) {
+                        counts[column[row]]++;
+                    }
+                }
+            }
+            strings.load(snapshot.strings(), counts);
+            for (int row = 0; row < n; row++) {
+                rowsById.add(row);
+            }
+            for (BookSort sort : BookSort.values()) {
+                SortedRows order = orders.get(sort);
+                order.rows = snapshot.orders()[sort.ordinal()].clone();
+                order.size = n;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return used - freeCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<BookAuthorVw> findById(int id) {
+        lock.readLock().lock();
+        try {
+            int row = rowOf(id);
+            return row == NONE ? Optional.empty() : Optional.of(book(row));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The books with the given ids, in the order asked for. Unknown ids are left out.
+     */
+    public List<BookAuthorVw> findAllById(Collection<Integer> bookIds) {
+        lock.readLock().lock();
+        try {
+            List<BookAuthorVw> found = new ArrayList<>(bookIds.size());
+            for (Integer id : bookIds) {
+                int row = id == null ? NONE : rowOf(id);
+                if (row != NONE) {
+                    found.add(book(row));
+                }
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The same page BookRepository.findPage would return: up to limit books in the given order, strictly after
+     * the key (null for the first page), with prices inside the inclusive bounds. The next key has the same
+     * shape and types as the database one, so cursors work across both.
+     */
+    public KeysetSlice<BookAuthorVw> findPage(BookSort sort, BigDecimal minPrice, BigDecimal maxPrice, Object[] after,
+            int limit) {
+        long min = minPrice == null ? Long.MIN_VALUE : pence(minPrice, RoundingMode.CEILING);
+        long max = maxPrice == null ? Long.MAX_VALUE : pence(maxPrice, RoundingMode.FLOOR);
+
+        lock.readLock().lock();
+        try {
+            SortedRows order = orders.get(sort);
+            int from = after == null ? 0 : order.upperBound(probe(sort, after));
+            // Price orders can start at the first price in range rather than skip up to it
+            if (sort == BookSort.PRICE_ASC && minPrice != null) {
+                from = Math.max(from, order.upperBound(new Probe(min, "", Integer.MIN_VALUE)));
+            } else if (sort == BookSort.PRICE_DESC && maxPrice != null) {
+                from = Math.max(from, order.upperBound(new Probe(max, "", Integer.MIN_VALUE)));
+            }
+
+            List<BookAuthorVw> items = new ArrayList<>(Math.min(limit, order.size));
+            int last = NONE;
+            for (int i = from; i < order.size; i++) {
+                int row = order.rows[i];
+                long price = prices[row];
+                if (price < min || price > max) {
+                    if ((sort == BookSort.PRICE_ASC && price > max) || (sort == BookSort.PRICE_DESC && price < min)) {
+                        break;
+                    }
+                    continue;
+                }
+                if (items.size() == limit) {
+                    return new KeysetSlice<>(items, keyOf(sort, last));
+                }
+                items.add(book(row));
+                last = row;
+            }
+            return new KeysetSlice<>(items, null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Approximate heap held by the columns, orders, id table and string pool.
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            long columns = (4L * 6 + 8) * ids.length;
+            long sorted = orders.values().stream().mapToLong(order -> 4L * order.rows.length).sum();
+            return columns + sorted + rowsById.estimatedBytes() + strings.estimatedBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int rowOf(int id) {
+        for (int slot = rowsById.home(id); ; slot = rowsById.next(slot)) {
+            int row = rowsById.refAt(slot);
+            if (row == NONE || ids[row] == id) {
+                return row;
+            }
+        }
+    }
+
+    private int allocate() {
+        if (freeCount > 0) {
+            return freeRows[--freeCount];
+        }
+        if (used == ids.length) {
+            int capacity = used * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            authorIds = Arrays.copyOf(authorIds, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+            titles = Arrays.copyOf(titles, capacity);
+            descriptions = Arrays.copyOf(descriptions, capacity);
+            firstNames = Arrays.copyOf(firstNames, capacity);
+            lastNames = Arrays.copyOf(lastNames, capacity);
+        }
+        return used++;
+    }
+
+    private void write(int row, BookAuthorVw book) {
+        authorIds[row] = book.getAuthorId();
+        prices[row] = book.getPrice() == null ? 0 : pence(book.getPrice(), RoundingMode.HALF_UP);
+        titles[row] = strings.intern(book.getTitle());
+        descriptions[row] = strings.intern(book.getDescription());
+        firstNames[row] = strings.intern(book.getFirstName());
+        lastNames[row] = strings.intern(book.getLastName());
+    }
+
+    private void releaseStrings(int row) {
+        strings.release(titles[row]);
+        strings.release(descriptions[row]);
+        strings.release(firstNames[row]);
+        strings.release(lastNames[row]);
+    }
+
+    private BookAuthorVw book(int row) {
+        return new BookAuthorVw(ids[row], authorIds[row], strings.get(titles[row]), BigDecimal.valueOf(prices[row], 2),
+                strings.get(descriptions[row]), strings.get(firstNames[row]), strings.get(lastNames[row]));
+    }
+
+    // Same key values KeysetSort reads off a book_catalog record, so encoded cursors are interchangeable
+    private Object[] keyOf(BookSort sort, int row) {
+        return switch (sort) {
+            case ID -> new Object[] { ids[row] };
+            case PRICE_ASC, PRICE_DESC -> new Object[] { BigDecimal.valueOf(prices[row], 2), ids[row] };
+            case TITLE -> {
+                String title = strings.get(titles[row]);
+                yield new Object[] { title == null ? "" : title, ids[row] };
+            }
+        };
+    }
+
+    private static Probe probe(BookSort sort, Object[] key) {
+        int id = (Integer) key[key.length - 1];
+        return switch (sort) {
+            case ID -> new Probe(0, "", id);
+            case PRICE_ASC, PRICE_DESC -> new Probe(
+                    key[0] == null ? 0 : pence((BigDecimal) key[0], RoundingMode.HALF_UP), "", id);
+            case TITLE -> new Probe(0, (String) key[0], id);
+        };
+    }
+
+    /**
+     * Orders titles by code point, as MySQL's utf8mb4_0900_bin does, null as "". String.compareTo compares UTF-16
+     * units instead, which puts characters outside the BMP before U+E000..U+FFFF, so units from U+D800 up are
+     * shifted into code point order first.
+     */
+    static int compareTitles(String a, String b) {
+        String left = a == null ? "" : a;
+        String right = b == null ? "" : b;
+        int n = Math.min(left.length(), right.length());
+        for (int i = 0; i < n; i++) {
+            char x = left.charAt(i);
+            char y = right.charAt(i);
+            if (x != y) {
+                return codePointOrder(x) - codePointOrder(y);
+            }
+        }
+        return left.length() - right.length();
+    }
+
+    private static int codePointOrder(char c) {
+        if (c >= 0xE000) {
+            return c - 0x800;
+        }
+        return c >= 0xD800 ? c + 0x2000 : c;
+    }
+
+    private static long pence(BigDecimal amount, RoundingMode rounding) {
+        return amount.max(MAX_AMOUNT.negate()).min(MAX_AMOUNT).setScale(2, rounding).unscaledValue().longValue();
+    }
+
+    /**
+     * Rows in one BookSort order. Every order ends with the book id, so rows never tie.
+     */
+    private final class SortedRows {
+
+        private final BookSort sort;
+        private int[] rows = new int[0];
+        private int size;
+
+        private SortedRows(BookSort sort) {
+            this.sort = sort;
+        }
+
+        private int compare(int a, int b) {
+            int c = switch (sort) {
+                case ID -> 0;
+                case PRICE_ASC -> Long.compare(prices[a], prices[b]);
+                case PRICE_DESC -> Long.compare(prices[b], prices[a]);
+                case TITLE -> compareTitles(strings.get(titles[a]), strings.get(titles[b]));
+            };
+            return c != 0 ? c : Integer.compare(ids[a], ids[b]);
+        }
+
+        private int compare(int row, Probe probe) {
+            int c = switch (sort) {
+                case ID -> 0;
+                case PRICE_ASC -> Long.compare(prices[row], probe.price());
+                case PRICE_DESC -> Long.compare(probe.price(), prices[row]);
+                case TITLE -> compareTitles(strings.get(titles[row]), probe.title());
+            };
+            return c != 0 ? c : Integer.compare(ids[row], probe.id());
+        }
+
+        // Index of the first row sorting after the probe
+        private int upperBound(Probe probe) {
+            int lo = 0;
+            int hi = size;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (compare(rows[mid], probe) <= 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        // Index of the row if present, otherwise of the first row sorting after it
+        private int lowerBound(int row) {
+            int lo = 0;
+            int hi = size;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (compare(rows[mid], row) < 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        private void insert(int row) {
+            int at = lowerBound(row);
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, Math.max(16, size * 2));
+            }
+            System.arraycopy(rows, at, rows, at + 1, size - at);
+            rows[at] = row;
+            size++;
+        }
+
+        private void remove(int row) {
+            int at = lowerBound(row);
+            if (at < size && rows[at] == row) {
+                System.arraycopy(rows, at + 1, rows, at, size - at - 1);
+                size--;
+            }
+        }
+
+        /**
+         * Merges the added rows in, leaving out the replaced ones (null for none) from their old positions. Those sit
+         * where their previous values sorted, so they are skipped without being compared.
+         */
+        private void mergeIn(int[] added, int n, BitSet replaced) {
+            int[] sorted = Arrays.copyOf(added, n);
+            sort(sorted);
+            int[] merged = new int[Math.max(16, size + n + (size + n) / 4)];
+            int i = 0;
+            int j = 0;
+            int k = 0;
+            while (i < size && j < n) {
+                if (replaced != null && replaced.get(rows[i])) {
+                    i++;
+                } else {
+                    merged[k++] = compare(rows[i], sorted[j]) <= 0 ? rows[i++] : sorted[j++];
+                }
+            }
+            for (; i < size; i++) {
+                if (replaced == null || !replaced.get(rows[i])) {
+                    merged[k++] = rows[i];
+                }
+            }
+            while (j < n) {
+                merged[k++] = sorted[j++];
+            }
+            rows = merged;
+            size = k;
+        }
+
+        // Bottom-up merge sort, since the JDK has no int[] sort that takes a comparator
+        private void sort(int[] a) {
+            int[] buffer = new int[a.length];
+            for (int width = 1; width < a.length; width *= 2) {
+                for (int lo = 0; lo < a.length - width; lo += 2 * width) {
+                    int mid = lo + width;
+                    int hi = Math.min(lo + 2 * width, a.length);
+                    int i = lo;
+                    int j = mid;
+                    int k = lo;
+                    while (i < mid && j < hi) {
+                        buffer[k++] = compare(a[i], a[j]) <= 0 ? a[i++] : a[j++];
+                    }
+                    while (i < mid) {
+                        buffer[k++] = a[i++];
+                    }
+                    while (j < hi) {
+                        buffer[k++] = a[j++];
+                    }
+                    System.arraycopy(buffer, lo, a, lo, hi - lo);
+                }
+            }
+        }
+
+        private void clear() {
+            rows = new int[0];
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.bookstore.entity.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Position after the last row of a full-text results page: (relevance score, book id).
+ * Sent to clients as an opaque URL-safe token. The score is written in hex so it decodes to the exact same double.
+ */
+public record FullTextCursor(double score, int id) {
+
+    public String encode() {
+        String raw = Double.toHexString(score) + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static FullTextCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(':');
+            return new FullTextCursor(Double.parseDouble(raw.substring(0, separator)),
+                    Integer.parseInt(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid search cursor");
+        }
+    }
+}
@@ -0,0 +1,575 @@
+package com.bookstore.entity.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Term -> sorted book id postings for titles and author names.
+ *
+ * Every query term must match (AND), the last term is treated as a prefix so results show up while the user
+ * is still typing. Hits are ranked by score (title match 2, author match 1, summed over terms), then by
+ * shorter title, then by id.
+ *
+ * searchFuzzy instead lets each term match indexed terms a few edits away, scoring closer matches higher.
+ */
+public class InvertedIndex {
+
+    private static final int TITLE_WEIGHT = 2;
+    private static final int AUTHOR_WEIGHT = 1;
+    private static final int MAX_QUERY_TERMS = 16;
+    private static final int MAX_EDITS = 2;
+    // Each query term counts at most this many of its closest indexed spellings
+    private static final int MAX_FUZZY_EXPANSIONS = 64;
+    private static final int MAX_TERM_SCORE = (TITLE_WEIGHT + AUTHOR_WEIGHT) * (MAX_EDITS + 1);
+    // Prefixes this short cover a large share of the vocabulary, so their merged postings are kept until the next write
+    private static final int SHORT_PREFIX_LENGTH = 2;
+
+    /**
+     * complete is false when a fuzzy search ran out of time before it had looked at every spelling, so the hits may
+     * miss some close matches and should not be cached.
+     */
+    public record Hits(List<Integer> ids, int total, boolean complete) {
+
+        public Hits(List<Integer> ids, int total) {
+            this(ids, total, true);
+        }
+    }
+
+    private record Doc(int authorId, List<String> titleTerms, List<String> authorTerms) {
+    }
+
+    private record FuzzyTerm(String term, int distance) {
+    }
+
+    private interface TermMatcher {
+        Candidates match(String term, boolean last, long budgetNanos);
+    }
+
+    private final NavigableMap<String, Postings> titleTerms = new TreeMap<>();
+    private final NavigableMap<String, Postings> authorTerms = new TreeMap<>();
+    private final Map<Integer, Doc> docs = new HashMap<>();
+    // Sorted snapshots of the term keys for the fuzzy walk, rebuilt on first use after a write
+    private volatile String[] titleVocabulary;
+    private volatile String[] authorVocabulary;
+    // Merged postings of short prefixes, filled under the read lock and cleared under the write lock
+    private final Map<String, int[]> titlePrefixes = new ConcurrentHashMap<>();
+    private final Map<String, int[]> authorPrefixes = new ConcurrentHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(int bookId, String title, int authorId, String authorName) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(bookId);
+            Doc doc = new Doc(authorId, distinct(Tokenizer.tokenize(title)), distinct(Tokenizer.tokenize(authorName)));
+            doc.titleTerms().forEach(term -> titleTerms.computeIfAbsent(term, t -> new Postings()).add(bookId));
+            doc.authorTerms().forEach(term -> authorTerms.computeIfAbsent(term, t -> new Postings()).add(bookId));
+            docs.put(bookId, doc);
+            vocabularyChanged();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int bookId) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(bookId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Re-tokenises the author part of every book written by the given author.
+     */
+    public void renameAuthor(int authorId, String authorName) {
+        lock.writeLock().lock();
+        try {
+            List<String> newTerms = distinct(Tokenizer.tokenize(authorName));
+            for (Map.Entry<Integer, Doc> entry : docs.entrySet()) {
+                Doc doc = entry.getValue();
+                if (doc.authorId() != authorId) {
+                    continue;
+                }
+                int bookId = entry.getKey();
+                doc.authorTerms().forEach(term -> removePosting(authorTerms, term, bookId));
+                newTerms.forEach(term -> authorTerms.computeIfAbsent(term, t -> new Postings()).add(bookId));
+                entry.setValue(new Doc(authorId, doc.titleTerms(), newTerms));
+            }
+            vocabularyChanged();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Hits search(String query, int offset, int limit) {
+        return search(query, offset, limit, 0, (term, last, budget) -> matchTerm(term, last));
+    }
+
+    /**
+     * Typo-tolerant search: every query term must match, but may match any indexed word within 0 edits up to 2
+     * characters, 1 edit up to 5 and 2 edits beyond (an edit being an insertion, deletion, substitution or swap of
+     * neighbouring characters). An exact match scores three times a two-edit one, and exact (and, for the last
+     * term, prefix) matches are always found. Each term gets an equal share of budgetNanos for the vocabulary walk;
+     * a walk that runs out keeps what it found so far and the hits come back not complete.
+     */
+    public Hits searchFuzzy(String query, int offset, int limit, long budgetNanos) {
+        return search(query, offset, limit, budgetNanos, this::matchFuzzy);
+    }
+
+    private Hits search(String query, int offset, int limit, long budgetNanos, TermMatcher matcher) {
+        List<String> terms = Tokenizer.tokenize(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return new Hits(List.of(), 0);
+        }
+        if (terms.size() > MAX_QUERY_TERMS) {
+            terms = terms.subList(0, MAX_QUERY_TERMS);
+        }
+
+        lock.readLock().lock();
+        try {
+            Candidates candidates = null;
+            for (int i = 0; i < terms.size(); i++) {
+                boolean prefix = i == terms.size() - 1;
+                Candidates termMatches = matcher.match(terms.get(i), prefix, budgetNanos / terms.size());
+                candidates = candidates == null ? termMatches : candidates.intersect(termMatches);
+                if (candidates.size == 0) {
+                    return new Hits(List.of(), 0, !candidates.partial);
+                }
+            }
+            return new Hits(rank(candidates, offset, limit), candidates.size, !candidates.partial);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeUnlocked(int bookId) {
+        Doc doc = docs.remove(bookId);
+        if (doc == null) {
+            return;
+        }
+        doc.titleTerms().forEach(term -> removePosting(titleTerms, term, bookId));
+        doc.authorTerms().forEach(term -> removePosting(authorTerms, term, bookId));
+        vocabularyChanged();
+    }
+
+    private void vocabularyChanged() {
+        titleVocabulary = null;
+        authorVocabulary = null;
+        titlePrefixes.clear();
+        authorPrefixes.clear();
+    }
+
+    private static void removePosting(Map<String, Postings> terms, String term, int bookId) {
+        Postings postings = terms.get(term);
+        if (postings != null && postings.remove(bookId) && postings.size == 0) {
+            terms.remove(term);
+        }
+    }
+
+    private Candidates matchTerm(String term, boolean prefix) {
+        int[] title = lookup(titleTerms, titlePrefixes, term, prefix);
+        int[] author = lookup(authorTerms, authorPrefixes, term, prefix);
+
+        Candidates result = new Candidates(title.length + author.length);
+        int i = 0;
+        int j = 0;
+        while (i < title.length || j < author.length) {
+            if (j == author.length || i < title.length && title[i] < author[j]) {
+                result.append(title[i++], TITLE_WEIGHT);
+            } else if (i == title.length || author[j] < title[i]) {
+                result.append(author[j++], AUTHOR_WEIGHT);
+            } else {
+                result.append(title[i++], TITLE_WEIGHT + AUTHOR_WEIGHT);
+                j++;
+            }
+        }
+        return result;
+    }
+
+    private Candidates matchFuzzy(String term, boolean prefix, long budgetNanos) {
+        int maxEdits = term.length() <= 2 ? 0 : term.length() <= 5 ? 1 : MAX_EDITS;
+        String[] titleWords = titleVocabulary;
+        if (titleWords == null) {
+            titleWords = titleTerms.keySet().toArray(new String[0]);
+            titleVocabulary = titleWords;
+        }
+        String[] authorWords = authorVocabulary;
+        if (authorWords == null) {
+            authorWords = authorTerms.keySet().toArray(new String[0]);
+            authorVocabulary = authorWords;
+        }
+        // Exact and prefix postings need no walk, so a term never loses them to the budget. The two vocabularies
+        // each get half of the term's budget, so a slow title walk cannot starve the author one
+        int[] exactTitles = lookup(titleTerms, titlePrefixes, term, prefix);
+        int[] exactAuthors = lookup(authorTerms, authorPrefixes, term, prefix);
+        Candidates title = Candidates.of(exactTitles, TITLE_WEIGHT * (MAX_EDITS + 1))
+                .union(lookupFuzzy(titleTerms, titleWords, term, maxEdits, TITLE_WEIGHT, budgetNanos / 2), Math::max);
+        Candidates author = Candidates.of(exactAuthors, AUTHOR_WEIGHT * (MAX_EDITS + 1))
+                .union(lookupFuzzy(authorTerms, authorWords, term, maxEdits, AUTHOR_WEIGHT, budgetNanos / 2),
+                        Math::max);
+        return title.union(author, Integer::sum);
+    }
+
+    private static Candidates lookupFuzzy(Map<String, Postings> terms, String[] vocabulary, String term, int maxEdits,
+            int weight, long budgetNanos) {
+        List<FuzzyTerm> matches = new ArrayList<>();
+        boolean complete = fuzzyMatches(vocabulary, term, maxEdits, System.nanoTime() + budgetNanos, matches);
+        if (matches.size() > MAX_FUZZY_EXPANSIONS) {
+            matches.sort(Comparator.comparingInt(FuzzyTerm::distance));
+            matches = matches.subList(0, MAX_FUZZY_EXPANSIONS);
+        }
+        // A book matching several spellings of the same query term scores for the closest one only
+        Candidates result = new Candidates(0);
+        for (FuzzyTerm match : matches) {
+            int[] ids = terms.get(match.term()).toArray();
+            result = result.union(Candidates.of(ids, weight * (MAX_EDITS + 1 - match.distance())), Math::max);
+        }
+        result.partial = !complete;
+        return result;
+    }
+
+    /**
+     * Indexed terms within maxEdits of the query term, found by walking the sorted vocabulary as if it were a trie.
+     * Terms sharing a prefix share its rows of the edit distance table, and once every cell of a row is above
+     * maxEdits no term under that prefix can match, so the walk jumps straight past all of them. Adds them to
+     * matches and returns false if it stopped at the deadline (a System.nanoTime() value) before the end.
+     */
+    private static boolean fuzzyMatches(String[] vocabulary, String query, int maxEdits, long deadline,
+            List<FuzzyTerm> matches) {
+        int m = query.length();
+        int[][] rows = new int[16][];
+        rows[0] = new int[m + 1];
+        for (int j = 0; j <= m; j++) {
+            rows[0][j] = j;
+        }
+
+        // The rows for every prefix of prev are filled in
+        String prev = "";
+        int i = 0;
+        // Counted apart from i, which jumps over dead prefixes, so the clock is read every 256 words actually visited
+        int steps = 0;
+        while (i < vocabulary.length) {
+            if ((steps++ & 0xFF) == 0 && System.nanoTime() - deadline > 0) {
+                return false;
+            }
+            String term = vocabulary[i];
+            int depth = commonPrefixLength(prev, term);
+            boolean dead = false;
+            while (depth < term.length() && !dead) {
+                depth++;
+                if (depth == rows.length) {
+                    rows = Arrays.copyOf(rows, depth * 2);
+                }
+                dead = !fillRow(rows, depth, term, query, maxEdits);
+            }
+            if (dead) {
+                prev = term.substring(0, depth);
+                i = skipPrefix(vocabulary, i, prev);
+                continue;
+            }
+            int distance = rows[term.length()][m];
+            if (distance <= maxEdits) {
+                matches.add(new FuzzyTerm(term, distance));
+            }
+            prev = term;
+            i++;
+        }
+        return true;
+    }
+
+    /**
+     * Index of the first word after from that does not start with the prefix (vocabulary[from] does). Gallops before
+     * bisecting, since most dead prefixes cover only a handful of words.
+     */
+    private static int skipPrefix(String[] vocabulary, int from, String prefix) {
+        int lo = from;
+        int hi = from + 1;
+        while (hi < vocabulary.length && vocabulary[hi].startsWith(prefix)) {
+            lo = hi;
+            hi = from + 2 * (hi - from);
+        }
+        hi = Math.min(hi, vocabulary.length);
+        // vocabulary[lo] starts with the prefix, vocabulary[hi] (if any) does not
+        while (hi - lo > 1) {
+            int mid = (lo + hi) >>> 1;
+            if (vocabulary[mid].startsWith(prefix)) {
+                lo = mid;
+            } else {
+                hi = mid;
+            }
+        }
+        return hi;
+    }
+
+    // Optimal string alignment distance, row by row; false once the whole row is beyond maxEdits
+    private static boolean fillRow(int[][] rows, int depth, String term, String query, int maxEdits) {
+        int m = query.length();
+        if (rows[depth] == null) {
+            rows[depth] = new int[m + 1];
+        }
+        int[] row = rows[depth];
+        int[] above = rows[depth - 1];
+        char c = term.charAt(depth - 1);
+        row[0] = depth;
+        int min = row[0];
+        for (int j = 1; j <= m; j++) {
+            int cost = c == query.charAt(j - 1) ? 0 : 1;
+            int value = Math.min(Math.min(above[j] + 1, row[j - 1] + 1), above[j - 1] + cost);
+            if (depth > 1 && j > 1 && c == query.charAt(j - 2) && term.charAt(depth - 2) == query.charAt(j - 1)) {
+                value = Math.min(value, rows[depth - 2][j - 2] + 1);
+            }
+            row[j] = value;
+            min = Math.min(min, value);
+        }
+        return min <= maxEdits;
+    }
+
+    private static int commonPrefixLength(String a, String b) {
+        int n = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < n && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    // Sorted ids; the arrays may be shared, so callers must not modify them
+    private static int[] lookup(NavigableMap<String, Postings> terms, Map<String, int[]> shortPrefixes, String term,
+            boolean prefix) {
+        if (!prefix) {
+            Postings postings = terms.get(term);
+            return postings == null ? new int[0] : postings.toArray();
+        }
+        if (term.length() <= SHORT_PREFIX_LENGTH) {
+            return shortPrefixes.computeIfAbsent(term, t -> mergePrefix(terms, t));
+        }
+        return mergePrefix(terms, term);
+    }
+
+    /**
+     * Union of the postings of every term starting with prefix. The lists are ORed into one bit set, so each id is
+     * touched once per list it is in, however many terms the prefix expands to.
+     */
+    private static int[] mergePrefix(NavigableMap<String, Postings> terms, String prefix) {
+        Collection<Postings> matching = terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values();
+        if (matching.size() <= 1) {
+            return matching.isEmpty() ? new int[0] : matching.iterator().next().toArray();
+        }
+        BitSet merged = new BitSet();
+        for (Postings postings : matching) {
+            for (int i = 0; i < postings.size; i++) {
+                merged.set(postings.ids[i]);
+            }
+        }
+        return merged.stream().toArray();
+    }
+
+    /**
+     * Picks hits [offset, offset + limit) in rank order without sorting the whole candidate set.
+     */
+    private List<Integer> rank(Candidates candidates, int offset, int limit) {
+        if (offset >= candidates.size) {
+            return List.of();
+        }
+        int wanted = (int) Math.min((long) offset + limit, candidates.size);
+
+        // Sort key: lowest key ranks first. Higher score, then shorter title, then lower id
+        long[] heap = new long[wanted];
+        int heapSize = 0;
+        for (int i = 0; i < candidates.size; i++) {
+            int bookId = candidates.ids[i];
+            int titleLength = Math.min(docs.get(bookId).titleTerms().size(), 0xFF);
+            long key = ((long) (MAX_QUERY_TERMS * MAX_TERM_SCORE - candidates.scores[i]) << 40)
+                    | ((long) titleLength << 32)
+                    | (bookId & 0xFFFFFFFFL);
+            if (heapSize < wanted) {
+                heap[heapSize++] = key;
+                siftUp(heap, heapSize - 1);
+            } else if (key < heap[0]) {
+                heap[0] = key;
+                siftDown(heap, heapSize);
+            }
+        }
+
+        Arrays.sort(heap, 0, heapSize);
+        List<Integer> ids = new ArrayList<>(heapSize - offset);
+        for (int i = offset; i < heapSize; i++) {
+            ids.add((int) heap[i]);
+        }
+        return ids;
+    }
+
+    // Max-heap on the sort key, so the worst of the current top-k sits at the root
+    private static void siftUp(long[] heap, int index) {
+        int i = index;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] >= heap[i]) {
+                return;
+            }
+            swap(heap, parent, i);
+            i = parent;
+        }
+    }
+
+    private static void siftDown(long[] heap, int size) {
+        int i = 0;
+        while (true) {
+            int largest = i;
+            int left = 2 * i + 1;
+            int right = left + 1;
+            if (left < size && heap[left] > heap[largest]) {
+                largest = left;
+            }
+            if (right < size && heap[right] > heap[largest]) {
+                largest = right;
+            }
+            if (largest == i) {
+                return;
+            }
+            swap(heap, largest, i);
+            i = largest;
+        }
+    }
+
+    private static void swap(long[] heap, int a, int b) {
+        long tmp = heap[a];
+        heap[a] = heap[b];
+        heap[b] = tmp;
+    }
+
+    private static List<String> distinct(List<String> terms) {
+        return terms.stream().distinct().toList();
+    }
+
+    /**
+     * Sorted, duplicate-free list of book ids. Book ids are auto-increment so inserts are almost always appends.
+     */
+    private static final class Postings {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        boolean remove(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+
+    /**
+     * Book ids matching every term seen so far, with their accumulated scores.
+     */
+    private static final class Candidates {
+        private final int[] ids;
+        private final int[] scores;
+        private int size;
+        // Some matches may be missing because a fuzzy walk ran out of time; carried through union and intersect
+        private boolean partial;
+
+        Candidates(int capacity) {
+            ids = new int[capacity];
+            scores = new int[capacity];
+        }
+
+        static Candidates of(int[] ids, int score) {
+            Candidates result = new Candidates(ids.length);
+            for (int id : ids) {
+                result.append(id, score);
+            }
+            return result;
+        }
+
+        void append(int id, int score) {
+            ids[size] = id;
+            scores[size] = score;
+            size++;
+        }
+
+        /**
+         * Ids in either set; an id in both gets the two scores combined.
+         */
+        Candidates union(Candidates other, IntBinaryOperator combine) {
+            Candidates result = new Candidates(size + other.size);
+            int i = 0;
+            int j = 0;
+            while (i < size || j < other.size) {
+                if (j == other.size || i < size && ids[i] < other.ids[j]) {
+                    result.append(ids[i], scores[i]);
+                    i++;
+                } else if (i == size || other.ids[j] < ids[i]) {
+                    result.append(other.ids[j], other.scores[j]);
+                    j++;
+                } else {
+                    result.append(ids[i], combine.applyAsInt(scores[i], other.scores[j]));
+                    i++;
+                    j++;
+                }
+            }
+            result.partial = partial || other.partial;
+            return result;
+        }
+
+        Candidates intersect(Candidates other) {
+            Candidates result = new Candidates(Math.min(size, other.size));
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.size) {
+                if (ids[i] < other.ids[j]) {
+                    i++;
+                } else if (other.ids[j] < ids[i]) {
+                    j++;
+                } else {
+                    result.append(ids[i], scores[i] + other.scores[j]);
+                    i++;
+                    j++;
+                }
+            }
+            result.partial = partial || other.partial;
+            return result;
+        }
+    }
+}
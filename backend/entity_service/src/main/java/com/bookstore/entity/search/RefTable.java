@@ -0,0 +1,88 @@
+package com.bookstore.entity.search;
+
+/**
+ * Open-addressing hash set of int refs (a row, a pool entry), hashed by whatever the ref points at, so the table
+ * itself is a single int[] and never boxes. Linear probing with backward-shift deletion, so there are no tombstones.
+ * Subclasses supply the hash of a ref and do their own lookups with home(), next() and refAt().
+ */
+abstract class RefTable {
+
+    static final int EMPTY = -1;
+
+    // ref + 1, so a zeroed slot is empty
+    private int[] slots = new int[16];
+    private int size;
+
+    protected abstract int hashOf(int ref);
+
+    protected final int home(int hash) {
+        int h = hash * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & (slots.length - 1);
+    }
+
+    protected final int next(int slot) {
+        return (slot + 1) & (slots.length - 1);
+    }
+
+    protected final int refAt(int slot) {
+        return slots[slot] - 1;
+    }
+
+    final void add(int ref) {
+        if ((size + 1) * 2 > slots.length) {
+            resize(slots.length * 2);
+        }
+        insert(ref);
+        size++;
+    }
+
+    final void remove(int ref) {
+        int slot = home(hashOf(ref));
+        while (refAt(slot) != ref) {
+            if (refAt(slot) == EMPTY) {
+                return;
+            }
+            slot = next(slot);
+        }
+        slots[slot] = 0;
+        size--;
+
+        // Pull later entries of the same probe run back over the hole, unless that would move one before its home
+        for (int hole = slot, i = next(slot); refAt(i) != EMPTY; i = next(i)) {
+            int home = home(hashOf(refAt(i)));
+            boolean between = hole <= i ? (home > hole && home <= i) : (home > hole || home <= i);
+            if (!between) {
+                slots[hole] = slots[i];
+                slots[i] = 0;
+                hole = i;
+            }
+        }
+    }
+
+    final void clear() {
+        slots = new int[16];
+        size = 0;
+    }
+
+    final long estimatedBytes() {
+        return 4L * slots.length;
+    }
+
+    private void insert(int ref) {
+        int slot = home(hashOf(ref));
+        while (slots[slot] != 0) {
+            slot = next(slot);
+        }
+        slots[slot] = ref + 1;
+    }
+
+    private void resize(int capacity) {
+        int[] old = slots;
+        slots = new int[capacity];
+        for (int entry : old) {
+            if (entry != 0) {
+                insert(entry - 1);
+            }
+        }
+    }
+}
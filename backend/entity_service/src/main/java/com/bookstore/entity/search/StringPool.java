@@ -0,0 +1,119 @@
+package com.bookstore.entity.search;
+
+import java.util.Arrays;
+
+/**
+ * Reference-counted, deduplicated strings addressed by int refs. Equal strings share one entry, so the many books
+ * of an author hold one copy of the name, and an entry is dropped when the last row referring to it lets go.
+ * Not thread-safe: ColumnarCatalog guards it with its own lock.
+ */
+final class StringPool {
+
+    static final int NULL_REF = -1;
+
+    private String[] strings = new String[64];
+    private int[] counts = new int[64];
+    private int used;
+    private int[] freeRefs = new int[16];
+    private int freeCount;
+    private long chars;
+
+    private final RefTable table = new RefTable() {
+        @Override
+        protected int hashOf(int ref) {
+            return strings[ref].hashCode();
+        }
+    };
+
+    int intern(String value) {
+        if (value == null) {
+            return NULL_REF;
+        }
+        int ref = find(value);
+        if (ref != RefTable.EMPTY) {
+            counts[ref]++;
+            return ref;
+        }
+        ref = allocate();
+        strings[ref] = value;
+        counts[ref] = 1;
+        chars += value.length();
+        table.add(ref);
+        return ref;
+    }
+
+    void release(int ref) {
+        if (ref == NULL_REF || --counts[ref] > 0) {
+            return;
+        }
+        table.remove(ref);
+        chars -= strings[ref].length();
+        strings[ref] = null;
+        if (freeCount == freeRefs.length) {
+            freeRefs = Arrays.copyOf(freeRefs, freeCount * 2);
+        }
+        freeRefs[freeCount++] = ref;
+    }
+
+    String get(int ref) {
+        return ref == NULL_REF ? null : strings[ref];
+    }
+
+    int size() {
+        return used - freeCount;
+    }
+
+    void clear() {
+        strings = new String[64];
+        counts = new int[64];
+        used = 0;
+        freeCount = 0;
+        chars = 0;
+        table.clear();
+    }
+
+    /**
+     * Replaces the pool with the given distinct strings, ref i being values[i] held counts[i] times.
+     */
+    void load(String[] values, int[] counts) {
+        clear();
+        int capacity = Math.max(64, values.length);
+        this.strings = Arrays.copyOf(values, capacity);
+        this.counts = Arrays.copyOf(counts, capacity);
+        used = values.length;
+        for (int ref = 0; ref < used; ref++) {
+            chars += values[ref].length();
+            table.add(ref);
+        }
+    }
+
+    // Every ref handed out so far is below this
+    int refLimit() {
+        return used;
+    }
+
+    // Roughly: the ref arrays, the table, and per string its object, array header and Latin-1 bytes
+    long estimatedBytes() {
+        return 8L * strings.length + table.estimatedBytes() + 40L * size() + chars;
+    }
+
+    private int find(String value) {
+        for (int slot = table.home(value.hashCode()); ; slot = table.next(slot)) {
+            int ref = table.refAt(slot);
+            if (ref == RefTable.EMPTY || strings[ref].equals(value)) {
+                return ref;
+            }
+        }
+    }
+
+    private int allocate() {
+        if (freeCount > 0) {
+            return freeRefs[--freeCount];
+        }
+        if (used == strings.length) {
+            strings = Arrays.copyOf(strings, used * 2);
+            counts = Arrays.copyOf(counts, used * 2);
+        }
+        return used++;
+    }
+}
@@ -0,0 +1,215 @@
+package com.bookstore.entity.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import com.bookstore.entity.models.BookSuggestion;
+
+/**
+ * Immutable prefix trie for typeahead. Every completion is reachable from the start of each of its words, so
+ * "secret ga" completes to "The Secret Garden".
+ *
+ * Completions are numbered in rank order (higher weight, then shorter, then alphabetical) and every node keeps
+ * the lowest MAX_SUGGESTIONS numbers found below it, so a lookup is one walk down the prefix with no scoring.
+ * Keys stop at MAX_KEY_LENGTH characters, so a long title adds a bounded path per word rather than one as long as
+ * the rest of the title; a node at that depth lists every completion through it, and the rare longer query filters
+ * that list.
+ */
+public final class SuggestTrie {
+
+    public static final int MAX_SUGGESTIONS = 10;
+    static final int MAX_KEY_LENGTH = 24;
+
+    private static final int[] NONE = new int[0];
+    private static final char[] NO_LABELS = new char[0];
+    private static final Builder[] NO_CHILDREN = new Builder[0];
+
+    public record Entry(BookSuggestion suggestion, long weight) {
+    }
+
+    private final BookSuggestion[] ranked;
+    private final Node root;
+
+    private SuggestTrie(BookSuggestion[] ranked, Node root) {
+        this.ranked = ranked;
+        this.root = root;
+    }
+
+    public static SuggestTrie build(Collection<Entry> entries) {
+        List<Entry> sorted = entries.stream()
+                .filter(entry -> !Tokenizer.tokenize(entry.suggestion().getText()).isEmpty())
+                .sorted(Comparator.comparingLong(Entry::weight).reversed()
+                        .thenComparingInt(entry -> entry.suggestion().getText().length())
+                        .thenComparing(entry -> entry.suggestion().getText()))
+                .toList();
+
+        Builder root = new Builder();
+        BookSuggestion[] ranked = new BookSuggestion[sorted.size()];
+        for (int rank = 0; rank < ranked.length; rank++) {
+            ranked[rank] = sorted.get(rank).suggestion();
+            String text = String.join(" ", Tokenizer.tokenize(ranked[rank].getText()));
+            // From the start of every word
+            int start = 0;
+            while (start >= 0) {
+                root.insert(text, start, rank);
+                int space = text.indexOf(' ', start);
+                start = space < 0 ? -1 : space + 1;
+            }
+        }
+        return new SuggestTrie(ranked, root.freeze());
+    }
+
+    public List<BookSuggestion> suggest(String prefix, int limit) {
+        String key = String.join(" ", Tokenizer.tokenize(prefix));
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Node node = root;
+        for (int i = 0; i < Math.min(key.length(), MAX_KEY_LENGTH) && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            return suggestPastKeys(node, key, limit);
+        }
+
+        int count = Math.min(limit, node.top.length);
+        List<BookSuggestion> suggestions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            suggestions.add(ranked[node.top[i]]);
+        }
+        return suggestions;
+    }
+
+    public int size() {
+        return ranked.length;
+    }
+
+    // The node ends the stored keys, so its completions are checked against the whole query
+    private List<BookSuggestion> suggestPastKeys(Node node, String key, int limit) {
+        List<BookSuggestion> suggestions = new ArrayList<>();
+        for (int i = 0; i < node.all.length && suggestions.size() < limit; i++) {
+            BookSuggestion suggestion = ranked[node.all[i]];
+            String text = String.join(" ", Tokenizer.tokenize(suggestion.getText()));
+            if (text.startsWith(key) || text.contains(" " + key)) {
+                suggestions.add(suggestion);
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * Children sorted by character for binary search; top holds ranks in ascending (best first) order, and all,
+     * only at MAX_KEY_LENGTH deep, every rank through the node.
+     */
+    private static final class Node {
+        private final char[] labels;
+        private final Node[] children;
+        private final int[] top;
+        private final int[] all;
+
+        Node(char[] labels, Node[] children, int[] top, int[] all) {
+            this.labels = labels;
+            this.children = children;
+            this.top = top;
+            this.all = all;
+        }
+
+        Node child(char c) {
+            int index = Arrays.binarySearch(labels, c);
+            return index >= 0 ? children[index] : null;
+        }
+    }
+
+    /**
+     * Mutable node, with children in a sorted array like Node rather than a map: most nodes have one child.
+     */
+    private static final class Builder {
+        private char[] labels = NO_LABELS;
+        private Builder[] children = NO_CHILDREN;
+        private int size;
+        // Ranks of completions with a key ending exactly here, ascending because ranks are inserted in order
+        private int[] terminal = NONE;
+
+        // Inserts text from start, cut off at MAX_KEY_LENGTH characters
+        void insert(String text, int start, int rank) {
+            Builder node = this;
+            int end = Math.min(text.length(), start + MAX_KEY_LENGTH);
+            for (int i = start; i < end; i++) {
+                node = node.child(text.charAt(i));
+            }
+            if (node.terminal.length == 0 || node.terminal[node.terminal.length - 1] != rank) {
+                node.terminal = Arrays.copyOf(node.terminal, node.terminal.length + 1);
+                node.terminal[node.terminal.length - 1] = rank;
+            }
+        }
+
+        private Builder child(char c) {
+            int index = Arrays.binarySearch(labels, 0, size, c);
+            if (index >= 0) {
+                return children[index];
+            }
+            index = -index - 1;
+            if (size == labels.length) {
+                labels = Arrays.copyOf(labels, Math.max(2, size * 2));
+                children = Arrays.copyOf(children, labels.length);
+            }
+            System.arraycopy(labels, index, labels, index + 1, size - index);
+            System.arraycopy(children, index, children, index + 1, size - index);
+            labels[index] = c;
+            children[index] = new Builder();
+            size++;
+            return children[index];
+        }
+
+        Node freeze() {
+            return freeze(0);
+        }
+
+        private Node freeze(int depth) {
+            Node[] frozen = new Node[size];
+            for (int i = 0; i < size; i++) {
+                frozen[i] = children[i].freeze(depth + 1);
+            }
+            char[] frozenLabels = Arrays.copyOf(labels, size);
+            int[] all = depth == MAX_KEY_LENGTH ? terminal : null;
+
+            // A chain node with no completions of its own shares its only child's list instead of copying it
+            if (terminal.length == 0 && frozen.length == 1) {
+                return new Node(frozenLabels, frozen, frozen[0].top, all);
+            }
+            int[] top = terminal.length > MAX_SUGGESTIONS ? Arrays.copyOf(terminal, MAX_SUGGESTIONS) : terminal;
+            for (Node child : frozen) {
+                top = mergeTop(top, child.top);
+            }
+            return new Node(frozenLabels, frozen, top, all);
+        }
+
+        // The MAX_SUGGESTIONS lowest distinct ranks of two ascending arrays
+        private static int[] mergeTop(int[] a, int[] b) {
+            int[] out = new int[Math.min(a.length + b.length, MAX_SUGGESTIONS)];
+            int i = 0;
+            int j = 0;
+            int n = 0;
+            while (n < out.length && (i < a.length || j < b.length)) {
+                int next;
+                if (j == b.length || i < a.length && a[i] < b[j]) {
+                    next = a[i++];
+                } else if (i == a.length || b[j] < a[i]) {
+                    next = b[j++];
+                } else {
+                    next = a[i++];
+                    j++;
+                }
+                out[n++] = next;
+            }
+            return n == out.length ? out : Arrays.copyOf(out, n);
+        }
+    }
+}
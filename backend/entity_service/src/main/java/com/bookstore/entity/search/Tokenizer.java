@@ -0,0 +1,39 @@
+package com.bookstore.entity.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Splits free text into lower-cased alphanumeric terms.
+ * Everything that indexes or queries book text goes through here so both sides agree on what a term is.
+ */
+public final class Tokenizer {
+
+    private Tokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i < lower.length(); i++) {
+            if (Character.isLetterOrDigit(lower.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                terms.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            terms.add(lower.substring(start));
+        }
+        return terms;
+    }
+}
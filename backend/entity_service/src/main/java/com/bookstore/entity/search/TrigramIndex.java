@@ -0,0 +1,185 @@
+package com.bookstore.entity.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Case- and accent-insensitive substring search over one short text per id (e.g. an author's last name).
+ *
+ * Every text is split into overlapping three-character grams, each with a sorted id posting list. A query of
+ * three or more characters intersects the postings of its own grams, smallest first, and only the surviving
+ * candidates are checked with a real contains(), so a match never depends on how the grams happened to line up.
+ * Shorter queries have no gram to look up and check every text instead.
+ */
+public class TrigramIndex {
+
+    private static final int GRAM = 3;
+    private static final int[] NONE = new int[0];
+
+    private final Map<Integer, String> texts = new HashMap<>();
+    private final Map<String, int[]> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(int id, String text) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(id);
+            String normalized = normalize(text);
+            texts.put(id, normalized);
+            for (String gram : grams(normalized)) {
+                postings.merge(gram, new int[] { id }, TrigramIndex::insert);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int id) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return texts.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids whose text contains the query, in ascending order. A blank query matches nothing.
+     */
+    public int[] search(String query) {
+        String needle = normalize(query);
+        if (needle.isBlank()) {
+            return NONE;
+        }
+
+        lock.readLock().lock();
+        try {
+            if (needle.length() < GRAM) {
+                return texts.entrySet().stream()
+                        .filter(entry -> entry.getValue().contains(needle))
+                        .mapToInt(Map.Entry::getKey)
+                        .sorted()
+                        .toArray();
+            }
+
+            List<int[]> lists = new ArrayList<>();
+            for (String gram : grams(needle)) {
+                int[] ids = postings.get(gram);
+                if (ids == null) {
+                    return NONE;
+                }
+                lists.add(ids);
+            }
+            // Start from the rarest gram so every intersection step is as small as it can be
+            lists.sort(Comparator.comparingInt(ids -> ids.length));
+            int[] candidates = lists.get(0);
+            for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+                candidates = intersect(candidates, lists.get(i));
+            }
+
+            int[] matches = new int[candidates.length];
+            int n = 0;
+            for (int id : candidates) {
+                if (texts.get(id).contains(needle)) {
+                    matches[n++] = id;
+                }
+            }
+            return Arrays.copyOf(matches, n);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeUnlocked(int id) {
+        String text = texts.remove(id);
+        if (text == null) {
+            return;
+        }
+        for (String gram : grams(text)) {
+            postings.computeIfPresent(gram, (g, ids) -> {
+                int index = Arrays.binarySearch(ids, id);
+                if (index < 0) {
+                    return ids;
+                }
+                if (ids.length == 1) {
+                    return null;
+                }
+                int[] out = new int[ids.length - 1];
+                System.arraycopy(ids, 0, out, 0, index);
+                System.arraycopy(ids, index + 1, out, index, ids.length - index - 1);
+                return out;
+            });
+        }
+    }
+
+    // Lower-cased with accents stripped, the same equivalence MySQL's default _ai_ci collation uses for LIKE
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> grams(String text) {
+        List<String> grams = new ArrayList<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            String gram = text.substring(i, i + GRAM);
+            if (!grams.contains(gram)) {
+                grams.add(gram);
+            }
+        }
+        return grams;
+    }
+
+    // Posting lists are copy-on-write sorted arrays: authors change rarely and are read on every keystroke
+    private static int[] insert(int[] ids, int[] single) {
+        int id = single[0];
+        int index = Arrays.binarySearch(ids, id);
+        if (index >= 0) {
+            return ids;
+        }
+        int at = -index - 1;
+        int[] out = new int[ids.length + 1];
+        System.arraycopy(ids, 0, out, 0, at);
+        out[at] = id;
+        System.arraycopy(ids, at, out, at + 1, ids.length - at);
+        return out;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (b[j] < a[i]) {
+                j++;
+            } else {
+                out[n++] = a[i++];
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+}
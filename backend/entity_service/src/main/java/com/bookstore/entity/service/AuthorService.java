@@ -1,25 +1,87 @@
 package com.bookstore.entity.service;
 
+import static com.example.database.generated.tables.Author.AUTHOR;
+
+import com.bookstore.entity.cache.AuthorListingCache;
+import com.bookstore.entity.cache.CachedPage;
+import com.bookstore.entity.events.AuthorChangedEvent;
+import com.bookstore.entity.events.ChangeType;
 import com.bookstore.entity.models.AuthorCreateRequest;
+import com.bookstore.entity.search.AuthorSearchIndex;
+import com.example.common.pagination.KeysetPage;
+import com.example.common.pagination.KeysetPagination;
+import com.example.common.pagination.KeysetSort;
+import com.example.database.generated.tables.pojos.BookAuthorVw;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 import com.bookstore.entity.repository.AuthorRepository;
+import com.bookstore.entity.repository.BookRepository;
+import com.bookstore.entity.search.BookFacetCounts;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@Slf4j
 @Transactional
 @RequiredArgsConstructor
 public class AuthorService {
 
+    private static final KeysetSort AUTHOR_ORDER = KeysetSort.named("author_id").asc(AUTHOR.ID);
+    static final int DEFAULT_BOOKS_PAGE_SIZE = 20;
+
     private final AuthorRepository authorRepository;
+    private final AuthorListingCache authorListingCache;
+    private final AuthorSearchIndex authorSearchIndex;
+    private final BookRepository bookRepository;
+    private final BookFacetCounts bookFacetCounts;
+    private final ApplicationEventPublisher eventPublisher;
+    private final KeysetPagination keysetPagination;
+
+    /**
+     * One keyset page of authors, already serialized, from the in-memory author snapshot.
+     * A cursor takes precedence over prevPageLastAuthorId.
+     */
+    public CachedPage getAuthorPage(Integer prevPageLastAuthorId, Integer size, String cursor) {
+        Object[] after = keysetPagination.decode(AUTHOR_ORDER, cursor);
+        int afterId = after != null ? (Integer) after[0] : prevPageLastAuthorId == null ? 0 : prevPageLastAuthorId;
+
+        AuthorListingCache.Page page = authorListingCache.page(afterId,
+                keysetPagination.pageSize(size, AuthorListingCache.PAGE_SIZE));
+        String nextCursor = page.nextAfterId() == null
+                ? null
+                : keysetPagination.encode(AUTHOR_ORDER, new Object[] { page.nextAfterId() });
+        return new CachedPage(page.json(), nextCursor);
+    }
+
+    /**
+     * One keyset page of the author's books in id order. 404 for an author that does not exist. The author snapshot
+     * answers for known authors; one it does not have yet (just created, possibly through another instance) is
+     * looked up in the database before giving up.
+     */
+    public KeysetPage<BookAuthorVw> getBooksByAuthor(Integer authorId, Integer size, String cursor) {
+        if (!authorListingCache.containsAuthor(authorId) && !authorRepository.existsById(authorId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Author not found with id: " + authorId);
+        }
+        Object[] after = keysetPagination.decode(BookRepository.AUTHOR_BOOKS_ORDER, cursor);
+        int pageSize = keysetPagination.pageSize(size, DEFAULT_BOOKS_PAGE_SIZE);
+        return keysetPagination.toPage(bookRepository.findPageByAuthor(authorId, after, pageSize),
+                BookRepository.AUTHOR_BOOKS_ORDER);
+    }
 
-    public List<com.example.database.generated.tables.pojos.Author> getAllAuthors() {
-        return authorRepository.findAll();
+    /**
+     * Number of books by the author, from the in-memory facet counts once they are built.
+     */
+    public long countBooksByAuthor(Integer authorId) {
+        Long counted = bookFacetCounts.countForAuthor(authorId);
+        return counted != null ? counted : bookRepository.countByAuthor(authorId);
     }
 
     public Optional<com.example.database.generated.tables.pojos.Author> getAuthorById(Integer id) {
@@ -27,7 +89,8 @@ public class AuthorService {
     }
 
     public void createAuthor(AuthorCreateRequest author) {
-        authorRepository.save(author);
+        Integer id = authorRepository.save(author);
+        eventPublisher.publishEvent(new AuthorChangedEvent(id, ChangeType.CREATED));
     }
 
     public void updateAuthor(Integer id, AuthorCreateRequest authorDetails) {
@@ -35,6 +98,7 @@ public class AuthorService {
 
         if (existing != null) {
             authorRepository.update(existing, authorDetails);
+            eventPublisher.publishEvent(new AuthorChangedEvent(id, ChangeType.UPDATED));
         } else {
             throw new RuntimeException("Author not found with id: " + id);
         }
@@ -44,12 +108,31 @@ public class AuthorService {
         return authorRepository.findById(id)
                 .map(author -> {
                     authorRepository.deleteById(id);
+                    eventPublisher.publishEvent(new AuthorChangedEvent(id, ChangeType.DELETED));
                     return true;
                 })
                 .orElse(false);
     }
 
+    /**
+     * Authors whose last name contains the text, answered from the in-memory trigram index.
+     */
     public List<com.example.database.generated.tables.pojos.Author> searchAuthors(String lastName) {
-        return authorRepository.findByLastNameContaining(lastName);
+        if (!authorSearchIndex.isReady()) {
+            log.debug("Author search index not ready, falling back to database for '{}'", lastName);
+            return authorRepository.findByLastNameContaining(lastName);
+        }
+        return authorSearchIndex.searchLastName(lastName);
+    }
+
+    /**
+     * Authors whose "first last" name contains the text, answered from the in-memory trigram index.
+     */
+    public List<com.example.database.generated.tables.pojos.Author> searchAuthorsByName(String name) {
+        if (!authorSearchIndex.isReady()) {
+            log.debug("Author search index not ready, falling back to database for '{}'", name);
+            return authorRepository.findByNameContaining(name);
+        }
+        return authorSearchIndex.searchName(name);
     }
 }
@@ -0,0 +1,35 @@
+package com.bookstore.entity.service;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.bookstore.entity.repository.BookCatalogRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Brings book_catalog back in line with book and author on startup.
+ * Runs before ApplicationReadyEvent, so the in-memory indexes built on ready already read a consistent catalog.
+ *
+ * Opt-in repair tool: it rewrites every catalog row, so it is off by default and meant for one start (or one
+ * instance) with bookstore.catalog.backfill-on-startup=true. The Liquibase changeset that created book_catalog
+ * already filled it, and every write keeps it in sync after that.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "bookstore.catalog.backfill-on-startup", havingValue = "true", matchIfMissing = false)
+public class BookCatalogBackfill implements ApplicationRunner {
+
+    private final BookCatalogRepository bookCatalogRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.currentTimeMillis();
+        int changed = bookCatalogRepository.backfill();
+        log.info("Backfilled book_catalog ({} rows affected) in {} ms", changed, System.currentTimeMillis() - start);
+    }
+}
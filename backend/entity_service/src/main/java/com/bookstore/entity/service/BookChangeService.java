@@ -0,0 +1,43 @@
+package com.bookstore.entity.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.bookstore.entity.models.BookChangesResponse;
+import com.bookstore.entity.repository.BookChangeLogRepository;
+import com.example.database.generated.tables.pojos.BookChangeLog;
+
+/**
+ * Pages through book_change_log so clients can apply deltas instead of re-reading the catalog.
+ * A client starts at since=0 (or the seq it last saw) and keeps passing back nextSince.
+ */
+@Service
+public class BookChangeService {
+
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 1000;
+
+    private final BookChangeLogRepository bookChangeLogRepository;
+    private final int gapTimeoutSeconds;
+
+    public BookChangeService(BookChangeLogRepository bookChangeLogRepository,
+            @Value("${bookstore.changes.gap-timeout-seconds:60}") int gapTimeoutSeconds) {
+        this.bookChangeLogRepository = bookChangeLogRepository;
+        this.gapTimeoutSeconds = gapTimeoutSeconds;
+    }
+
+    public BookChangesResponse getChanges(long since, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // Fetch one extra row to know whether there is a next page
+        List<BookChangeLog> rows = bookChangeLogRepository.findSince(Math.max(since, 0), gapTimeoutSeconds,
+                pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<BookChangeLog> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        long nextSince = page.isEmpty() ? Math.max(since, 0) : page.get(page.size() - 1).getSeq();
+        return new BookChangesResponse(page, nextSince, hasMore);
+    }
+}
@@ -0,0 +1,88 @@
+package com.bookstore.entity.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import org.springframework.stereotype.Service;
+
+import com.bookstore.entity.models.BookSort;
+import com.bookstore.entity.models.ExportFormat;
+import com.bookstore.entity.repository.BookRepository;
+import com.example.common.pagination.KeysetSlice;
+import com.example.database.generated.tables.pojos.BookAuthorVw;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Writes the whole catalog to a stream in id order, reading it in keyset pages of PAGE_SIZE rows.
+ * Each page is a short query of its own, so the connection goes back to the pool before any of it is written and a
+ * slow client never holds it. Memory use does not grow with the catalog; the first page is flushed as soon as it
+ * is written.
+ */
+@Service
+@RequiredArgsConstructor
+public class BookExportService {
+
+    static final String CSV_HEADER = "id,author_id,title,price,description,first_name,last_name";
+    static final int PAGE_SIZE = 1000;
+
+    private final BookRepository bookRepository;
+    private final ObjectMapper objectMapper;
+
+    // Deliberately not @Transactional: that would pin one connection for the whole export
+    public void export(ExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        Object[] after = null;
+        do {
+            KeysetSlice<BookAuthorVw> page = bookRepository.findPage(BookSort.ID, null, null, after, PAGE_SIZE);
+            for (BookAuthorVw book : page.items()) {
+                writer.write(format == ExportFormat.CSV ? toCsv(book) : toJson(book));
+                writer.write('\n');
+            }
+            // Get the first page out now; after that the buffer flushes itself as it fills
+            if (after == null) {
+                writer.flush();
+            }
+            after = page.nextKey();
+        } while (after != null);
+        writer.flush();
+    }
+
+    private String toJson(BookAuthorVw book) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(book);
+    }
+
+    static String toCsv(BookAuthorVw book) {
+        return String.join(",",
+                Objects.toString(book.getId(), ""),
+                Objects.toString(book.getAuthorId(), ""),
+                csvField(book.getTitle()),
+                book.getPrice() == null ? "" : book.getPrice().toPlainString(),
+                csvField(book.getDescription()),
+                csvField(book.getFirstName()),
+                csvField(book.getLastName()));
+    }
+
+    // Quotes a value only when it needs it, doubling any quotes inside
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
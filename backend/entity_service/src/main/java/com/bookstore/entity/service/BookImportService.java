@@ -0,0 +1,144 @@
+package com.bookstore.entity.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bookstore.entity.events.BooksImportedEvent;
+import com.bookstore.entity.models.BookCreateRequest;
+import com.bookstore.entity.models.BookImportResponse;
+import com.bookstore.entity.models.ImportFormat;
+import com.bookstore.entity.repository.AuthorRepository;
+import com.bookstore.entity.repository.BookRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bulk book import. The upload is read one row at a time and written in chunks of CHUNK_SIZE, each chunk as one
+ * multi-row INSERT in its own transaction, so a large upload neither sits in memory nor holds one long transaction.
+ * Invalid rows are reported and skipped; a chunk the database rejects is rolled back on its own. Author ids are
+ * checked against the author table with one query per chunk.
+ */
+@Service
+@Slf4j
+public class BookImportService {
+
+    static final int CHUNK_SIZE = 1000;
+    static final int MAX_TITLE_LENGTH = 255;
+    // book.price is DECIMAL(10, 2)
+    static final BigDecimal MAX_PRICE = new BigDecimal("99999999.99");
+
+    private final BookRepository bookRepository;
+    private final AuthorRepository authorRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public BookImportService(BookRepository bookRepository, AuthorRepository authorRepository,
+            ApplicationEventPublisher eventPublisher, ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager) {
+        this.bookRepository = bookRepository;
+        this.authorRepository = authorRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public BookImportResponse importBooks(ImportFormat format, InputStream in) throws IOException {
+        UploadReader.RowSource<BookCreateRequest> source = format == ImportFormat.CSV
+                ? UploadReader.csvRows(in, List.of("author_id", "title"),
+                        "CSV header must name at least author_id and title", "author_id and price must be numbers",
+                        BookImportService::fromCsv)
+                : UploadReader.jsonRows(objectMapper, in, BookCreateRequest.class, "Expected a JSON array of books",
+                        "Invalid book");
+
+        // Rows read before a failure are still imported
+        UploadReader.Chunks<BookImportResponse.Chunk> result = UploadReader.readChunks(source, CHUNK_SIZE,
+                this::importChunk);
+
+        long inserted = result.chunks().stream().mapToLong(BookImportResponse.Chunk::getInserted).sum();
+        log.info("Imported {} of {} books in {} chunks", inserted, result.rows(), result.chunks().size());
+        return new BookImportResponse(result.rows(), inserted, result.chunks(), result.failure());
+    }
+
+    private BookImportResponse.Chunk importChunk(int index, List<UploadReader.Row<BookCreateRequest>> rows) {
+        Set<Integer> authorIds = new HashSet<>();
+        for (UploadReader.Row<BookCreateRequest> row : rows) {
+            if (row.error() == null && row.value().getAuthorId() != null) {
+                authorIds.add(row.value().getAuthorId());
+            }
+        }
+        Set<Integer> knownAuthorIds = authorIds.isEmpty() ? Set.of() : authorRepository.findExistingIds(authorIds);
+
+        List<BookImportResponse.RowError> errors = new ArrayList<>();
+        List<BookCreateRequest> valid = new ArrayList<>(rows.size());
+        for (UploadReader.Row<BookCreateRequest> row : rows) {
+            String error = row.error() != null ? row.error() : validate(row.value(), knownAuthorIds);
+            if (error != null) {
+                errors.add(new BookImportResponse.RowError(row.number(), error));
+            } else {
+                valid.add(row.value());
+            }
+        }
+
+        long firstRow = rows.get(0).number();
+        if (valid.isEmpty()) {
+            return new BookImportResponse.Chunk(index, firstRow, rows.size(), 0, errors, null);
+        }
+        try {
+            List<Integer> ids = transactionTemplate.execute(status -> {
+                List<Integer> created = bookRepository.saveAll(valid);
+                eventPublisher.publishEvent(new BooksImportedEvent(created));
+                return created;
+            });
+            return new BookImportResponse.Chunk(index, firstRow, rows.size(), ids.size(), errors, null);
+        } catch (RuntimeException e) {
+            // Don't put SQL in the response, same as GlobalExceptionHandler
+            log.warn("Bulk import chunk {} starting at row {} rolled back", index, firstRow, e);
+            return new BookImportResponse.Chunk(index, firstRow, rows.size(), 0, errors,
+                    "Rejected by the database, no rows from this chunk were saved");
+        }
+    }
+
+    private String validate(BookCreateRequest book, Set<Integer> knownAuthorIds) {
+        if (book.getAuthorId() == null) {
+            return "authorId is required";
+        }
+        if (!knownAuthorIds.contains(book.getAuthorId())) {
+            return "Unknown authorId " + book.getAuthorId();
+        }
+        if (book.getTitle() == null || book.getTitle().isBlank()) {
+            return "title is required";
+        }
+        if (book.getTitle().length() > MAX_TITLE_LENGTH) {
+            return "title is longer than " + MAX_TITLE_LENGTH + " characters";
+        }
+        if (book.getPrice() != null
+                && (book.getPrice().signum() < 0 || book.getPrice().compareTo(MAX_PRICE) > 0
+                        || book.getPrice().scale() > 2)) {
+            return "price must be between 0 and " + MAX_PRICE + " with at most 2 decimals";
+        }
+        return null;
+    }
+
+    private static BookCreateRequest fromCsv(UnaryOperator<String> field) {
+        String authorId = field.apply("author_id");
+        String price = field.apply("price");
+        return new BookCreateRequest(
+                authorId == null ? null : Integer.valueOf(authorId.trim()),
+                field.apply("title"),
+                price == null ? null : new BigDecimal(price.trim()),
+                field.apply("description"));
+    }
+}
@@ -0,0 +1,131 @@
+package com.bookstore.entity.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bookstore.entity.events.BooksRepricedEvent;
+import com.bookstore.entity.models.BookPriceChange;
+import com.bookstore.entity.models.BookRepriceResponse;
+import com.bookstore.entity.models.ImportFormat;
+import com.bookstore.entity.repository.BookRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bulk repricing. Like BookImportService, the upload is read one row at a time and applied in chunks of CHUNK_SIZE,
+ * each chunk as one JDBC batch of UPDATEs in its own transaction, so tens of thousands of prices neither sit in
+ * memory nor hold one long transaction. Each committed chunk publishes a single BooksRepricedEvent, so the in-memory
+ * catalog and caches are refreshed once per chunk rather than once per book. Invalid rows and unknown books are
+ * reported and skipped; a chunk the database rejects is rolled back on its own.
+ */
+@Service
+@Slf4j
+public class BookRepriceService {
+
+    static final int CHUNK_SIZE = 1000;
+
+    private final BookRepository bookRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public BookRepriceService(BookRepository bookRepository, ApplicationEventPublisher eventPublisher,
+            ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.bookRepository = bookRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public BookRepriceResponse reprice(ImportFormat format, InputStream in) throws IOException {
+        UploadReader.RowSource<BookPriceChange> source = format == ImportFormat.CSV
+                ? UploadReader.csvRows(in, List.of("book_id", "price"), "CSV header must name book_id and price",
+                        "book_id and price must be numbers", BookRepriceService::fromCsv)
+                : UploadReader.jsonRows(objectMapper, in, BookPriceChange.class,
+                        "Expected a JSON array of price changes", "Invalid price change");
+
+        // Rows read before a failure are still applied
+        UploadReader.Chunks<BookRepriceResponse.Chunk> result = UploadReader.readChunks(source, CHUNK_SIZE,
+                this::repriceChunk);
+
+        long updated = result.chunks().stream().mapToLong(BookRepriceResponse.Chunk::getUpdated).sum();
+        log.info("Repriced {} books from {} rows in {} chunks", updated, result.rows(), result.chunks().size());
+        return new BookRepriceResponse(result.rows(), updated, result.chunks(), result.failure());
+    }
+
+    private BookRepriceResponse.Chunk repriceChunk(int index, List<UploadReader.Row<BookPriceChange>> rows) {
+        List<BookRepriceResponse.RowError> errors = new ArrayList<>();
+        List<UploadReader.Row<BookPriceChange>> valid = new ArrayList<>(rows.size());
+        for (UploadReader.Row<BookPriceChange> row : rows) {
+            String error = row.error() != null ? row.error() : validate(row.value());
+            if (error != null) {
+                errors.add(new BookRepriceResponse.RowError(row.number(), error));
+            } else {
+                valid.add(row);
+            }
+        }
+
+        long firstRow = rows.get(0).number();
+        if (valid.isEmpty()) {
+            return new BookRepriceResponse.Chunk(index, firstRow, rows.size(), 0, errors, null);
+        }
+        try {
+            List<Integer> ids = transactionTemplate.execute(status -> {
+                List<Integer> changed = bookRepository.updatePrices(
+                        valid.stream().map(UploadReader.Row::value).toList());
+                if (!changed.isEmpty()) {
+                    eventPublisher.publishEvent(new BooksRepricedEvent(changed));
+                }
+                return changed;
+            });
+            Set<Integer> found = new HashSet<>(ids);
+            for (UploadReader.Row<BookPriceChange> row : valid) {
+                if (!found.contains(row.value().getBookId())) {
+                    errors.add(new BookRepriceResponse.RowError(row.number(),
+                            "Unknown bookId " + row.value().getBookId()));
+                }
+            }
+            errors.sort((a, b) -> Long.compare(a.getRow(), b.getRow()));
+            return new BookRepriceResponse.Chunk(index, firstRow, rows.size(), ids.size(), errors, null);
+        } catch (RuntimeException e) {
+            // Don't put SQL in the response, same as GlobalExceptionHandler
+            log.warn("Repricing chunk {} starting at row {} rolled back", index, firstRow, e);
+            return new BookRepriceResponse.Chunk(index, firstRow, rows.size(), 0, errors,
+                    "Rejected by the database, no prices from this chunk were saved");
+        }
+    }
+
+    private static String validate(BookPriceChange change) {
+        if (change.getBookId() == null) {
+            return "bookId is required";
+        }
+        if (change.getPrice() == null) {
+            return "price is required";
+        }
+        if (change.getPrice().signum() < 0 || change.getPrice().compareTo(BookImportService.MAX_PRICE) > 0
+                || change.getPrice().scale() > 2) {
+            return "price must be between 0 and " + BookImportService.MAX_PRICE + " with at most 2 decimals";
+        }
+        return null;
+    }
+
+    private static BookPriceChange fromCsv(UnaryOperator<String> field) {
+        String bookId = field.apply("book_id");
+        String price = field.apply("price");
+        return new BookPriceChange(
+                bookId == null ? null : Integer.valueOf(bookId.trim()),
+                price == null ? null : new BigDecimal(price.trim()));
+    }
+}
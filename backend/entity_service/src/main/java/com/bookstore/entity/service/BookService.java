@@ -1,34 +1,171 @@
 package com.bookstore.entity.service;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import com.bookstore.entity.cache.BookCache;
+import com.bookstore.entity.cache.BookResponseCache;
+import com.bookstore.entity.cache.CachedJson;
+import com.bookstore.entity.cache.CachedPage;
+import com.bookstore.entity.cache.SearchResultCache;
+import com.bookstore.entity.events.BookChangedEvent;
+import com.bookstore.entity.events.ChangeType;
+import com.bookstore.entity.models.BookBatchResponse;
 import com.bookstore.entity.models.BookCreateRequest;
+import com.bookstore.entity.models.BookFacets;
+import com.bookstore.entity.models.BookField;
+import com.bookstore.entity.models.BookSearchResponse;
+import com.bookstore.entity.models.BookSort;
+import com.bookstore.entity.models.BookSuggestion;
+import com.bookstore.entity.models.SearchMode;
 import com.bookstore.entity.repository.BookRepository;
+import com.bookstore.entity.search.BookCatalogStore;
+import com.bookstore.entity.search.BookFacetCounts;
+import com.bookstore.entity.search.BookSearchIndex;
+import com.bookstore.entity.search.BookSuggestIndex;
+import com.bookstore.entity.search.FullTextCursor;
+import com.bookstore.entity.search.InvertedIndex;
+import com.bookstore.entity.search.SuggestTrie;
+import com.example.common.pagination.KeysetPage;
+import com.example.common.pagination.KeysetPagination;
+import com.example.common.pagination.KeysetSlice;
+import com.example.common.pagination.KeysetSort;
 import com.example.database.generated.tables.pojos.BookAuthorVw;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 @Service
+@Slf4j
 @Transactional
 @RequiredArgsConstructor
 public class BookService {
 
+    static final int DEFAULT_PAGE_SIZE = 10;
+    static final int MAX_SEARCH_PAGE_SIZE = 100;
+    static final int MAX_BATCH_SIZE = 250;
+
     private final BookRepository bookRepository;
+    private final BookCache bookCache;
+    private final BookSearchIndex bookSearchIndex;
+    private final BookSuggestIndex bookSuggestIndex;
+    private final BookFacetCounts bookFacetCounts;
+    private final BookCatalogStore bookCatalogStore;
+    private final SearchResultCache searchResultCache;
+    private final BookResponseCache bookResponseCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final KeysetPagination keysetPagination;
+
+    /**
+     * Keyset-paged catalog listing, optionally limited to a price range. Without a cursor, prevPageLastBookId still
+     * works for the default id order. Books carry only the requested fields.
+     */
+    public KeysetPage<BookAuthorVw> getAllBooks(Integer prevPageLastBookId, BookSort sort, BigDecimal minPrice,
+            BigDecimal maxPrice, Integer size, String cursor, Set<BookField> fields) {
+        if ((minPrice != null && minPrice.signum() < 0) || (maxPrice != null && maxPrice.signum() < 0)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "minPrice and maxPrice cannot be negative");
+        }
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "minPrice cannot be above maxPrice");
+        }
+        KeysetSort keyset = sort.getKeyset();
+        Object[] after = keysetPagination.decode(keyset, cursor);
+        if (after == null && sort == BookSort.ID && prevPageLastBookId != null && prevPageLastBookId > 0) {
+            after = new Object[] { prevPageLastBookId };
+        }
+        int pageSize = keysetPagination.pageSize(size, DEFAULT_PAGE_SIZE);
+        KeysetSlice<BookAuthorVw> slice = bookCatalogStore.isReady()
+                ? project(bookCatalogStore.findPage(sort, minPrice, maxPrice, after, pageSize), fields)
+                : bookRepository.findPage(sort, minPrice, maxPrice, after, pageSize, fields);
+        return keysetPagination.toPage(slice, keyset);
+    }
+
+    /**
+     * getAllBooks as ready-to-write JSON, built once per catalog version and request and then served from the
+     * response cache.
+     */
+    public CachedPage getAllBooksJson(Integer prevPageLastBookId, BookSort sort, BigDecimal minPrice,
+            BigDecimal maxPrice, Integer size, String cursor, Set<BookField> fields) {
+        BookResponseCache.PageRequest request = new BookResponseCache.PageRequest(prevPageLastBookId, sort, minPrice,
+                maxPrice, size, cursor, fields);
+        return bookResponseCache.page(request,
+                () -> getAllBooks(prevPageLastBookId, sort, minPrice, maxPrice, size, cursor, fields));
+    }
 
-    public List<BookAuthorVw> getAllBooks(Integer prevPageLastBookId) {
-        return bookRepository.findAll(prevPageLastBookId);
+    /**
+     * Book counts per price band and per author, kept in memory rather than grouped per request.
+     */
+    public BookFacets getFacets() {
+        return bookFacetCounts.getFacets();
     }
 
     public Optional<BookAuthorVw> getBookById(Integer id) {
-        return bookRepository.findById(id);
+        if (bookCatalogStore.isReady()) {
+            return bookCatalogStore.findById(id);
+        }
+        return bookCache.get(id, bookRepository::findById);
+    }
+
+    /**
+     * getBookById as ready-to-write JSON, from the response cache while the catalog is unchanged.
+     */
+    public Optional<CachedJson> getBookJson(Integer id) {
+        return bookResponseCache.book(id, () -> getBookById(id));
+    }
+
+    /**
+     * Resolves many books at once: from the in-memory catalog once it is loaded, before that cached ones from memory
+     * and the rest in a single WHERE id IN (...) query.
+     */
+    public BookBatchResponse getBooksByIds(List<Integer> ids, Set<BookField> fields) {
+        List<Integer> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinctIds.size() > MAX_BATCH_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + MAX_BATCH_SIZE + " ids can be requested at once");
+        }
+
+        Map<Integer, BookAuthorVw> found = bookCatalogStore.isReady()
+                ? byId(bookCatalogStore.findAllById(distinctIds))
+                : bookCache.getAll(distinctIds, missing -> byId(bookRepository.findAllById(missing)));
+
+        List<BookAuthorVw> books = new ArrayList<>(distinctIds.size());
+        List<Integer> missingIds = new ArrayList<>();
+        for (Integer id : distinctIds) {
+            BookAuthorVw book = found.get(id);
+            if (book != null) {
+                books.add(BookField.project(book, fields));
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new BookBatchResponse(books, missingIds);
+    }
+
+    private static KeysetSlice<BookAuthorVw> project(KeysetSlice<BookAuthorVw> slice, Set<BookField> fields) {
+        return new KeysetSlice<>(slice.items().stream().map(book -> BookField.project(book, fields)).toList(),
+                slice.nextKey());
+    }
+
+    private static Map<Integer, BookAuthorVw> byId(List<BookAuthorVw> books) {
+        return books.stream().collect(Collectors.toMap(BookAuthorVw::getId, Function.identity()));
     }
 
     public void createBook(BookCreateRequest book) {
-        bookRepository.save(book);
+        Integer id = bookRepository.save(book);
+        eventPublisher.publishEvent(new BookChangedEvent(id, ChangeType.CREATED));
     }
 
     public void updateBook(Integer id, BookCreateRequest bookDetails) {
@@ -36,6 +173,7 @@ public class BookService {
 
         if (existing != null) {
             bookRepository.update(existing, bookDetails);
+            eventPublisher.publishEvent(new BookChangedEvent(id, ChangeType.UPDATED));
         } else {
             throw new RuntimeException("Book not found with id: " + id);
         }
@@ -45,12 +183,88 @@ public class BookService {
         return bookRepository.findById(id)
                 .map(book -> {
                     bookRepository.deleteById(id);
+                    eventPublisher.publishEvent(new BookChangedEvent(id, ChangeType.DELETED));
                     return true;
                 })
                 .orElse(false);
     }
 
-    public List<BookAuthorVw> searchBooks(String title) {
-        return bookRepository.findByTitleContaining(title);
+    /**
+     * Ranked search over titles and author names, answered from the in-memory index.
+     * Only the requested page is read from the database, and repeated queries come from the result cache.
+     */
+    public BookSearchResponse searchBooks(String title, int page, int size, Set<BookField> fields) {
+        return searchIndex(SearchMode.INDEX, title, page, size, fields);
+    }
+
+    /**
+     * Like searchBooks, but query terms may be misspelled by one edit (terms of 3-5 characters) or two (longer
+     * terms). Exact matches rank above close ones, and the lookup gives up on further spellings once its latency
+     * budget is spent; such a page is not cached.
+     */
+    public BookSearchResponse searchBooksFuzzy(String title, int page, int size, Set<BookField> fields) {
+        return searchIndex(SearchMode.FUZZY, title, page, size, fields);
+    }
+
+    private BookSearchResponse searchIndex(SearchMode mode, String title, int page, int size,
+            Set<BookField> fields) {
+        int pageNumber = Math.max(page, 0);
+        int pageSize = Math.min(Math.max(size, 1), MAX_SEARCH_PAGE_SIZE);
+        int offset = (int) Math.min((long) pageNumber * pageSize, Integer.MAX_VALUE);
+
+        if (!bookSearchIndex.isReady()) {
+            log.debug("Search index not ready, falling back to database for '{}'", title);
+            return new BookSearchResponse(bookRepository.findByTitleContaining(title, offset, pageSize, fields),
+                    pageNumber, pageSize, null, null);
+        }
+
+        return searchResultCache.getUnlessPartial(mode, title, pageNumber, pageSize, fields, () -> {
+            InvertedIndex.Hits hits = mode == SearchMode.FUZZY
+                    ? bookSearchIndex.searchFuzzy(title, offset, pageSize)
+                    : bookSearchIndex.search(title, offset, pageSize);
+            return new SearchResultCache.Loaded(
+                    new BookSearchResponse(fetchRanked(hits, fields), pageNumber, pageSize, hits.total(), null),
+                    hits.complete());
+        });
+    }
+
+    private List<BookAuthorVw> fetchRanked(InvertedIndex.Hits hits, Set<BookField> fields) {
+        Map<Integer, BookAuthorVw> booksById = bookRepository.findAllById(hits.ids(), fields).stream()
+                .collect(Collectors.toMap(BookAuthorVw::getId, Function.identity()));
+
+        // Keep the index's ranking; skip anything deleted between the lookup and the fetch
+        return hits.ids().stream()
+                .map(booksById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Most popular title and author completions for what the user has typed so far, answered from memory.
+     */
+    public List<BookSuggestion> suggest(String query, int limit) {
+        return bookSuggestIndex.suggest(query, Math.min(limit, SuggestTrie.MAX_SUGGESTIONS));
+    }
+
+    /**
+     * Relevance-ordered search backed by the MySQL FULLTEXT indexes, paged by an opaque (score, id) cursor.
+     * The description is read for matching either way, so fields only trims the response.
+     */
+    public BookSearchResponse searchBooksFullText(String query, String cursor, int size, Set<BookField> fields) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_SEARCH_PAGE_SIZE);
+        FullTextCursor after = cursor == null || cursor.isBlank() ? null : FullTextCursor.decode(cursor);
+
+        // Fetch one extra row to know whether there is a next page
+        List<BookRepository.ScoredBook> rows = bookRepository.searchFullText(query, after, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<BookRepository.ScoredBook> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            BookRepository.ScoredBook last = page.get(page.size() - 1);
+            nextCursor = new FullTextCursor(last.score(), last.book().getId()).encode();
+        }
+        return new BookSearchResponse(page.stream().map(scored -> BookField.project(scored.book(), fields)).toList(),
+                null, pageSize, null, nextCursor);
     }
 }
@@ -0,0 +1,119 @@
+package com.bookstore.entity.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.bookstore.entity.cache.CachedPage;
+import com.bookstore.entity.models.BookField;
+import com.bookstore.entity.models.BookSort;
+import com.bookstore.entity.repository.BookRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Preloads the hot catalog before a new instance takes traffic: the first pages of every book sort and the top
+ * sellers' detail responses (into BookResponseCache, already serialized), and every default-size author page (into
+ * AuthorListingCache). Everything goes through BookService / AuthorService, so the JSON path is warm too.
+ *
+ * Runs synchronously on ApplicationReadyEvent. Spring Boot only marks the instance ACCEPTING_TRAFFIC after every
+ * ready listener has returned, so /actuator/health/readiness stays OUT_OF_SERVICE until this finishes. It is
+ * best effort: a failure or the time budget running out is logged and the instance becomes ready anyway.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "bookstore.warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class CatalogWarmup {
+
+    private final BookService bookService;
+    private final AuthorService authorService;
+    private final BookRepository bookRepository;
+    private final int bookPages;
+    private final int topSellers;
+    private final Duration timeout;
+
+    public CatalogWarmup(BookService bookService, AuthorService authorService, BookRepository bookRepository,
+            @Value("${bookstore.warmup.book-pages:20}") int bookPages,
+            @Value("${bookstore.warmup.top-sellers:1000}") int topSellers,
+            @Value("${bookstore.warmup.timeout:60s}") Duration timeout) {
+        this.bookService = bookService;
+        this.authorService = authorService;
+        this.bookRepository = bookRepository;
+        this.bookPages = bookPages;
+        this.topSellers = topSellers;
+        this.timeout = timeout;
+    }
+
+    // After the in-memory catalog and indexes, which build on ApplicationReadyEvent at HIGHEST_PRECEDENCE; the
+    // default order alone would tie with them
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+        long deadline = start + timeout.toMillis();
+        try {
+            int pages = warmBookPages(deadline);
+            int books = warmTopSellers(deadline);
+            int authorPages = warmAuthorPages(deadline);
+            log.info("Warmed up {} book pages, {} top sellers and {} author pages in {} ms", pages, books,
+                    authorPages, System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.warn("Warm-up failed after {} ms, taking traffic cold", System.currentTimeMillis() - start, e);
+        }
+    }
+
+    private int warmBookPages(long deadline) {
+        int pages = 0;
+        for (BookSort sort : BookSort.values()) {
+            String cursor = null;
+            // The default order gets the full page budget, the others their first page
+            int budget = sort == BookSort.ID ? bookPages : 1;
+            for (int i = 0; i < budget && !expired(deadline); i++) {
+                // The same arguments GET /book passes when only sort and cursor are given, so the entries match
+                CachedPage page = bookService.getAllBooksJson(0, sort, null, null, null, cursor, BookField.ALL);
+                pages++;
+                cursor = page.nextCursor();
+                if (cursor == null) {
+                    break;
+                }
+            }
+        }
+        return pages;
+    }
+
+    private int warmTopSellers(long deadline) {
+        List<Integer> ids = bookRepository.findTopSellerIds(topSellers);
+        int books = 0;
+        for (int from = 0; from < ids.size() && !expired(deadline); from += BookService.MAX_BATCH_SIZE) {
+            List<Integer> batch = ids.subList(from, Math.min(from + BookService.MAX_BATCH_SIZE, ids.size()));
+            // One query for the whole batch, then each detail response is built from the warmed caches
+            bookService.getBooksByIds(batch, BookField.ALL);
+            batch.forEach(bookService::getBookJson);
+            books += batch.size();
+        }
+        return books;
+    }
+
+    private int warmAuthorPages(long deadline) {
+        int pages = 0;
+        String cursor = null;
+        do {
+            // Author pages are serialized and kept by AuthorListingCache itself
+            CachedPage page = authorService.getAuthorPage(null, null, cursor);
+            pages++;
+            cursor = page.nextCursor();
+        } while (cursor != null && !expired(deadline));
+        return pages;
+    }
+
+    private static boolean expired(long deadline) {
+        return System.currentTimeMillis() >= deadline;
+    }
+}
@@ -0,0 +1,169 @@
+package com.bookstore.entity.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Reads a bulk upload (a JSON array of objects, or CSV with a header row) one row at a time and hands the rows on
+ * in chunks, so an upload is never held in memory. Shared by BookImportService and BookRepriceService, which only
+ * differ in what a row holds and what a chunk does with it.
+ */
+final class UploadReader {
+
+    /**
+     * A value as read from the upload, or why it could not be read. number counts from 1.
+     */
+    record Row<T>(long number, T value, String error) {
+    }
+
+    @FunctionalInterface
+    interface RowSource<T> {
+        // Null once the upload is exhausted
+        Row<T> next() throws IOException;
+    }
+
+    /**
+     * Builds a value from one CSV record. field looks a column up by its lower-cased header name and returns null
+     * when the column is missing or the value is empty. A NumberFormatException fails only this row.
+     */
+    @FunctionalInterface
+    interface CsvMapper<T> {
+        T map(UnaryOperator<String> field);
+    }
+
+    @FunctionalInterface
+    interface ChunkHandler<T, C> {
+        C apply(int index, List<Row<T>> rows);
+    }
+
+    /**
+     * What a chunked read produced: one result per chunk, the rows read, and why reading stopped early, if it did.
+     */
+    record Chunks<C>(List<C> chunks, long rows, String failure) {
+    }
+
+    private UploadReader() {
+    }
+
+    /**
+     * Feeds the rows to handler in chunks of chunkSize. Malformed JSON stops the read, but the rows read before it
+     * are still handed on.
+     */
+    static <T, C> Chunks<C> readChunks(RowSource<T> source, int chunkSize, ChunkHandler<T, C> handler)
+            throws IOException {
+        List<C> chunks = new ArrayList<>();
+        List<Row<T>> pending = new ArrayList<>(chunkSize);
+        long rows = 0;
+        String failure = null;
+        try {
+            Row<T> row;
+            while ((row = source.next()) != null) {
+                rows++;
+                pending.add(row);
+                if (pending.size() == chunkSize) {
+                    chunks.add(handler.apply(chunks.size(), pending));
+                    pending.clear();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            failure = "Stopped reading after row " + rows + ": " + e.getOriginalMessage();
+        }
+        if (!pending.isEmpty()) {
+            chunks.add(handler.apply(chunks.size(), pending));
+        }
+        return new Chunks<>(chunks, rows, failure);
+    }
+
+    /**
+     * Rows of a JSON array. notAnArray is the 400 message when the upload is not one; a bad element is reported
+     * as its row's error, prefixed with invalid.
+     */
+    static <T> RowSource<T> jsonRows(ObjectMapper objectMapper, InputStream in, Class<T> type, String notAnArray,
+            String invalid) throws IOException {
+        JsonParser parser = objectMapper.getFactory().createParser(in);
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, notAnArray);
+        }
+
+        long[] number = { 0 };
+        return () -> {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                return null;
+            }
+            number[0]++;
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                return new Row<>(number[0], null, "Expected a JSON object");
+            }
+            // Read the element as a tree first so a bad field fails only this row, not the parser
+            JsonNode node = objectMapper.readTree(parser);
+            try {
+                return new Row<>(number[0], objectMapper.treeToValue(node, type), null);
+            } catch (JsonProcessingException e) {
+                return new Row<>(number[0], null, invalid + ": " + e.getOriginalMessage());
+            }
+        };
+    }
+
+    /**
+     * Rows of a CSV upload. Every column in required must be named in the header, or the upload is rejected with
+     * missingColumns; a row the mapper cannot parse a number from is reported with notANumber.
+     */
+    static <T> RowSource<T> csvRows(InputStream in, List<String> required, String missingColumns,
+            String notANumber, CsvMapper<T> mapper) throws IOException {
+        CsvReader csv = new CsvReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        List<String> header = csv.next();
+        if (header == null) {
+            return () -> null;
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.keySet().containsAll(required)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, missingColumns);
+        }
+
+        long[] number = { 0 };
+        return () -> {
+            List<String> fields = csv.next();
+            if (fields == null) {
+                return null;
+            }
+            number[0]++;
+            try {
+                return new Row<>(number[0], mapper.map(name -> field(fields, columns.get(name))), null);
+            } catch (NumberFormatException e) {
+                return new Row<>(number[0], null, notANumber);
+            }
+        };
+    }
+
+    // Null when the column is missing from the header, the row is too short or the value is empty
+    private static String field(List<String> fields, Integer index) {
+        if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+            return null;
+        }
+        return fields.get(index);
+    }
+}
@@ -0,0 +1,124 @@
+package com.bookstore.entity.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bookstore.entity.events.AuthorChangedEvent;
+import com.bookstore.entity.events.ChangeType;
+import com.bookstore.entity.repository.AuthorRepository;
+import com.example.database.generated.tables.pojos.Author;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class AuthorListingCacheTest {
+
+    @Mock
+    private AuthorRepository authorRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private AuthorListingCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new AuthorListingCache(authorRepository, objectMapper);
+    }
+
+    @Test
+    void page_KeysetPagesInIdOrder() throws Exception {
+        // Arrange - 25 authors, returned out of order
+        List<Author> authors = new ArrayList<>(IntStream.rangeClosed(1, 25)
+                .mapToObj(id -> new Author(id, "First" + id, "Last" + id))
+                .toList());
+        Collections.reverse(authors);
+        when(authorRepository.findAll()).thenReturn(authors);
+
+        // Act
+        AuthorListingCache.Page first = cache.page(0, AuthorListingCache.PAGE_SIZE);
+        AuthorListingCache.Page third = cache.page(20, AuthorListingCache.PAGE_SIZE);
+        JsonNode firstJson = objectMapper.readTree(first.json().body());
+        JsonNode thirdJson = objectMapper.readTree(third.json().body());
+
+        // Assert
+        assertEquals(AuthorListingCache.PAGE_SIZE, firstJson.size());
+        assertEquals(1, firstJson.get(0).get("id").asInt());
+        assertEquals(10, first.nextAfterId());
+        assertEquals(5, thirdJson.size());
+        assertEquals(21, thirdJson.get(0).get("id").asInt());
+        assertNull(third.nextAfterId());
+        verify(authorRepository, times(1)).findAll();
+    }
+
+    @Test
+    void page_CustomSize() throws Exception {
+        // Arrange
+        when(authorRepository.findAll()).thenReturn(IntStream.rangeClosed(1, 25)
+                .mapToObj(id -> new Author(id, "First" + id, "Last" + id))
+                .toList());
+
+        // Act
+        AuthorListingCache.Page page = cache.page(3, 4);
+
+        // Assert
+        JsonNode json = objectMapper.readTree(page.json().body());
+        assertEquals(4, json.size());
+        assertEquals(4, json.get(0).get("id").asInt());
+        assertEquals(7, page.nextAfterId());
+    }
+
+    @Test
+    void page_SerializedOncePerVersion() {
+        // Arrange
+        when(authorRepository.findAll()).thenReturn(List.of(new Author(1, "John", "Doe")));
+
+        // Act / Assert
+        assertSame(cache.page(0, AuthorListingCache.PAGE_SIZE), cache.page(0, AuthorListingCache.PAGE_SIZE));
+    }
+
+    @Test
+    void page_OnlyPageBoundariesAreCached() {
+        // Arrange
+        when(authorRepository.findAll()).thenReturn(IntStream.rangeClosed(1, 25)
+                .mapToObj(id -> new Author(id, "First" + id, "Last" + id))
+                .toList());
+
+        // Act / Assert - 10 ends the first page; 7 is an id no page of ours ends on
+        assertSame(cache.page(10, AuthorListingCache.PAGE_SIZE), cache.page(10, AuthorListingCache.PAGE_SIZE));
+        assertNotSame(cache.page(7, AuthorListingCache.PAGE_SIZE), cache.page(7, AuthorListingCache.PAGE_SIZE));
+    }
+
+    @Test
+    void onAuthorChanged_ReloadsSnapshot() {
+        // Arrange
+        when(authorRepository.findAll())
+                .thenReturn(List.of(new Author(1, "John", "Doe")))
+                .thenReturn(List.of(new Author(1, "Jane", "Doe")));
+        CachedJson before = cache.page(0, AuthorListingCache.PAGE_SIZE).json();
+
+        // Act
+        cache.onAuthorChanged(new AuthorChangedEvent(1, ChangeType.UPDATED));
+        CachedJson after = cache.page(0, AuthorListingCache.PAGE_SIZE).json();
+
+        // Assert
+        assertNotEquals(before.etag(), after.etag());
+        verify(authorRepository, times(2)).findAll();
+    }
+}
@@ -0,0 +1,89 @@
+package com.bookstore.entity.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.bookstore.entity.events.AuthorChangedEvent;
+import com.bookstore.entity.events.BookChangedEvent;
+import com.bookstore.entity.events.ChangeType;
+import com.example.database.generated.tables.pojos.BookAuthorVw;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BookCacheTest {
+
+    private BookCache cache;
+    private AtomicInteger loads;
+    private Function<Integer, Optional<BookAuthorVw>> loader;
+
+    @BeforeEach
+    void setUp() {
+        cache = new BookCache(100, Duration.ofMinutes(1));
+        loads = new AtomicInteger();
+        loader = id -> {
+            loads.incrementAndGet();
+            return id == 999 ? Optional.empty()
+                    : Optional.of(new BookAuthorVw(id, 7, "Book " + id, BigDecimal.TEN, null, "First", "Last"));
+        };
+    }
+
+    @Test
+    void get_LoadsOnce() {
+        cache.get(1, loader);
+        cache.get(1, loader);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_MissingBookIsNotCached() {
+        assertFalse(cache.get(999, loader).isPresent());
+        cache.get(999, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void onBookChanged_InvalidatesThatBook() {
+        cache.get(1, loader);
+        cache.get(2, loader);
+
+        cache.onBookChanged(new BookChangedEvent(1, ChangeType.UPDATED));
+        cache.get(1, loader);
+        cache.get(2, loader);
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void onAuthorChanged_InvalidatesThatAuthorsBooks() {
+        cache.get(1, loader);
+        cache.get(2, loader);
+
+        cache.onAuthorChanged(new AuthorChangedEvent(7, ChangeType.UPDATED));
+        cache.get(1, loader);
+        cache.get(2, loader);
+
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void bindTo_PublishesCacheMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.get(1, loader);
+        cache.get(1, loader);
+
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "books").tag("result", "hit").functionCounter().count());
+    }
+}
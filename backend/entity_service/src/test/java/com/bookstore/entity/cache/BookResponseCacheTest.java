@@ -0,0 +1,117 @@
+package com.bookstore.entity.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import com.bookstore.entity.events.BookChangedEvent;
+import com.bookstore.entity.events.ChangeType;
+import com.bookstore.entity.models.BookField;
+import com.bookstore.entity.models.BookSort;
+import com.bookstore.entity.repository.BookChangeLogRepository;
+import com.example.common.pagination.KeysetPage;
+import com.example.database.generated.tables.pojos.BookAuthorVw;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class BookResponseCacheTest {
+
+    private static final BookResponseCache.PageRequest FIRST_PAGE = new BookResponseCache.PageRequest(0, BookSort.ID,
+            null, null, null, null, BookField.ALL);
+
+    private CatalogVersion catalogVersion;
+    private BookResponseCache cache;
+    private AtomicInteger loads;
+    private Supplier<KeysetPage<BookAuthorVw>> loader;
+
+    @BeforeEach
+    void setUp() {
+        catalogVersion = new CatalogVersion(mock(BookChangeLogRepository.class));
+        cache = new BookResponseCache(catalogVersion, new ObjectMapper(), DataSize.ofMegabytes(1),
+                Duration.ofMinutes(10));
+        loads = new AtomicInteger();
+        loader = () -> {
+            loads.incrementAndGet();
+            return new KeysetPage<>(List.of(book(1, "short")), "next");
+        };
+    }
+
+    @Test
+    void page_SameRequestAndVersionLoadsOnce() {
+        CachedPage first = cache.page(FIRST_PAGE, loader);
+        CachedPage second = cache.page(FIRST_PAGE, loader);
+
+        assertEquals(1, loads.get());
+        assertArrayEquals(first.json().body(), second.json().body());
+        assertEquals("next", second.nextCursor());
+    }
+
+    @Test
+    void page_NewCatalogVersionLoadsAgain() {
+        cache.page(FIRST_PAGE, loader);
+
+        // What a write bumps before it commits, without the after-commit clear
+        catalogVersion.beforeBookCommit(new BookChangedEvent(1, ChangeType.UPDATED));
+        cache.page(FIRST_PAGE, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void onBookChanged_ClearsEverything() {
+        cache.page(FIRST_PAGE, loader);
+
+        cache.onBookChanged(new BookChangedEvent(1, ChangeType.UPDATED));
+        cache.page(FIRST_PAGE, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void page_SmallBodyHasNoGzipCopy() {
+        assertNull(cache.page(FIRST_PAGE, loader).json().gzippedBody());
+    }
+
+    @Test
+    void book_LargeBodyKeepsGzipCopy() throws IOException {
+        CachedJson json = cache.book(1, () -> Optional.of(book(1, "x".repeat(4000)))).orElseThrow();
+
+        assertNotNull(json.gzippedBody());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(json.gzippedBody()))) {
+            assertArrayEquals(json.body(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void book_MissingBookIsNotCached() {
+        AtomicInteger lookups = new AtomicInteger();
+        Supplier<Optional<BookAuthorVw>> missing = () -> {
+            lookups.incrementAndGet();
+            return Optional.empty();
+        };
+
+        assertFalse(cache.book(7, missing).isPresent());
+        assertFalse(cache.book(7, missing).isPresent());
+        assertEquals(2, lookups.get());
+    }
+
+    private static BookAuthorVw book(int id, String description) {
+        return new BookAuthorVw(id, 1, "Book " + id, new BigDecimal("9.99"), description, "First", "Last");
+    }
+}
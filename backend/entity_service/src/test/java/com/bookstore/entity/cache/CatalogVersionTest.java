@@ -0,0 +1,63 @@
+package com.bookstore.entity.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bookstore.entity.events.BookChangedEvent;
+import com.bookstore.entity.events.ChangeType;
+import com.bookstore.entity.repository.BookChangeLogRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogVersionTest {
+
+    @Mock
+    private BookChangeLogRepository bookChangeLogRepository;
+
+    @Test
+    void advance_InstancesAtTheSameSeqShareTheTag() {
+        // Arrange
+        CatalogVersion first = new CatalogVersion(bookChangeLogRepository);
+        CatalogVersion second = new CatalogVersion(bookChangeLogRepository);
+        assertNotEquals(first.current().etag(), second.current().etag());
+
+        // Act
+        first.advance(42);
+        second.advance(42);
+
+        // Assert
+        assertEquals("W/\"catalog-42\"", first.current().etag());
+        assertEquals(first.current().etag(), second.current().etag());
+    }
+
+    @Test
+    void localWrite_KeepsAnInstanceTagUntilTheLogCoversIt() {
+        // Arrange
+        CatalogVersion version = new CatalogVersion(bookChangeLogRepository);
+        version.advance(10);
+        long before = version.current().version();
+        when(bookChangeLogRepository.findMaxSeq()).thenReturn(12L);
+
+        // Act
+        version.beforeBookCommit(new BookChangedEvent(1, ChangeType.UPDATED));
+        version.onBookChanged(new BookChangedEvent(1, ChangeType.UPDATED));
+
+        // Assert
+        assertTrue(version.current().version() > before);
+        assertTrue(version.current().etag().startsWith("W/\"catalog-10-"));
+
+        // Act - replaying the log up to the write makes the tag shared again
+        version.advance(11);
+        assertTrue(version.current().etag().startsWith("W/\"catalog-11-"));
+        version.advance(12);
+
+        // Assert
+        assertEquals("W/\"catalog-12\"", version.current().etag());
+    }
+}
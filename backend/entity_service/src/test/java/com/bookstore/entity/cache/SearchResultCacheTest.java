@@ -0,0 +1,148 @@
+package com.bookstore.entity.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.bookstore.entity.events.BookChangedEvent;
+import com.bookstore.entity.events.ChangeType;
+import com.bookstore.entity.models.BookField;
+import com.bookstore.entity.models.BookSearchResponse;
+import com.bookstore.entity.models.SearchMode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SearchResultCacheTest {
+
+    private SearchResultCache cache;
+    private AtomicInteger loads;
+    private Supplier<BookSearchResponse> loader;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SearchResultCache(100, Duration.ofMinutes(1));
+        loads = new AtomicInteger();
+        loader = () -> {
+            loads.incrementAndGet();
+            return new BookSearchResponse(List.of(), 0, 10, 0, null);
+        };
+    }
+
+    @Test
+    void get_SameNormalizedQueryLoadsOnce() {
+        cache.get(SearchMode.INDEX, "Harry Potter", 0, 10, BookField.ALL, loader);
+        cache.get(SearchMode.INDEX, "  harry \t POTTER ", 0, 10, BookField.ALL, loader);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_PageAndSizeArePartOfTheKey() {
+        cache.get(SearchMode.INDEX, "potter", 0, 10, BookField.ALL, loader);
+        cache.get(SearchMode.INDEX, "potter", 1, 10, BookField.ALL, loader);
+        cache.get(SearchMode.INDEX, "potter", 0, 20, BookField.ALL, loader);
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void get_ModeIsPartOfTheKey() {
+        cache.get(SearchMode.INDEX, "potter", 0, 10, BookField.ALL, loader);
+        cache.get(SearchMode.FUZZY, "potter", 0, 10, BookField.ALL, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_FieldsArePartOfTheKey() {
+        cache.get(SearchMode.INDEX, "potter", 0, 10, BookField.ALL, loader);
+        cache.get(SearchMode.INDEX, "potter", 0, 10, BookField.parse("id,title"), loader);
+        cache.get(SearchMode.INDEX, "potter", 0, 10, BookField.parse("title,id"), loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_ConcurrentMissesShareOneLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<BookSearchResponse> slowLoader = () -> {
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return loader.get();
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<BookSearchResponse>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.get(SearchMode.INDEX, "potter", 0, 10, BookField.ALL, slowLoader)));
+            loading.await(5, TimeUnit.SECONDS);
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> cache.get(SearchMode.INDEX, "Potter", 0, 10, BookField.ALL, slowLoader)));
+            }
+            release.countDown();
+
+            BookSearchResponse first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<BookSearchResponse> result : results) {
+                assertSame(first, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void getUnlessPartial_KeepsOnlyCompletePages() {
+        SearchResultCache.Loaded partial = new SearchResultCache.Loaded(loader.get(), false);
+        SearchResultCache.Loaded complete = new SearchResultCache.Loaded(loader.get(), true);
+
+        assertSame(partial.response(),
+                cache.getUnlessPartial(SearchMode.FUZZY, "potter", 0, 10, BookField.ALL, () -> partial));
+        assertSame(complete.response(),
+                cache.getUnlessPartial(SearchMode.FUZZY, "potter", 0, 10, BookField.ALL, () -> complete));
+        assertSame(complete.response(),
+                cache.getUnlessPartial(SearchMode.FUZZY, "potter", 0, 10, BookField.ALL, () -> partial));
+    }
+
+    @Test
+    void onBookChanged_ClearsEverything() {
+        cache.get(SearchMode.INDEX, "potter", 0, 10, BookField.ALL, loader);
+        cache.get(SearchMode.INDEX, "tolkien", 0, 10, BookField.ALL, loader);
+
+        cache.onBookChanged(new BookChangedEvent(1, ChangeType.UPDATED));
+        cache.get(SearchMode.INDEX, "potter", 0, 10, BookField.ALL, loader);
+        cache.get(SearchMode.INDEX, "tolkien", 0, 10, BookField.ALL, loader);
+
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void bindTo_PublishesHitRatio() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.get(SearchMode.INDEX, "potter", 0, 10, BookField.ALL, loader);
+        cache.get(SearchMode.INDEX, "potter", 0, 10, BookField.ALL, loader);
+
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "search").tag("result", "hit").functionCounter().count());
+        assertEquals(0.5, registry.get("bookstore.search.cache.hit.ratio").gauge().value());
+    }
+}
@@ -2,14 +2,18 @@ package com.bookstore.entity.controller;
 
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -27,12 +31,17 @@ import org.springframework.context.annotation.FilterType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.bookstore.entity.cache.CachedJson;
+import com.bookstore.entity.cache.CachedPage;
 import com.bookstore.entity.models.AuthorCreateRequest;
 import com.bookstore.entity.service.AuthorService;
 import com.example.common.database.MyDataSource;
+import com.example.common.pagination.KeysetPage;
+import com.example.common.pagination.KeysetPagination;
 import com.example.common.repository.UserRepository;
 import com.example.common.security.CustomJwtDecoder;
 import com.example.common.security.JwtUtil;
+import com.example.database.generated.tables.pojos.BookAuthorVw;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import liquibase.integration.spring.SpringLiquibase;
@@ -85,19 +94,90 @@ class AuthorControllerTest {
         final String expectedResponseContent = objectMapper.writeValueAsString(authors);
 
         // Mock
-        when(service.getAllAuthors()).thenReturn(authors);
+        when(service.getAuthorPage(0, null, null))
+                .thenReturn(new CachedPage(CachedJson.of(objectMapper.writeValueAsBytes(authors)), "next-page"));
 
         // Act / Assert
         mockMvc.perform(get("/author")
                 .with(jwt().jwt(jwt -> jwt.claim("userId", ID))))
             .andExpect(status().isOk())
+            .andExpect(header().exists("ETag"))
+            .andExpect(header().string(KeysetPagination.NEXT_CURSOR_HEADER, "next-page"))
             .andExpect(content().json(expectedResponseContent));
     }
 
+    @Test
+    void testGetBooksByAuthor_WithCount_Returns200() throws Exception {
+        // Setup
+        List<BookAuthorVw> books = List.of(new BookAuthorVw(7, ID, "Test Book", null, null, FIRST_NAME, LAST_NAME));
+        final String expectedResponseContent = objectMapper.writeValueAsString(books);
+
+        // Mock
+        when(service.getBooksByAuthor(ID, 1, null)).thenReturn(new KeysetPage<>(books, "next-page"));
+        when(service.countBooksByAuthor(ID)).thenReturn(12L);
+
+        // Act / Assert
+        mockMvc.perform(get("/author/" + ID + "/books")
+                .param("size", "1")
+                .param("includeCount", "true"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(KeysetPagination.NEXT_CURSOR_HEADER, "next-page"))
+            .andExpect(header().string(AuthorController.TOTAL_COUNT_HEADER, "12"))
+            .andExpect(content().json(expectedResponseContent));
+    }
+
+    @Test
+    void testGetAllAuthors_WithPagination_Returns200() throws Exception {
+        // Mock
+        when(service.getAuthorPage(10, null, null))
+                .thenReturn(new CachedPage(CachedJson.of("[]".getBytes(StandardCharsets.UTF_8)), null));
+
+        // Act / Assert
+        mockMvc.perform(get("/author")
+                .param("prevPageLastAuthorId", "10")
+                .with(jwt().jwt(jwt -> jwt.claim("userId", ID))))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(KeysetPagination.NEXT_CURSOR_HEADER))
+            .andExpect(content().json("[]"));
+        verify(service, times(1)).getAuthorPage(10, null, null);
+    }
+
+    @Test
+    void testGetAllAuthors_WithCursor_Returns200() throws Exception {
+        // Mock
+        when(service.getAuthorPage(0, 5, "abc"))
+                .thenReturn(new CachedPage(CachedJson.of("[]".getBytes(StandardCharsets.UTF_8)), null));
+
+        // Act / Assert
+        mockMvc.perform(get("/author")
+                .param("size", "5")
+                .param("cursor", "abc"))
+            .andExpect(status().isOk())
+            .andExpect(content().json("[]"));
+        verify(service, times(1)).getAuthorPage(0, 5, "abc");
+    }
+
+    @Test
+    void testGetAllAuthors_MatchingETag_Returns304() throws Exception {
+        // Setup
+        CachedJson page = CachedJson.of("[]".getBytes(StandardCharsets.UTF_8));
+
+        // Mock
+        when(service.getAuthorPage(0, null, null)).thenReturn(new CachedPage(page, null));
+
+        // Act / Assert
+        mockMvc.perform(get("/author")
+                .header("If-None-Match", page.etag())
+                .with(jwt().jwt(jwt -> jwt.claim("userId", ID))))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
+
     @Test
     void testGetAllAuthorsReturnsEmptyList() throws Exception {
         // Mock
-        when(service.getAllAuthors()).thenReturn(new ArrayList<>());
+        when(service.getAuthorPage(0, null, null))
+                .thenReturn(new CachedPage(CachedJson.of(objectMapper.writeValueAsBytes(new ArrayList<>())), null));
 
         // Act / Assert
         mockMvc.perform(get("/author")
@@ -109,7 +189,7 @@ class AuthorControllerTest {
     @Test
     void testGetAllAuthorsReturns500() throws Exception {
         // Mock
-        when(service.getAllAuthors()).thenThrow(new RuntimeException());
+        when(service.getAuthorPage(0, null, null)).thenThrow(new RuntimeException());
         
         // Act / Assert
         mockMvc.perform(get("/author")
@@ -1,5 +1,8 @@
 package com.bookstore.entity.controller;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.times;
@@ -9,11 +12,17 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
 
 import javax.sql.DataSource;
 
@@ -25,18 +34,35 @@ import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import com.bookstore.entity.cache.CachedJson;
+import com.bookstore.entity.cache.CachedPage;
+import com.bookstore.entity.cache.CatalogVersion;
+import com.bookstore.entity.models.BookBatchResponse;
+import com.bookstore.entity.models.BookChangesResponse;
 import com.bookstore.entity.models.BookCreateRequest;
+import com.bookstore.entity.models.BookField;
+import com.bookstore.entity.models.BookSearchResponse;
+import com.bookstore.entity.models.BookSort;
+import com.bookstore.entity.repository.BookChangeLogRepository;
+import com.bookstore.entity.service.BookChangeService;
+import com.bookstore.entity.service.BookExportService;
+import com.bookstore.entity.service.BookImportService;
+import com.bookstore.entity.service.BookRepriceService;
 import com.bookstore.entity.service.BookService;
 import com.example.common.database.MyDataSource;
+import com.example.common.pagination.KeysetPagination;
 import com.example.common.repository.UserRepository;
 import com.example.common.security.CustomJwtDecoder;
 import com.example.common.security.JwtUtil;
 import com.example.database.generated.tables.pojos.BookAuthorVw;
+import com.example.database.generated.tables.pojos.BookChangeLog;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import liquibase.integration.spring.SpringLiquibase;
@@ -46,6 +72,7 @@ import liquibase.integration.spring.SpringLiquibase;
     excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {MyDataSource.class})
 )
 @EnableAutoConfiguration(exclude = DataSourceAutoConfiguration.class)
+@Import(CatalogVersion.class)
 class BookControllerTest {
 
     private static final int BOOK_ID = 1;
@@ -57,9 +84,27 @@ class BookControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private CatalogVersion catalogVersion;
+
     @MockitoBean
     private BookService service;
 
+    @MockitoBean
+    private BookExportService bookExportService;
+
+    @MockitoBean
+    private BookImportService bookImportService;
+
+    @MockitoBean
+    private BookRepriceService bookRepriceService;
+
+    @MockitoBean
+    private BookChangeService bookChangeService;
+
+    @MockitoBean
+    private BookChangeLogRepository bookChangeLogRepository;
+
     @MockitoBean
     private JwtUtil jwtUtil;
 
@@ -88,13 +133,15 @@ class BookControllerTest {
         books.add(book);
         final String expectedResponseContent = objectMapper.writeValueAsString(books);
         // Mock
-        when(service.getAllBooks(0)).thenReturn(books);
+        when(service.getAllBooksJson(0, BookSort.ID, null, null, null, null, BookField.ALL))
+                .thenReturn(page(books, null));
         // Act / Assert
         mockMvc.perform(get("/book")
                 .with(jwt().jwt(jwt -> jwt.claim("userId", 1))))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(KeysetPagination.NEXT_CURSOR_HEADER))
                 .andExpect(content().json(expectedResponseContent));
-        verify(service, times(1)).getAllBooks(0);
+        verify(service, times(1)).getAllBooksJson(0, BookSort.ID, null, null, null, null, BookField.ALL);
     }
 
     @Test
@@ -111,20 +158,112 @@ class BookControllerTest {
         books.add(book2);
         final String expectedResponseContent = objectMapper.writeValueAsString(books);
         // Mock
-        when(service.getAllBooks(10)).thenReturn(books);
+        when(service.getAllBooksJson(10, BookSort.ID, null, null, null, null, BookField.ALL))
+                .thenReturn(page(books, "next-page"));
         // Act / Assert
         mockMvc.perform(get("/book")
                 .param("prevPageLastBookId", "10")
                 .with(jwt().jwt(jwt -> jwt.claim("userId", 1))))
                 .andExpect(status().isOk())
+                .andExpect(header().string(KeysetPagination.NEXT_CURSOR_HEADER, "next-page"))
                 .andExpect(content().json(expectedResponseContent));
-        verify(service, times(1)).getAllBooks(10);
+        verify(service, times(1)).getAllBooksJson(10, BookSort.ID, null, null, null, null, BookField.ALL);
+    }
+
+    @Test
+    void testGetAllBooks_WithSortAndCursor_Returns200() throws Exception {
+        // Mock
+        when(service.getAllBooksJson(0, BookSort.PRICE_DESC, null, null, 25, "abc", BookField.ALL))
+                .thenReturn(page(List.of(), null));
+        // Act / Assert
+        mockMvc.perform(get("/book")
+                .param("sort", "PRICE_DESC")
+                .param("size", "25")
+                .param("cursor", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[]"));
+        verify(service, times(1)).getAllBooksJson(0, BookSort.PRICE_DESC, null, null, 25, "abc", BookField.ALL);
+    }
+
+    @Test
+    void testGetAllBooks_PriceRangeWithLowercaseSort_Returns200() throws Exception {
+        // Mock
+        BigDecimal min = new BigDecimal("10.00");
+        BigDecimal max = new BigDecimal("20.00");
+        when(service.getAllBooksJson(0, BookSort.PRICE_ASC, min, max, null, null, BookField.ALL))
+                .thenReturn(page(List.of(), null));
+        // Act / Assert
+        mockMvc.perform(get("/book")
+                .param("sort", "price_asc")
+                .param("minPrice", "10.00")
+                .param("maxPrice", "20.00"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[]"));
+        verify(service, times(1)).getAllBooksJson(0, BookSort.PRICE_ASC, min, max, null, null, BookField.ALL);
+    }
+
+    @Test
+    void testGetAllBooks_WithFields_Returns200() throws Exception {
+        // Mock
+        Set<BookField> fields = EnumSet.of(BookField.ID, BookField.TITLE, BookField.PRICE, BookField.AUTHOR);
+        when(service.getAllBooksJson(0, BookSort.ID, null, null, null, null, fields))
+                .thenReturn(page(List.of(), null));
+        // Act / Assert
+        mockMvc.perform(get("/book")
+                .param("fields", "title, price,author"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[]"));
+        verify(service, times(1)).getAllBooksJson(0, BookSort.ID, null, null, null, null, fields);
+    }
+
+    @Test
+    void testGetAllBooks_UnknownField_Returns400() throws Exception {
+        // Act / Assert
+        mockMvc.perform(get("/book")
+                .param("fields", "title,isbn"))
+                .andExpect(status().isBadRequest());
+        verify(service, times(0)).getAllBooksJson(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testGetBooksByIds_Returns200() throws Exception {
+        // Setup
+        BookAuthorVw book = new BookAuthorVw(
+            BOOK_ID, AUTHOR_ID, "Test Book", BigDecimal.TEN, "A test book", "John", "Doe"
+        );
+        BookBatchResponse response = new BookBatchResponse(List.of(book), List.of(99));
+        final String expectedResponseContent = objectMapper.writeValueAsString(response);
+        // Mock
+        when(service.getBooksByIds(List.of(BOOK_ID, 99), BookField.ALL)).thenReturn(response);
+        // Act / Assert
+        mockMvc.perform(get("/book")
+                .param("ids", BOOK_ID + ",99"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(expectedResponseContent));
+        verify(service, times(1)).getBooksByIds(List.of(BOOK_ID, 99), BookField.ALL);
+        verify(service, times(0)).getAllBooksJson(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testGetChanges_Returns200() throws Exception {
+        // Setup
+        BookChangesResponse response = new BookChangesResponse(
+                List.of(new BookChangeLog(42L, BOOK_ID, "UPDATED", null)), 42L, false);
+        // Mock
+        when(bookChangeService.getChanges(41L, null)).thenReturn(response);
+        // Act / Assert
+        mockMvc.perform(get("/book/changes")
+                .param("since", "41"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{changes:[{seq:42, bookId:1, changeType:\"UPDATED\"}], nextSince:42, hasMore:false}"));
+        verify(bookChangeService, times(1)).getChanges(41L, null);
     }
 
     @Test
     void testGetAllBooks_ThrowsReturns500() throws Exception {
         // Mock
-        when(service.getAllBooks(0)).thenThrow(new RuntimeException());
+        when(service.getAllBooksJson(0, BookSort.ID, null, null, null, null, BookField.ALL))
+                .thenThrow(new RuntimeException());
 
         // Act / Assert
         mockMvc.perform(get("/book"))
@@ -132,7 +271,126 @@ class BookControllerTest {
                 .andExpect(content().json(
                         "{type:\"about:blank\", title:\"Internal Server Error\", status:500, instance:\"/book\"}"));
 
-        verify(service, times(1)).getAllBooks(0);
+        verify(service, times(1)).getAllBooksJson(0, BookSort.ID, null, null, null, null, BookField.ALL);
+    }
+
+    @Test
+    void testGetBookById_TaggedWithCatalogVersion() throws Exception {
+        // Mock
+        BookAuthorVw book = new BookAuthorVw(BOOK_ID, AUTHOR_ID, "Test Book", BigDecimal.TEN, null, "John", "Doe");
+        when(service.getBookJson(BOOK_ID)).thenReturn(Optional.of(CachedJson.of(objectMapper.writeValueAsBytes(book))));
+
+        // Act / Assert
+        mockMvc.perform(get("/book/{id}", BOOK_ID)
+                .with(jwt().jwt(jwt -> jwt.claim("userId", 1))))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", catalogVersion.current().etag()))
+                .andExpect(header().exists("Last-Modified"));
+    }
+
+    @Test
+    void testGetBookById_MatchingETag_Returns304WithoutLookup() throws Exception {
+        // Act / Assert
+        mockMvc.perform(get("/book/{id}", BOOK_ID)
+                .header("If-None-Match", catalogVersion.current().etag())
+                .with(jwt().jwt(jwt -> jwt.claim("userId", 1))))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(service, times(0)).getBookJson(any());
+    }
+
+    @Test
+    void testGetBookById_AcceptsGzip_ReturnsGzippedBody() throws Exception {
+        // Setup
+        BookAuthorVw book = new BookAuthorVw(BOOK_ID, AUTHOR_ID, "Test Book", BigDecimal.TEN, "x".repeat(2000),
+                "John", "Doe");
+        byte[] body = objectMapper.writeValueAsBytes(book);
+        // Mock
+        when(service.getBookJson(BOOK_ID)).thenReturn(Optional.of(CachedJson.withGzip(body)));
+
+        // Act
+        byte[] gzipped = mockMvc.perform(get("/book/{id}", BOOK_ID)
+                .header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", "Accept-Encoding"))
+                .andExpect(header().string("ETag", catalogVersion.current().etag()))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            assertArrayEquals(body, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void testGetBookById_NoAcceptEncoding_ReturnsPlainBody() throws Exception {
+        // Setup
+        BookAuthorVw book = new BookAuthorVw(BOOK_ID, AUTHOR_ID, "Test Book", BigDecimal.TEN, "x".repeat(2000),
+                "John", "Doe");
+        byte[] body = objectMapper.writeValueAsBytes(book);
+        // Mock
+        when(service.getBookJson(BOOK_ID)).thenReturn(Optional.of(CachedJson.withGzip(body)));
+
+        // Act / Assert
+        mockMvc.perform(get("/book/{id}", BOOK_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(content().bytes(body));
+    }
+
+    @Test
+    void testGetBookById_GzipRefusedWithZeroQuality_ReturnsPlainBody() throws Exception {
+        // Setup
+        BookAuthorVw book = new BookAuthorVw(BOOK_ID, AUTHOR_ID, "Test Book", BigDecimal.TEN, "x".repeat(2000),
+                "John", "Doe");
+        byte[] body = objectMapper.writeValueAsBytes(book);
+        // Mock
+        when(service.getBookJson(BOOK_ID)).thenReturn(Optional.of(CachedJson.withGzip(body)));
+
+        // Act / Assert
+        mockMvc.perform(get("/book/{id}", BOOK_ID)
+                .header("Accept-Encoding", "gzip;q=0, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(content().bytes(body));
+    }
+
+    @Test
+    void testAcceptsGzip_ReadsQualityValues() {
+        assertTrue(BookController.acceptsGzip("gzip, deflate"));
+        assertTrue(BookController.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(BookController.acceptsGzip("*"));
+        assertFalse(BookController.acceptsGzip("gzip;q=0"));
+        assertFalse(BookController.acceptsGzip("gzip; q=0.000, *;q=1"));
+        assertFalse(BookController.acceptsGzip("*;q=0"));
+        assertFalse(BookController.acceptsGzip("deflate, br"));
+        assertFalse(BookController.acceptsGzip(null));
+    }
+
+    @Test
+    void testGetBookById_Unknown_Returns404() throws Exception {
+        // Mock
+        when(service.getBookJson(99)).thenReturn(Optional.empty());
+
+        // Act / Assert
+        mockMvc.perform(get("/book/{id}", 99))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testSearchBooks_StaleETag_Returns200() throws Exception {
+        // Mock
+        when(service.searchBooks("test", 0, 20, BookField.ALL))
+                .thenReturn(new BookSearchResponse(List.of(), 0, 20, 0, null));
+
+        // Act / Assert
+        mockMvc.perform(get("/book/search")
+                .param("title", "test")
+                .header("If-None-Match", "\"catalog-other-0\"")
+                .with(jwt().jwt(jwt -> jwt.claim("userId", 1))))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", catalogVersion.current().etag()));
     }
 
     @Test
@@ -166,4 +424,8 @@ class BookControllerTest {
 
         verify(service, times(0)).createBook(null);
     }
+
+    private CachedPage page(List<BookAuthorVw> books, String nextCursor) throws JsonProcessingException {
+        return new CachedPage(CachedJson.of(objectMapper.writeValueAsBytes(books)), nextCursor);
+    }
 }
@@ -1,6 +1,7 @@
 package com.bookstore.entity.repository;
 
 import static com.example.database.generated.Tables.AUTHOR;
+import static com.example.database.generated.Tables.AUTHOR_CHANGE_LOG;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -8,25 +9,33 @@ import java.util.List;
 import java.util.Optional;
 
 import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import com.bookstore.entity.events.ChangeType;
+import com.bookstore.entity.models.AuthorCreateRequest;
 import com.example.common.database.MyDataSource;
 import com.example.common.repository.BaseIntegrationTest;
 import com.example.database.generated.tables.pojos.Author;
+import com.example.database.generated.tables.pojos.AuthorChangeLog;
 import com.example.database.generated.tables.records.AuthorRecord;
 
 // Inherits @Transactional from BaseIntegrationTest
 @ExtendWith(SpringExtension.class)
-@ContextConfiguration(classes = {MyDataSource.class, AuthorRepository.class})
+@ContextConfiguration(classes = {MyDataSource.class, AuthorRepository.class, BookCatalogRepository.class,
+        BookChangeLogRepository.class, AuthorChangeLogRepository.class})
 class AuthorRepositoryTest extends BaseIntegrationTest {
 
     @Autowired
     private AuthorRepository repository;
 
+    @Autowired
+    private AuthorChangeLogRepository changeLogRepository;
+
     @Autowired
     private DSLContext create;
 
@@ -79,4 +88,24 @@ class AuthorRepositoryTest extends BaseIntegrationTest {
             // You can add specific assertions based on your test data
         });
     }
+
+    @Test
+    void saveUpdateDelete_AppendToAuthorChangeLogInOrder() {
+        // Arrange
+        long before = create.select(DSL.coalesce(DSL.max(AUTHOR_CHANGE_LOG.SEQ), 0L))
+                .from(AUTHOR_CHANGE_LOG)
+                .fetchOne()
+                .value1();
+
+        // Act
+        Integer id = repository.save(new AuthorCreateRequest(firstName, lastName));
+        repository.update(repository.findById(id).orElseThrow(), new AuthorCreateRequest(firstName, "Renamed"));
+        repository.deleteById(id);
+
+        // Assert
+        List<AuthorChangeLog> changes = changeLogRepository.findSince(before, 0, 10);
+        assertEquals(List.of(ChangeType.CREATED.name(), ChangeType.UPDATED.name(), ChangeType.DELETED.name()),
+                changes.stream().map(AuthorChangeLog::getChangeType).toList());
+        assertTrue(changes.stream().allMatch(change -> id.equals(change.getAuthorId())));
+    }
 }
@@ -1,31 +1,49 @@
 package com.bookstore.entity.repository;
 
 import static com.example.database.generated.Tables.BOOK;
+import static com.example.database.generated.Tables.BOOK_CHANGE_LOG;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import com.bookstore.entity.events.ChangeType;
+import com.bookstore.entity.models.BookCreateRequest;
+import com.bookstore.entity.models.BookPriceChange;
+import com.bookstore.entity.models.BookSort;
 import com.example.common.database.MyDataSource;
+import com.example.common.pagination.KeysetSlice;
 import com.example.common.repository.BaseIntegrationTest;
 import com.example.database.generated.tables.pojos.Book;
 import com.example.database.generated.tables.pojos.BookAuthorVw;
+import com.example.database.generated.tables.pojos.BookChangeLog;
 import com.example.database.generated.tables.records.BookRecord;
 
 // Inherits @Transactional from BaseIntegrationTest
 @ExtendWith(SpringExtension.class)
-@ContextConfiguration(classes = { MyDataSource.class, BookRepository.class })
+@ContextConfiguration(classes = { MyDataSource.class, BookRepository.class, BookCatalogRepository.class,
+        BookChangeLogRepository.class })
 class BookRepositoryTest extends BaseIntegrationTest {
 
     @Autowired
     private BookRepository repository;
 
+    @Autowired
+    private BookChangeLogRepository changeLogRepository;
+
     @Autowired
     private DSLContext create;
 
@@ -76,8 +94,9 @@ class BookRepositoryTest extends BaseIntegrationTest {
 
     @Test
     void getBooksPaginated() {
-        // Act - get first page (prevPageLastBookId = null or 0)
-        List<BookAuthorVw> books = repository.findAll(null);
+        // Act - get first page
+        KeysetSlice<BookAuthorVw> page = repository.findPage(BookSort.ID, null, null, null, 10);
+        List<BookAuthorVw> books = page.items();
 
         // Assert - should return 10 books
         assertEquals(10, books.size());
@@ -90,7 +109,8 @@ class BookRepositoryTest extends BaseIntegrationTest {
         assertEquals(10, books.get(9).getId());
 
         // Act - get second page (books after ID 10)
-        books = repository.findAll(10);
+        assertArrayEquals(new Object[] { 10 }, page.nextKey());
+        books = repository.findPage(BookSort.ID, null, null, page.nextKey(), 10).items();
 
         // Assert - should return 10 books
         assertEquals(10, books.size());
@@ -102,4 +122,150 @@ class BookRepositoryTest extends BaseIntegrationTest {
         // Verify last book in page has ID 20
         assertEquals(20, books.get(9).getId());
     }
+
+    @Test
+    void getBooksPaginated_ByPriceThenId() {
+        // Act
+        KeysetSlice<BookAuthorVw> first = repository.findPage(BookSort.PRICE_DESC, null, null, null, 25);
+        KeysetSlice<BookAuthorVw> second = repository.findPage(BookSort.PRICE_DESC, null, null, first.nextKey(), 25);
+
+        // Assert - the second page continues exactly where the first stopped
+        List<BookAuthorVw> both = new ArrayList<>(first.items());
+        both.addAll(second.items());
+        List<BookAuthorVw> expected = both.stream()
+                .sorted(Comparator.comparing(BookAuthorVw::getPrice, Comparator.reverseOrder())
+                        .thenComparing(BookAuthorVw::getId))
+                .toList();
+        assertEquals(expected, both);
+        assertEquals(50, both.stream().map(BookAuthorVw::getId).distinct().count());
+    }
+
+    @Test
+    void getBooksPaginated_WithinPriceRange() {
+        // Arrange
+        BigDecimal min = new BigDecimal("10.00");
+        BigDecimal max = new BigDecimal("12.00");
+
+        // Act
+        KeysetSlice<BookAuthorVw> first = repository.findPage(BookSort.PRICE_ASC, min, max, null, 20);
+        KeysetSlice<BookAuthorVw> second = repository.findPage(BookSort.PRICE_ASC, min, max, first.nextKey(), 20);
+
+        // Assert - every row in range, and the second page starts at or above where the first stopped
+        List<BookAuthorVw> both = new ArrayList<>(first.items());
+        both.addAll(second.items());
+        assertEquals(40, both.size());
+        assertTrue(both.stream()
+                .allMatch(book -> book.getPrice().compareTo(min) >= 0 && book.getPrice().compareTo(max) <= 0));
+        assertTrue(second.items().get(0).getPrice().compareTo(first.items().get(19).getPrice()) >= 0);
+    }
+
+    @Test
+    void getBooksByAuthorPaginated() {
+        // Arrange
+        int authorBooks = (int) repository.countByAuthor(authorId);
+
+        // Act - walk every page
+        List<BookAuthorVw> all = new ArrayList<>();
+        Object[] after = null;
+        do {
+            KeysetSlice<BookAuthorVw> page = repository.findPageByAuthor(authorId, after, 5);
+            all.addAll(page.items());
+            after = page.nextKey();
+        } while (after != null);
+
+        // Assert - each of the author's books exactly once, in id order
+        assertEquals(authorBooks, all.size());
+        assertTrue(all.stream().allMatch(book -> book.getAuthorId() == authorId));
+        List<Integer> ids = all.stream().map(BookAuthorVw::getId).toList();
+        assertEquals(ids.stream().sorted().toList(), ids);
+    }
+
+    @Test
+    void saveUpdateDelete_KeepBookCatalogInSync() {
+        // Act - create
+        Integer id = repository.save(new BookCreateRequest(authorId, bookTitle, new BigDecimal("9.99"), null));
+
+        // Assert - readable straight away, with the author's name copied in
+        BookAuthorVw created = repository.findById(id).orElseThrow();
+        assertEquals(bookTitle, created.getTitle());
+        assertEquals(authorId, created.getAuthorId());
+        assertNotNull(created.getLastName());
+
+        // Act - update
+        repository.update(created, new BookCreateRequest(authorId, "Renamed", null, null));
+
+        // Assert
+        assertEquals("Renamed", repository.findById(id).orElseThrow().getTitle());
+
+        // Act - delete
+        repository.deleteById(id);
+
+        // Assert
+        assertTrue(repository.findById(id).isEmpty());
+    }
+
+    @Test
+    void updatePrices_UpdatesBookAndCatalogAndSkipsUnknownIds() {
+        // Arrange
+        long before = create.select(DSL.coalesce(DSL.max(BOOK_CHANGE_LOG.SEQ), 0L))
+                .from(BOOK_CHANGE_LOG)
+                .fetchOne()
+                .value1();
+
+        // Act
+        List<Integer> updated = repository.updatePrices(List.of(
+                new BookPriceChange(1, new BigDecimal("1.23")),
+                new BookPriceChange(999_999_999, new BigDecimal("4.56")),
+                new BookPriceChange(2, new BigDecimal("7.00")),
+                new BookPriceChange(1, new BigDecimal("3.21"))));
+
+        // Assert - the last change to a book wins, and each book is logged once
+        assertEquals(List.of(1, 2), updated);
+        assertEquals(new BigDecimal("3.21"), repository.findById(1).orElseThrow().getPrice());
+        assertEquals(new BigDecimal("7.00"), repository.findById(2).orElseThrow().getPrice());
+        assertEquals(List.of(1, 2), changeLogRepository.findSince(before, 0, 10).stream()
+                .map(BookChangeLog::getBookId)
+                .toList());
+    }
+
+    @Test
+    void saveUpdateDelete_AppendToChangeLogInOrder() {
+        // Arrange
+        long before = create.select(DSL.coalesce(DSL.max(BOOK_CHANGE_LOG.SEQ), 0L))
+                .from(BOOK_CHANGE_LOG)
+                .fetchOne()
+                .value1();
+
+        // Act
+        Integer id = repository.save(new BookCreateRequest(authorId, bookTitle, null, null));
+        repository.update(repository.findById(id).orElseThrow(),
+                new BookCreateRequest(authorId, "Renamed", null, null));
+        repository.deleteById(id);
+
+        // Assert
+        List<BookChangeLog> changes = changeLogRepository.findSince(before, 0, 10);
+        assertEquals(List.of(ChangeType.CREATED.name(), ChangeType.UPDATED.name(), ChangeType.DELETED.name()),
+                changes.stream().map(BookChangeLog::getChangeType).toList());
+        assertTrue(changes.stream().allMatch(change -> id.equals(change.getBookId())));
+        assertEquals(changes.get(2).getSeq(), changeLogRepository.findMaxSeq());
+    }
+
+    @Test
+    void findSince_StopsAtAGapUntilItTimesOut() {
+        // Arrange - a seq skipped as if its transaction were still running
+        changeLogRepository.append(1, ChangeType.UPDATED);
+        long last = changeLogRepository.findMaxSeq();
+        create.insertInto(BOOK_CHANGE_LOG, BOOK_CHANGE_LOG.SEQ, BOOK_CHANGE_LOG.BOOK_ID, BOOK_CHANGE_LOG.CHANGE_TYPE)
+                .values(last + 2, 2, ChangeType.UPDATED.name())
+                .execute();
+
+        // Act / Assert
+        assertEquals(List.of(), changeLogRepository.findSince(last, 60, 10));
+        assertEquals(List.of(last + 2), changeLogRepository.findSince(last, 0, 10).stream()
+                .map(BookChangeLog::getSeq)
+                .toList());
+        assertEquals(List.of(last), changeLogRepository.findSince(last - 1, 60, 10).stream()
+                .map(BookChangeLog::getSeq)
+                .toList());
+    }
 }
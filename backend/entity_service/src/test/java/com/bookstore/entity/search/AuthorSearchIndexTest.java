@@ -0,0 +1,51 @@
+package com.bookstore.entity.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bookstore.entity.events.AuthorsReplayedEvent;
+import com.bookstore.entity.repository.AuthorRepository;
+import com.example.database.generated.tables.pojos.Author;
+
+@ExtendWith(MockitoExtension.class)
+class AuthorSearchIndexTest {
+
+    @Mock
+    private AuthorRepository authorRepository;
+
+    @InjectMocks
+    private AuthorSearchIndex authorSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(authorRepository.findAll()).thenReturn(List.of(
+                new Author(1, "Charles", "Allan"),
+                new Author(2, "Emily", "Hernandez")));
+        authorSearchIndex.rebuild();
+    }
+
+    @Test
+    void onAuthorsReplayed_AppliesAuthorsWrittenElsewhere() {
+        // Arrange - author 1 renamed and author 2 deleted through another instance, author 3 created there
+        AuthorsReplayedEvent event = new AuthorsReplayedEvent(List.of(
+                new Author(1, "Charles", "Allen"),
+                new Author(3, "Ana", "Hernández")), List.of(2));
+
+        // Act
+        authorSearchIndex.onAuthorsReplayed(event);
+
+        // Assert
+        assertEquals(List.of(), authorSearchIndex.searchLastName("allan"));
+        assertEquals(List.of(1), authorSearchIndex.searchLastName("allen").stream().map(Author::getId).toList());
+        assertEquals(List.of(3), authorSearchIndex.searchName("hernandez").stream().map(Author::getId).toList());
+    }
+}
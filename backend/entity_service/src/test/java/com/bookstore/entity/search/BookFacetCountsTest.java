@@ -0,0 +1,149 @@
+package com.bookstore.entity.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bookstore.entity.events.AuthorsReplayedEvent;
+import com.bookstore.entity.events.BookChangedEvent;
+import com.bookstore.entity.events.BooksReplayedEvent;
+import com.bookstore.entity.events.BooksRepricedEvent;
+import com.bookstore.entity.events.ChangeType;
+import com.bookstore.entity.models.BookFacets;
+import com.bookstore.entity.models.PriceBand;
+import com.bookstore.entity.repository.AuthorRepository;
+import com.bookstore.entity.repository.BookRepository;
+import com.example.database.generated.tables.pojos.Author;
+import com.example.database.generated.tables.pojos.BookAuthorVw;
+
+@ExtendWith(MockitoExtension.class)
+class BookFacetCountsTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private AuthorRepository authorRepository;
+
+    @InjectMocks
+    private BookFacetCounts bookFacetCounts;
+
+    @BeforeEach
+    void setUp() {
+        when(authorRepository.findAll()).thenReturn(List.of(
+                new Author(1, "Charles", "Allan"),
+                new Author(2, "Emily", "Hernandez")));
+        when(bookRepository.findAllForFacets()).thenReturn(List.of(
+                book(1, 1, "9.99"),
+                book(2, 2, "15.00"),
+                book(3, 2, "20.00")));
+        bookFacetCounts.rebuild();
+    }
+
+    @Test
+    void rebuild_CountsBandsAndAuthors() {
+        // Act
+        BookFacets facets = bookFacetCounts.getFacets();
+
+        // Assert
+        assertEquals(3, facets.getTotal());
+        assertEquals(1L, facets.getPriceBands().get(PriceBand.UNDER_10));
+        assertEquals(1L, facets.getPriceBands().get(PriceBand.FROM_10_TO_20));
+        assertEquals(1L, facets.getPriceBands().get(PriceBand.FROM_20_TO_30));
+        assertEquals(0L, facets.getPriceBands().get(PriceBand.FROM_50));
+        assertEquals(List.of(
+                new BookFacets.AuthorCount(2, "Emily Hernandez", 2),
+                new BookFacets.AuthorCount(1, "Charles Allan", 1)), facets.getAuthors());
+    }
+
+    @Test
+    void countForAuthor_ReadsFromCounts() {
+        // Act / Assert
+        assertEquals(2L, bookFacetCounts.countForAuthor(2));
+        assertEquals(0L, bookFacetCounts.countForAuthor(99));
+    }
+
+    @Test
+    void onBookChanged_Updated_MovesBookBetweenCounts() {
+        // Arrange
+        when(bookRepository.findById(1)).thenReturn(Optional.of(book(1, 2, "60.00")));
+
+        // Act
+        bookFacetCounts.onBookChanged(new BookChangedEvent(1, ChangeType.UPDATED));
+
+        // Assert
+        BookFacets facets = bookFacetCounts.getFacets();
+        assertEquals(3, facets.getTotal());
+        assertEquals(0L, facets.getPriceBands().get(PriceBand.UNDER_10));
+        assertEquals(1L, facets.getPriceBands().get(PriceBand.FROM_50));
+        assertEquals(List.of(new BookFacets.AuthorCount(2, "Emily Hernandez", 3)), facets.getAuthors());
+    }
+
+    @Test
+    void onBookChanged_Deleted_RemovesBook() {
+        // Act
+        bookFacetCounts.onBookChanged(new BookChangedEvent(3, ChangeType.DELETED));
+
+        // Assert
+        BookFacets facets = bookFacetCounts.getFacets();
+        assertEquals(2, facets.getTotal());
+        assertEquals(0L, facets.getPriceBands().get(PriceBand.FROM_20_TO_30));
+        assertEquals(1, facets.getAuthors().get(0).getCount());
+    }
+
+    @Test
+    void onBooksRepriced_MovesEachBookOnce() {
+        // Arrange
+        when(bookRepository.findAllById(List.of(1, 2))).thenReturn(List.of(book(1, 1, "25.00"), book(2, 2, "25.00")));
+
+        // Act
+        bookFacetCounts.onBooksRepriced(new BooksRepricedEvent(List.of(1, 2)));
+
+        // Assert
+        BookFacets facets = bookFacetCounts.getFacets();
+        assertEquals(3, facets.getTotal());
+        assertEquals(0L, facets.getPriceBands().get(PriceBand.UNDER_10));
+        assertEquals(0L, facets.getPriceBands().get(PriceBand.FROM_10_TO_20));
+        assertEquals(3L, facets.getPriceBands().get(PriceBand.FROM_20_TO_30));
+    }
+
+    @Test
+    void onBooksReplayed_AppliesRowsAndDeletesFromOtherInstances() {
+        // Act
+        bookFacetCounts.onBooksReplayed(new BooksReplayedEvent(List.of(book(1, 1, "55.00"), book(4, 1, "5.00")),
+                List.of(3)));
+
+        // Assert
+        BookFacets facets = bookFacetCounts.getFacets();
+        assertEquals(3, facets.getTotal());
+        assertEquals(1L, facets.getPriceBands().get(PriceBand.UNDER_10));
+        assertEquals(1L, facets.getPriceBands().get(PriceBand.FROM_50));
+        assertEquals(0L, facets.getPriceBands().get(PriceBand.FROM_20_TO_30));
+        assertEquals(2L, bookFacetCounts.countForAuthor(1));
+    }
+
+    @Test
+    void onAuthorsReplayed_RenamesAuthorWrittenElsewhere() {
+        // Act
+        bookFacetCounts.onAuthorsReplayed(new AuthorsReplayedEvent(List.of(new Author(1, "Charles", "Allen")),
+                List.of()));
+
+        // Assert
+        assertEquals(new BookFacets.AuthorCount(1, "Charles Allen", 1),
+                bookFacetCounts.getFacets().getAuthors().get(1));
+    }
+
+    private static BookAuthorVw book(int id, int authorId, String price) {
+        return new BookAuthorVw(id, authorId, null, new BigDecimal(price), null, null, null);
+    }
+}
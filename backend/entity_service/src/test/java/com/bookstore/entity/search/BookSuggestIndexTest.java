@@ -0,0 +1,113 @@
+package com.bookstore.entity.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bookstore.entity.events.AuthorsReplayedEvent;
+import com.bookstore.entity.events.BookChangedEvent;
+import com.bookstore.entity.events.BooksReplayedEvent;
+import com.bookstore.entity.events.ChangeType;
+import com.bookstore.entity.models.BookSuggestion;
+import com.bookstore.entity.repository.AuthorRepository;
+import com.bookstore.entity.repository.BookRepository;
+import com.example.database.generated.tables.pojos.Author;
+import com.example.database.generated.tables.pojos.BookAuthorVw;
+
+@ExtendWith(MockitoExtension.class)
+class BookSuggestIndexTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private AuthorRepository authorRepository;
+
+    @InjectMocks
+    private BookSuggestIndex bookSuggestIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(authorRepository.findAll()).thenReturn(List.of(new Author(1, "Charles", "Allan")));
+        when(bookRepository.findAllForSearchIndex()).thenReturn(List.of(
+                book(1, "Secret Garden"),
+                book(2, "Secret History")));
+        when(bookRepository.findQuantitiesSold()).thenReturn(Map.of(1, 5L));
+        bookSuggestIndex.rebuild();
+    }
+
+    @Test
+    void onBookChanged_ShowsUpOnlyOncePublished() {
+        // Arrange
+        when(bookRepository.findById(3)).thenReturn(Optional.of(book(3, "Secret Agent")));
+        bookSuggestIndex.onBookChanged(new BookChangedEvent(3, ChangeType.CREATED));
+
+        // Act / Assert - the write only touched the maps
+        assertEquals(2, bookSuggestIndex.suggest("secret", 10).size());
+        bookSuggestIndex.publish();
+        assertEquals(3, bookSuggestIndex.suggest("secret", 10).size());
+    }
+
+    @Test
+    void refreshSales_ReRanksCompletions() {
+        // Arrange
+        assertEquals(title("Secret Garden"), bookSuggestIndex.suggest("secret", 1).get(0));
+        when(bookRepository.findQuantitiesSold()).thenReturn(Map.of(1, 5L, 2, 50L));
+
+        // Act
+        bookSuggestIndex.refreshSales();
+        bookSuggestIndex.publish();
+
+        // Assert
+        assertEquals(title("Secret History"), bookSuggestIndex.suggest("secret", 1).get(0));
+    }
+
+    @Test
+    void onBooksReplayed_UnchangedTitles_KeepsTheTrie() {
+        // Arrange - every build makes new suggestion objects
+        BookSuggestion before = bookSuggestIndex.suggest("secret", 1).get(0);
+
+        // Act - rows already applied here, e.g. a price change
+        bookSuggestIndex.onBooksReplayed(new BooksReplayedEvent(List.of(book(1, "Secret Garden")), List.of()));
+        bookSuggestIndex.publish();
+
+        // Assert
+        assertSame(before, bookSuggestIndex.suggest("secret", 1).get(0));
+    }
+
+    @Test
+    void onAuthorsReplayed_RenamedAuthor_RebuildsOncePublished() {
+        // Arrange
+        BookSuggestion before = bookSuggestIndex.suggest("secret", 1).get(0);
+
+        // Act
+        bookSuggestIndex.onAuthorsReplayed(new AuthorsReplayedEvent(List.of(new Author(1, "Charles", "Allen")),
+                List.of()));
+        bookSuggestIndex.publish();
+
+        // Assert
+        assertEquals(List.of(new BookSuggestion("Charles Allen", BookSuggestion.Type.AUTHOR)),
+                bookSuggestIndex.suggest("allen", 10));
+        assertNotSame(before, bookSuggestIndex.suggest("secret", 1).get(0));
+    }
+
+    private static BookSuggestion title(String text) {
+        return new BookSuggestion(text, BookSuggestion.Type.TITLE);
+    }
+
+    private static BookAuthorVw book(int id, String title) {
+        return new BookAuthorVw(id, 1, title, null, null, "Charles", "Allan");
+    }
+}
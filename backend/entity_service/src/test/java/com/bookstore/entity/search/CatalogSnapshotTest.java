@@ -0,0 +1,122 @@
+package com.bookstore.entity.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.bookstore.entity.models.BookSort;
+import com.example.database.generated.tables.pojos.BookAuthorVw;
+
+class CatalogSnapshotTest {
+
+    @TempDir
+    Path dir;
+
+    private ColumnarCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new ColumnarCatalog();
+        catalog.putAll(List.of(
+                book(3, 1, "beta", "9.99", "Second"),
+                book(1, 1, "Alpha", "19.99", null),
+                book(2, 2, "Éclair", "9.99", "Crème"),
+                book(4, 2, null, "4.50", null)));
+    }
+
+    @Test
+    void writeAndRead_RestoresEveryBookAndOrder() throws IOException {
+        // Arrange
+        Path path = dir.resolve("catalog.snapshot");
+
+        // Act
+        catalog.snapshot(42).write(path);
+        CatalogSnapshot read = CatalogSnapshot.read(path);
+        ColumnarCatalog restored = new ColumnarCatalog();
+        restored.restore(read);
+
+        // Assert
+        assertEquals(42, read.seq());
+        assertEquals(4, restored.size());
+        for (int id = 1; id <= 4; id++) {
+            assertEquals(catalog.findById(id), restored.findById(id));
+        }
+        for (BookSort sort : BookSort.values()) {
+            assertEquals(ids(catalog, sort), ids(restored, sort));
+        }
+    }
+
+    @Test
+    void snapshot_LeavesOutRemovedRowsAndUnusedStrings() {
+        // Arrange
+        catalog.remove(2);
+
+        // Act
+        CatalogSnapshot snapshot = catalog.snapshot(1);
+
+        // Assert - "Éclair" and "Crème" were only used by book 2
+        assertEquals(3, snapshot.size());
+        assertEquals(5, snapshot.strings().length);
+        assertFalse(Arrays.asList(snapshot.strings()).contains("Éclair"));
+        assertFalse(Arrays.asList(snapshot.strings()).contains("Crème"));
+    }
+
+    @Test
+    void restore_CatalogStaysWritable() throws IOException {
+        // Arrange
+        Path path = dir.resolve("catalog.snapshot");
+        catalog.snapshot(1).write(path);
+        ColumnarCatalog restored = new ColumnarCatalog();
+        restored.restore(CatalogSnapshot.read(path));
+
+        // Act
+        restored.put(book(1, 1, "Alpha", "1.00", null));
+        restored.remove(3);
+        restored.put(book(5, 2, "gamma", "2.00", null));
+
+        // Assert
+        assertEquals(List.of(1, 5, 4, 2), ids(restored, BookSort.PRICE_ASC));
+        assertEquals("Last", restored.findById(5).orElseThrow().getLastName());
+    }
+
+    @Test
+    void read_TruncatedFileIsRejected() throws IOException {
+        // Arrange
+        Path path = dir.resolve("catalog.snapshot");
+        catalog.snapshot(1).write(path);
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 3));
+
+        // Act / Assert
+        assertThrows(IOException.class, () -> CatalogSnapshot.read(path));
+    }
+
+    @Test
+    void read_OtherFileIsRejected() throws IOException {
+        // Arrange
+        Path path = dir.resolve("catalog.snapshot");
+        Files.writeString(path, "not a snapshot, just some text of at least a header");
+
+        // Act / Assert
+        assertThrows(IOException.class, () -> CatalogSnapshot.read(path));
+    }
+
+    private static List<Integer> ids(ColumnarCatalog catalog, BookSort sort) {
+        return catalog.findPage(sort, null, null, null, 100).items().stream().map(BookAuthorVw::getId).toList();
+    }
+
+    private static BookAuthorVw book(int id, int authorId, String title, String price, String description) {
+        return new BookAuthorVw(id, authorId, title, new BigDecimal(price), description, "First", "Last");
+    }
+}
@@ -0,0 +1,179 @@
+package com.bookstore.entity.search;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.bookstore.entity.models.BookSort;
+import com.example.common.pagination.KeysetSlice;
+import com.example.database.generated.tables.pojos.BookAuthorVw;
+
+class ColumnarCatalogTest {
+
+    private ColumnarCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new ColumnarCatalog();
+        catalog.putAll(List.of(
+                book(3, 1, "beta", "9.99"),
+                book(1, 1, "Alpha", "19.99"),
+                book(2, 2, "Éclair", "9.99"),
+                book(4, 2, null, "4.50")));
+    }
+
+    @Test
+    void findById_ReturnsTheStoredBook() {
+        // Act / Assert
+        assertEquals(book(2, 2, "Éclair", "9.99"), catalog.findById(2).orElseThrow());
+        assertFalse(catalog.findById(99).isPresent());
+    }
+
+    @Test
+    void findAllById_KeepsRequestedOrderAndSkipsUnknown() {
+        // Act
+        List<BookAuthorVw> books = catalog.findAllById(List.of(4, 99, 1));
+
+        // Assert
+        assertEquals(List.of(4, 1), books.stream().map(BookAuthorVw::getId).toList());
+    }
+
+    @Test
+    void findPage_EachSortOrder() {
+        // Act / Assert - price ties break on id ascending, titles sort by code point, null sorts as ""
+        assertEquals(List.of(1, 2, 3, 4), ids(BookSort.ID, null, null));
+        assertEquals(List.of(4, 2, 3, 1), ids(BookSort.PRICE_ASC, null, null));
+        assertEquals(List.of(1, 2, 3, 4), ids(BookSort.PRICE_DESC, null, null));
+        assertEquals(List.of(4, 1, 3, 2), ids(BookSort.TITLE, null, null));
+    }
+
+    @Test
+    void findPage_PriceRangeIsInclusive() {
+        // Act / Assert
+        assertEquals(List.of(2, 3), ids(BookSort.PRICE_ASC, "9.99", "9.99"));
+        assertEquals(List.of(2, 3, 4), ids(BookSort.PRICE_DESC, null, "9.99"));
+        assertEquals(List.of(1, 2, 3), ids(BookSort.ID, "5", null));
+    }
+
+    @Test
+    void findPage_NextKeyMatchesDatabaseKeyShape() {
+        // Act
+        KeysetSlice<BookAuthorVw> first = catalog.findPage(BookSort.PRICE_ASC, null, null, null, 2);
+        KeysetSlice<BookAuthorVw> title = catalog.findPage(BookSort.TITLE, null, null, null, 1);
+
+        // Assert
+        assertArrayEquals(new Object[] { new BigDecimal("9.99"), 2 }, first.nextKey());
+        assertArrayEquals(new Object[] { "", 4 }, title.nextKey());
+    }
+
+    @Test
+    void findPage_LastPageHasNoNextKey() {
+        // Act
+        KeysetSlice<BookAuthorVw> page = catalog.findPage(BookSort.ID, null, null, new Object[] { 2 }, 2);
+
+        // Assert
+        assertEquals(List.of(3, 4), page.items().stream().map(BookAuthorVw::getId).toList());
+        assertNull(page.nextKey());
+    }
+
+    @Test
+    void put_ReplacesBookAndMovesItInEveryOrder() {
+        // Act
+        catalog.put(book(1, 1, "Alpha", "1.00"));
+
+        // Assert
+        assertEquals(new BigDecimal("1.00"), catalog.findById(1).orElseThrow().getPrice());
+        assertEquals(List.of(1, 4, 2, 3), ids(BookSort.PRICE_ASC, null, null));
+        assertEquals(4, catalog.size());
+    }
+
+    @Test
+    void putAll_ReplacesSeveralBooksAndAddsNewOnesInOneBatch() {
+        // Act
+        catalog.putAll(List.of(
+                book(3, 1, "beta", "50.00"),
+                book(5, 2, "delta", "5.00"),
+                book(1, 1, "Alpha", "1.00")));
+
+        // Assert
+        assertEquals(List.of(1, 4, 5, 2, 3), ids(BookSort.PRICE_ASC, null, null));
+        assertEquals(List.of(3, 2, 5, 4, 1), ids(BookSort.PRICE_DESC, null, null));
+        assertEquals(List.of(1, 2, 3, 4, 5), ids(BookSort.ID, null, null));
+        assertEquals(5, catalog.size());
+    }
+
+    @Test
+    void remove_DropsBookAndReusesItsRow() {
+        // Act
+        catalog.remove(3);
+        catalog.put(book(5, 1, "gamma", "2.00"));
+
+        // Assert
+        assertFalse(catalog.findById(3).isPresent());
+        assertEquals(List.of(4, 1, 5, 2), ids(BookSort.TITLE, null, null));
+        assertEquals(4, catalog.size());
+    }
+
+    @Test
+    void renameAuthor_UpdatesEveryBookByTheAuthor() {
+        // Act
+        catalog.renameAuthor(2, "New", "Name");
+
+        // Assert
+        assertEquals("Name", catalog.findById(2).orElseThrow().getLastName());
+        assertEquals("Name", catalog.findById(4).orElseThrow().getLastName());
+        assertEquals("Last", catalog.findById(1).orElseThrow().getLastName());
+    }
+
+    @Test
+    void putAll_LargeBatch_PagesThroughEveryBookOnce() {
+        // Arrange
+        List<BookAuthorVw> books = new ArrayList<>();
+        for (int id = 10; id < 2010; id++) {
+            books.add(book(id, id % 7, "Title " + (id % 13), String.valueOf(id % 50)));
+        }
+        catalog.putAll(books);
+
+        // Act
+        List<Integer> seen = new ArrayList<>();
+        Object[] after = null;
+        do {
+            KeysetSlice<BookAuthorVw> page = catalog.findPage(BookSort.PRICE_DESC, null, null, after, 100);
+            page.items().forEach(book -> seen.add(book.getId()));
+            after = page.nextKey();
+        } while (after != null);
+
+        // Assert
+        assertEquals(2004, seen.size());
+        assertEquals(2004, seen.stream().distinct().count());
+    }
+
+    @Test
+    void compareTitles_MatchesBinaryCollation() {
+        // Act / Assert
+        assertTrue(ColumnarCatalog.compareTitles("Eclair", "éclair") < 0);
+        assertTrue(ColumnarCatalog.compareTitles("ABD", "abc") < 0);
+        assertTrue(ColumnarCatalog.compareTitles("ab", "abc") < 0);
+        assertEquals(0, ColumnarCatalog.compareTitles(null, ""));
+        // U+1F600 is above U+FFFD, although its first UTF-16 unit is below
+        assertTrue(ColumnarCatalog.compareTitles("\uD83D\uDE00", "\uFFFD") > 0);
+    }
+
+    private List<Integer> ids(BookSort sort, String min, String max) {
+        return catalog.findPage(sort, min == null ? null : new BigDecimal(min), max == null ? null : new BigDecimal(max),
+                null, 100).items().stream().map(BookAuthorVw::getId).toList();
+    }
+
+    private static BookAuthorVw book(int id, int authorId, String title, String price) {
+        return new BookAuthorVw(id, authorId, title, new BigDecimal(price), null, "First", "Last");
+    }
+}
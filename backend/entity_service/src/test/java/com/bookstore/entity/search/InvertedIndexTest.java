@@ -0,0 +1,146 @@
+package com.bookstore.entity.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InvertedIndexTest {
+
+    private static final long BUDGET = 60_000_000_000L;
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex();
+        index.put(1, "The Forgotten Chronicles", 10, "Charles Allan");
+        index.put(2, "The Secret Garden", 20, "Emily Hernandez");
+        index.put(3, "Secret", 10, "Charles Allan");
+        index.put(4, "Garden of Charles", 30, "Bob Smith");
+    }
+
+    @Test
+    void search_RanksTitleMatchesAboveAuthorMatches() {
+        // Act
+        InvertedIndex.Hits hits = index.search("charles", 0, 10);
+
+        // Assert - title match first, then author matches with the shorter title first
+        assertEquals(List.of(4, 3, 1), hits.ids());
+        assertEquals(3, hits.total());
+    }
+
+    @Test
+    void search_AllTermsMustMatch_LastTermIsPrefix() {
+        // Act
+        InvertedIndex.Hits hits = index.search("The Sec", 0, 10);
+
+        // Assert
+        assertEquals(List.of(2), hits.ids());
+    }
+
+    @Test
+    void search_ShortPrefix_MergesEveryTermAndSeesLaterWrites() {
+        // Arrange - "g" covers garden in books 2 and 4
+        assertEquals(List.of(2, 4), index.search("g", 0, 10).ids());
+
+        // Act
+        index.put(5, "Gamma Rays", 40, "Hans Meyer");
+
+        // Assert
+        assertEquals(List.of(5, 2, 4), index.search("g", 0, 10).ids());
+    }
+
+    @Test
+    void search_Paginates() {
+        // Act
+        InvertedIndex.Hits firstPage = index.search("charles", 0, 2);
+        InvertedIndex.Hits secondPage = index.search("charles", 2, 2);
+
+        // Assert
+        assertEquals(List.of(4, 3), firstPage.ids());
+        assertEquals(List.of(1), secondPage.ids());
+        assertEquals(3, secondPage.total());
+    }
+
+    @Test
+    void search_NoTerms_ReturnsNothing() {
+        assertTrue(index.search("  !! ", 0, 10).ids().isEmpty());
+    }
+
+    @Test
+    void put_ReplacesExistingBook() {
+        // Act
+        index.put(3, "Hidden", 10, "Charles Allan");
+
+        // Assert
+        assertEquals(List.of(2), index.search("secret", 0, 10).ids());
+        assertEquals(List.of(3), index.search("hidden", 0, 10).ids());
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void remove_DropsBookFromResults() {
+        // Act
+        index.remove(4);
+
+        // Assert
+        assertEquals(List.of(3, 1), index.search("charles", 0, 10).ids());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void renameAuthor_ReindexesAuthorTerms() {
+        // Act
+        index.renameAuthor(10, "Charlotte Bronte");
+
+        // Assert
+        assertEquals(List.of(4), index.search("charles", 0, 10).ids());
+        assertEquals(List.of(3, 1), index.search("bronte", 0, 10).ids());
+    }
+
+    @Test
+    void searchFuzzy_MatchesMisspelledTerms() {
+        // Act - a swapped pair, then a swap plus an exact term
+        InvertedIndex.Hits charles = index.searchFuzzy("chrales", 0, 10, BUDGET);
+        InvertedIndex.Hits garden = index.searchFuzzy("secert garden", 0, 10, BUDGET);
+
+        // Assert
+        assertEquals(List.of(4, 3, 1), charles.ids());
+        assertEquals(List.of(2), garden.ids());
+    }
+
+    @Test
+    void searchFuzzy_ExactMatchesRankAboveCloseOnes() {
+        // Arrange
+        index.put(5, "Garten", 40, "Hans Meyer");
+
+        // Act
+        InvertedIndex.Hits hits = index.searchFuzzy("garden", 0, 10, BUDGET);
+
+        // Assert
+        assertEquals(List.of(2, 4, 5), hits.ids());
+    }
+
+    @Test
+    void searchFuzzy_ShortTermsMustMatchExactly() {
+        // Act / Assert - two characters allow no edit, three allow one
+        assertEquals(List.of(4), index.searchFuzzy("of", 0, 10, BUDGET).ids());
+        assertTrue(index.searchFuzzy("or", 0, 10, BUDGET).ids().isEmpty());
+        assertEquals(List.of(1, 2), index.searchFuzzy("teh", 0, 10, BUDGET).ids());
+    }
+
+    @Test
+    void searchFuzzy_OutOfBudgetStillFindsExactAndPrefixMatches() {
+        // Act
+        InvertedIndex.Hits hits = index.searchFuzzy("charles gar", 0, 10, 0);
+
+        // Assert
+        assertEquals(List.of(4), hits.ids());
+        assertFalse(hits.complete());
+    }
+}
@@ -0,0 +1,91 @@
+package com.bookstore.entity.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.bookstore.entity.models.BookSuggestion;
+
+class SuggestTrieTest {
+
+    private SuggestTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = SuggestTrie.build(List.of(
+                entry("The Secret Garden", BookSuggestion.Type.TITLE, 20),
+                entry("Secret", BookSuggestion.Type.TITLE, 5),
+                entry("The Forgotten Chronicles", BookSuggestion.Type.TITLE, 50),
+                entry("Emily Hernandez", BookSuggestion.Type.AUTHOR, 30),
+                entry("Charles Allan", BookSuggestion.Type.AUTHOR, 1)));
+    }
+
+    @Test
+    void suggest_MatchesFromStartOfAnyWord_MostPopularFirst() {
+        // Act
+        List<BookSuggestion> suggestions = trie.suggest("sec", 10);
+
+        // Assert
+        assertEquals(List.of("The Secret Garden", "Secret"), texts(suggestions));
+    }
+
+    @Test
+    void suggest_NormalizesQueryAndSpansWords() {
+        // Act
+        List<BookSuggestion> suggestions = trie.suggest("  SECRET,  ga", 10);
+
+        // Assert
+        assertEquals(List.of("The Secret Garden"), texts(suggestions));
+    }
+
+    @Test
+    void suggest_IncludesAuthorNames() {
+        // Act
+        List<BookSuggestion> suggestions = trie.suggest("hern", 10);
+
+        // Assert
+        assertEquals(List.of(new BookSuggestion("Emily Hernandez", BookSuggestion.Type.AUTHOR)), suggestions);
+    }
+
+    @Test
+    void suggest_RespectsLimit() {
+        // Act
+        List<BookSuggestion> suggestions = trie.suggest("the", 1);
+
+        // Assert
+        assertEquals(List.of("The Forgotten Chronicles"), texts(suggestions));
+    }
+
+    @Test
+    void suggest_QueryLongerThanStoredKeys_FiltersCompletionsAtTheCutOff() {
+        // Arrange - two titles sharing far more than MAX_KEY_LENGTH characters
+        SuggestTrie longTitles = SuggestTrie.build(List.of(
+                entry("A Very Long And Winding Road To Nowhere", BookSuggestion.Type.TITLE, 9),
+                entry("A Very Long And Winding Road To Somewhere", BookSuggestion.Type.TITLE, 3)));
+
+        // Act / Assert
+        assertEquals(List.of("A Very Long And Winding Road To Somewhere"),
+                texts(longTitles.suggest("very long and winding road to some", 10)));
+        assertEquals(List.of("A Very Long And Winding Road To Nowhere", "A Very Long And Winding Road To Somewhere"),
+                texts(longTitles.suggest("long and winding road to", 10)));
+        assertTrue(longTitles.suggest("very long and winding road to elsewhere", 10).isEmpty());
+    }
+
+    @Test
+    void suggest_NoMatchOrBlankQuery_ReturnsEmpty() {
+        assertTrue(trie.suggest("xyz", 10).isEmpty());
+        assertTrue(trie.suggest("  ", 10).isEmpty());
+    }
+
+    private static SuggestTrie.Entry entry(String text, BookSuggestion.Type type, long weight) {
+        return new SuggestTrie.Entry(new BookSuggestion(text, type), weight);
+    }
+
+    private static List<String> texts(List<BookSuggestion> suggestions) {
+        return suggestions.stream().map(BookSuggestion::getText).toList();
+    }
+}
@@ -0,0 +1,63 @@
+package com.bookstore.entity.search;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        index.put(3, "Smithson");
+        index.put(1, "Smith");
+        index.put(2, "Hernández");
+        index.put(4, "Goldsmith");
+    }
+
+    @Test
+    void search_FindsSubstringAnywhereIgnoringCase() {
+        // Act / Assert - ids come back in ascending order
+        assertArrayEquals(new int[] { 1, 3, 4 }, index.search("SMITH"));
+        assertArrayEquals(new int[] { 4 }, index.search("dsmi"));
+    }
+
+    @Test
+    void search_IgnoresAccents() {
+        // Act / Assert
+        assertArrayEquals(new int[] { 2 }, index.search("hernandez"));
+        assertArrayEquals(new int[] { 2 }, index.search("NÁN"));
+    }
+
+    @Test
+    void search_VerifiesCandidates() {
+        // Arrange - has every gram of "ithso" (ith, ths, hso) without containing it
+        index.put(5, "ithsxx hso");
+
+        // Act / Assert - only a real contains() counts, not a text that merely has all the grams
+        assertArrayEquals(new int[] { 3 }, index.search("ithso"));
+    }
+
+    @Test
+    void search_ShortQueryScansEveryText() {
+        // Act / Assert
+        assertArrayEquals(new int[] { 1, 3, 4 }, index.search("th"));
+        assertArrayEquals(new int[0], index.search(" "));
+    }
+
+    @Test
+    void putAndRemove_KeepPostingsCurrent() {
+        // Act
+        index.put(1, "Jones");
+        index.remove(4);
+
+        // Assert
+        assertArrayEquals(new int[] { 3 }, index.search("smith"));
+        assertArrayEquals(new int[] { 1 }, index.search("one"));
+        assertEquals(3, index.size());
+    }
+}
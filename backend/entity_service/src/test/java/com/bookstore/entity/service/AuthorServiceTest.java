@@ -2,8 +2,10 @@ package com.bookstore.entity.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -12,10 +14,25 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.bookstore.entity.cache.AuthorListingCache;
+import com.bookstore.entity.cache.CachedJson;
+import com.bookstore.entity.cache.CachedPage;
+import com.bookstore.entity.events.AuthorChangedEvent;
+import com.bookstore.entity.events.ChangeType;
 import com.bookstore.entity.models.AuthorCreateRequest;
 import com.bookstore.entity.repository.AuthorRepository;
+import com.bookstore.entity.repository.BookRepository;
+import com.bookstore.entity.search.BookFacetCounts;
+import com.bookstore.entity.search.AuthorSearchIndex;
+import com.example.common.pagination.KeysetPage;
+import com.example.common.pagination.KeysetPagination;
+import com.example.common.pagination.KeysetSlice;
+import com.example.database.generated.tables.pojos.BookAuthorVw;
 
 @ExtendWith(MockitoExtension.class)
 class AuthorServiceTest {
@@ -23,29 +40,58 @@ class AuthorServiceTest {
     @Mock
     private AuthorRepository authorRepository;
 
+    @Mock
+    private AuthorListingCache authorListingCache;
+
+    @Mock
+    private AuthorSearchIndex authorSearchIndex;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private BookFacetCounts bookFacetCounts;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private KeysetPagination keysetPagination = new KeysetPagination("test-secret", 100);
+
     @InjectMocks
     private AuthorService authorService;
 
     @Test
-    void testGetAllAuthors() {
+    void testGetAuthorPage() {
         // Arrange
-        com.example.database.generated.tables.pojos.Author author1 = 
-            new com.example.database.generated.tables.pojos.Author(1, "John", "Doe");
+        CachedJson json = CachedJson.of("[]".getBytes(StandardCharsets.UTF_8));
+        when(authorListingCache.page(10, AuthorListingCache.PAGE_SIZE))
+                .thenReturn(new AuthorListingCache.Page(json, null));
 
-        com.example.database.generated.tables.pojos.Author author2 = 
-            new com.example.database.generated.tables.pojos.Author(2, "Jane", "Smith");
+        // Act
+        CachedPage result = authorService.getAuthorPage(10, null, null);
 
-        List<com.example.database.generated.tables.pojos.Author> mockAuthors = Arrays.asList(author1, author2);
-        when(authorRepository.findAll()).thenReturn(mockAuthors);
+        // Assert
+        assertSame(json, result.json());
+        assertNull(result.nextCursor());
+        verify(authorListingCache, times(1)).page(10, AuthorListingCache.PAGE_SIZE);
+    }
+
+    @Test
+    void testGetAuthorPage_CursorRoundTrip() {
+        // Arrange
+        CachedJson json = CachedJson.of("[]".getBytes(StandardCharsets.UTF_8));
+        when(authorListingCache.page(0, 5)).thenReturn(new AuthorListingCache.Page(json, 42));
+        when(authorListingCache.page(42, 5)).thenReturn(new AuthorListingCache.Page(json, null));
 
         // Act
-        List<com.example.database.generated.tables.pojos.Author> result = authorService.getAllAuthors();
+        String cursor = authorService.getAuthorPage(0, 5, null).nextCursor();
+        CachedPage next = authorService.getAuthorPage(0, 5, cursor);
 
         // Assert
-        assertEquals(2, result.size());
-        assertEquals("John", result.get(0).getFirstName());
-        assertEquals("Jane", result.get(1).getFirstName());
-        verify(authorRepository, times(1)).findAll();
+        assertNotNull(cursor);
+        assertNull(next.nextCursor());
+        verify(authorListingCache, times(1)).page(42, 5);
     }
 
     @Test
@@ -83,7 +129,7 @@ class AuthorServiceTest {
         // Arrange
         AuthorCreateRequest newAuthor = new AuthorCreateRequest("John", "Doe");
 
-        doNothing().when(authorRepository).save(newAuthor);
+        when(authorRepository.save(newAuthor)).thenReturn(1);
 
         // Act
         authorService.createAuthor(newAuthor);
@@ -109,6 +155,7 @@ class AuthorServiceTest {
         // Assert
         verify(authorRepository, times(1)).findById(1);
         verify(authorRepository, times(1)).update(existingAuthor, updatedDetails);
+        verify(eventPublisher, times(1)).publishEvent(new AuthorChangedEvent(1, ChangeType.UPDATED));
     }
 
     @Test
@@ -175,4 +222,75 @@ class AuthorServiceTest {
         assertEquals(2, result.size());
         verify(authorRepository, times(1)).findByLastNameContaining("Smith");
     }
+
+    @Test
+    void testSearchAuthors_IndexReady_DoesNotQueryDatabase() {
+        // Arrange
+        com.example.database.generated.tables.pojos.Author author =
+            new com.example.database.generated.tables.pojos.Author(1, "John", "Smith");
+        when(authorSearchIndex.isReady()).thenReturn(true);
+        when(authorSearchIndex.searchLastName("mit")).thenReturn(List.of(author));
+
+        // Act
+        List<com.example.database.generated.tables.pojos.Author> result = authorService.searchAuthors("mit");
+
+        // Assert
+        assertEquals(List.of(author), result);
+        verify(authorRepository, never()).findByLastNameContaining(any());
+    }
+
+    @Test
+    void testGetBooksByAuthor_CursorRoundTrip() {
+        // Arrange
+        BookAuthorVw book = new BookAuthorVw(7, 1, "Book 7", null, null, "John", "Smith");
+        when(authorListingCache.containsAuthor(1)).thenReturn(true);
+        when(bookRepository.findPageByAuthor(1, null, 1))
+                .thenReturn(new KeysetSlice<>(List.of(book), new Object[] { 7 }));
+        when(bookRepository.findPageByAuthor(eq(1), notNull(), eq(1))).thenReturn(new KeysetSlice<>(List.of(), null));
+
+        // Act
+        KeysetPage<BookAuthorVw> first = authorService.getBooksByAuthor(1, 1, null);
+        authorService.getBooksByAuthor(1, 1, first.getNextCursor());
+
+        // Assert
+        assertEquals(List.of(book), first.getItems());
+        verify(bookRepository).findPageByAuthor(1, new Object[] { 7 }, 1);
+    }
+
+    @Test
+    void testGetBooksByAuthor_AuthorMissingFromSnapshot_ChecksDatabase() {
+        // Arrange - created through another instance, not yet replayed here
+        when(authorListingCache.containsAuthor(2)).thenReturn(false);
+        when(authorRepository.existsById(2)).thenReturn(true);
+        when(bookRepository.findPageByAuthor(2, null, 20)).thenReturn(new KeysetSlice<>(List.of(), null));
+
+        // Act
+        KeysetPage<BookAuthorVw> page = authorService.getBooksByAuthor(2, null, null);
+
+        // Assert
+        assertEquals(List.of(), page.getItems());
+    }
+
+    @Test
+    void testGetBooksByAuthor_UnknownAuthor_Returns404() {
+        // Arrange
+        when(authorListingCache.containsAuthor(999)).thenReturn(false);
+        when(authorRepository.existsById(999)).thenReturn(false);
+
+        // Act / Assert
+        assertThrows(ResponseStatusException.class, () -> authorService.getBooksByAuthor(999, null, null));
+        verifyNoInteractions(bookRepository);
+    }
+
+    @Test
+    void testCountBooksByAuthor_FallsBackToDatabaseUntilCounted() {
+        // Arrange
+        when(bookFacetCounts.countForAuthor(1)).thenReturn(null, 3L);
+        when(bookRepository.countByAuthor(1)).thenReturn(3L);
+
+        // Act / Assert
+        assertEquals(3, authorService.countBooksByAuthor(1));
+        assertEquals(3, authorService.countBooksByAuthor(1));
+        verify(bookRepository, times(1)).countByAuthor(1);
+    }
 }
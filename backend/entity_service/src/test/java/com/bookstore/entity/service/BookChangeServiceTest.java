@@ -0,0 +1,86 @@
+package com.bookstore.entity.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bookstore.entity.models.BookChangesResponse;
+import com.bookstore.entity.repository.BookChangeLogRepository;
+import com.example.database.generated.tables.pojos.BookChangeLog;
+
+@ExtendWith(MockitoExtension.class)
+class BookChangeServiceTest {
+
+    private static final int GAP_TIMEOUT_SECONDS = 60;
+
+    @Mock
+    private BookChangeLogRepository bookChangeLogRepository;
+
+    private BookChangeService bookChangeService;
+
+    @BeforeEach
+    void setUp() {
+        bookChangeService = new BookChangeService(bookChangeLogRepository, GAP_TIMEOUT_SECONDS);
+    }
+
+    @Test
+    void getChanges_MoreWaiting_ReturnsPageAndNextSince() {
+        // Arrange - one row more than asked for
+        when(bookChangeLogRepository.findSince(10, GAP_TIMEOUT_SECONDS, 4)).thenReturn(changes(11, 14));
+
+        // Act
+        BookChangesResponse response = bookChangeService.getChanges(10, 3);
+
+        // Assert
+        assertEquals(List.of(11L, 12L, 13L), response.getChanges().stream().map(BookChangeLog::getSeq).toList());
+        assertEquals(13, response.getNextSince());
+        assertTrue(response.isHasMore());
+    }
+
+    @Test
+    void getChanges_NothingNew_KeepsSince() {
+        // Arrange
+        when(bookChangeLogRepository.findSince(42, GAP_TIMEOUT_SECONDS, BookChangeService.DEFAULT_PAGE_SIZE + 1))
+                .thenReturn(List.of());
+
+        // Act
+        BookChangesResponse response = bookChangeService.getChanges(42, null);
+
+        // Assert
+        assertTrue(response.getChanges().isEmpty());
+        assertEquals(42, response.getNextSince());
+        assertFalse(response.isHasMore());
+    }
+
+    @Test
+    void getChanges_ClampsSizeAndSince() {
+        // Arrange
+        when(bookChangeLogRepository.findSince(0, GAP_TIMEOUT_SECONDS, BookChangeService.MAX_PAGE_SIZE + 1))
+                .thenReturn(changes(1, 2));
+
+        // Act
+        BookChangesResponse response = bookChangeService.getChanges(-5, 1_000_000);
+
+        // Assert
+        verify(bookChangeLogRepository).findSince(0, GAP_TIMEOUT_SECONDS, BookChangeService.MAX_PAGE_SIZE + 1);
+        assertEquals(2, response.getNextSince());
+        assertFalse(response.isHasMore());
+    }
+
+    private static List<BookChangeLog> changes(long firstSeq, long lastSeq) {
+        return LongStream.rangeClosed(firstSeq, lastSeq)
+                .mapToObj(seq -> new BookChangeLog(seq, (int) seq, "UPDATED", null))
+                .toList();
+    }
+}
@@ -0,0 +1,78 @@
+package com.bookstore.entity.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bookstore.entity.models.BookSort;
+import com.bookstore.entity.models.ExportFormat;
+import com.bookstore.entity.repository.BookRepository;
+import com.example.common.pagination.KeysetSlice;
+import com.example.database.generated.tables.pojos.BookAuthorVw;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class BookExportServiceTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private BookExportService bookExportService;
+
+    @BeforeEach
+    void setUp() {
+        // Two pages, to check the export seeks past the first
+        Object[] afterFirst = { 1 };
+        when(bookRepository.findPage(BookSort.ID, null, null, null, BookExportService.PAGE_SIZE))
+                .thenReturn(new KeysetSlice<>(List.of(
+                        new BookAuthorVw(1, 7, "Plain", new BigDecimal("9.99"), null, "Charles", "Allan")),
+                        afterFirst));
+        when(bookRepository.findPage(BookSort.ID, null, null, afterFirst, BookExportService.PAGE_SIZE))
+                .thenReturn(new KeysetSlice<>(List.of(
+                        new BookAuthorVw(2, 8, "Commas, \"Quotes\"", new BigDecimal("20.00"), "Line\nbreak", "Emily",
+                                "Hernandez")),
+                        null));
+    }
+
+    @Test
+    void export_Csv_WritesHeaderAndQuotesWhereNeeded() throws Exception {
+        // Act
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        bookExportService.export(ExportFormat.CSV, out);
+
+        // Assert
+        assertEquals(BookExportService.CSV_HEADER + "\n"
+                + "1,7,Plain,9.99,,Charles,Allan\n"
+                + "2,8,\"Commas, \"\"Quotes\"\"\",20.00,\"Line\nbreak\",Emily,Hernandez\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void export_Ndjson_WritesOneObjectPerLine() throws Exception {
+        // Act
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        bookExportService.export(ExportFormat.NDJSON, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(1, objectMapper.readTree(lines[0]).get("id").asInt());
+        assertEquals("Commas, \"Quotes\"", objectMapper.readTree(lines[1]).get("title").asText());
+    }
+}
@@ -0,0 +1,163 @@
+package com.bookstore.entity.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.bookstore.entity.events.BooksImportedEvent;
+import com.bookstore.entity.models.BookCreateRequest;
+import com.bookstore.entity.models.BookImportResponse;
+import com.bookstore.entity.models.ImportFormat;
+import com.bookstore.entity.repository.AuthorRepository;
+import com.bookstore.entity.repository.BookRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+
+@ExtendWith(MockitoExtension.class)
+class BookImportServiceTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private AuthorRepository authorRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BookImportService bookImportService;
+
+    @BeforeEach
+    void setUp() {
+        bookImportService = new BookImportService(bookRepository, authorRepository, eventPublisher,
+                new ObjectMapper().registerModule(new ParameterNamesModule()), transactionManager);
+        // Authors 1 to 99 exist
+        lenient().when(authorRepository.findExistingIds(anyCollection())).thenAnswer(invocation -> invocation
+                .<Collection<Integer>>getArgument(0).stream()
+                .filter(id -> id < 100)
+                .collect(Collectors.toSet()));
+        lenient().when(bookRepository.saveAll(anyList())).thenAnswer(invocation -> IntStream
+                .rangeClosed(1, invocation.getArgument(0, List.class).size()).boxed().toList());
+    }
+
+    @Test
+    void importBooks_Json_SkipsInvalidRowsAndReportsThem() throws Exception {
+        // Arrange
+        String json = """
+                [
+                  {"authorId": 1, "title": "Good", "price": 9.99},
+                  {"authorId": 999, "title": "Unknown author"},
+                  {"authorId": 2, "title": ""},
+                  {"authorId": "x", "title": "Bad type"},
+                  {"authorId": 3, "title": "Also good"}
+                ]
+                """;
+
+        // Act
+        BookImportResponse response = bookImportService.importBooks(ImportFormat.JSON, stream(json));
+
+        // Assert
+        assertEquals(5, response.getRows());
+        assertEquals(2, response.getInserted());
+        assertNull(response.getFailure());
+        BookImportResponse.Chunk chunk = response.getChunks().get(0);
+        assertEquals(List.of(2L, 3L, 4L), chunk.getErrors().stream().map(BookImportResponse.RowError::getRow).toList());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BookCreateRequest>> saved = ArgumentCaptor.forClass(List.class);
+        verify(bookRepository).saveAll(saved.capture());
+        assertEquals(List.of("Good", "Also good"), saved.getValue().stream().map(BookCreateRequest::getTitle).toList());
+        verify(eventPublisher).publishEvent(any(BooksImportedEvent.class));
+    }
+
+    @Test
+    void importBooks_Csv_ReadsQuotedFieldsAndIgnoresExtraColumns() throws Exception {
+        // Arrange
+        String csv = "id,author_id,title,price,description\r\n"
+                + "7,1,\"Commas, \"\"Quotes\"\"\",12.50,\"Two\nlines\"\r\n"
+                + "8,2,Plain,,\r\n"
+                + "9,abc,Bad number,1.00,\r\n";
+
+        // Act
+        BookImportResponse response = bookImportService.importBooks(ImportFormat.CSV, stream(csv));
+
+        // Assert
+        assertEquals(3, response.getRows());
+        assertEquals(2, response.getInserted());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BookCreateRequest>> saved = ArgumentCaptor.forClass(List.class);
+        verify(bookRepository).saveAll(saved.capture());
+        assertEquals(new BookCreateRequest(1, "Commas, \"Quotes\"", new BigDecimal("12.50"), "Two\nlines"),
+                saved.getValue().get(0));
+        assertEquals(new BookCreateRequest(2, "Plain", null, null), saved.getValue().get(1));
+    }
+
+    @Test
+    void importBooks_WritesInChunks() throws Exception {
+        // Arrange
+        StringBuilder csv = new StringBuilder("author_id,title\n");
+        int rows = BookImportService.CHUNK_SIZE * 2 + 1;
+        for (int i = 0; i < rows; i++) {
+            csv.append("1,Book ").append(i).append('\n');
+        }
+
+        // Act
+        BookImportResponse response = bookImportService.importBooks(ImportFormat.CSV, stream(csv.toString()));
+
+        // Assert
+        assertEquals(3, response.getChunks().size());
+        assertEquals(rows, response.getInserted());
+        assertEquals(BookImportService.CHUNK_SIZE * 2 + 1, response.getChunks().get(2).getFirstRow());
+        verify(bookRepository, times(3)).saveAll(anyList());
+        verify(authorRepository, times(3)).findExistingIds(anyCollection());
+    }
+
+    @Test
+    void importBooks_ChunkRejectedByDatabase_ReportsFailureAndContinues() throws Exception {
+        // Arrange
+        when(bookRepository.saveAll(anyList())).thenThrow(new RuntimeException("duplicate key"));
+
+        // Act
+        BookImportResponse response = bookImportService.importBooks(ImportFormat.JSON,
+                stream("[{\"authorId\": 1, \"title\": \"Book\"}]"));
+
+        // Assert
+        assertEquals(0, response.getInserted());
+        assertEquals(1, response.getChunks().size());
+        assertEquals(0, response.getChunks().get(0).getInserted());
+        assertEquals("Rejected by the database, no rows from this chunk were saved",
+                response.getChunks().get(0).getFailure());
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,152 @@
+package com.bookstore.entity.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.bookstore.entity.events.BooksRepricedEvent;
+import com.bookstore.entity.models.BookPriceChange;
+import com.bookstore.entity.models.BookRepriceResponse;
+import com.bookstore.entity.models.ImportFormat;
+import com.bookstore.entity.repository.BookRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+
+@ExtendWith(MockitoExtension.class)
+class BookRepriceServiceTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BookRepriceService bookRepriceService;
+
+    @BeforeEach
+    void setUp() {
+        bookRepriceService = new BookRepriceService(bookRepository, eventPublisher,
+                new ObjectMapper().registerModule(new ParameterNamesModule()), transactionManager);
+        // Books below 100 exist
+        lenient().when(bookRepository.updatePrices(anyList())).thenAnswer(invocation -> {
+            @SuppressWarnings("unchecked")
+            List<BookPriceChange> changes = invocation.getArgument(0, List.class);
+            return changes.stream().map(BookPriceChange::getBookId).filter(id -> id < 100).distinct().toList();
+        });
+    }
+
+    @Test
+    void reprice_Json_SkipsInvalidRowsAndUnknownBooks() throws Exception {
+        // Arrange
+        String json = """
+                [
+                  {"bookId": 1, "price": 9.99},
+                  {"bookId": 999, "price": 5.00},
+                  {"bookId": 2},
+                  {"bookId": 3, "price": -1},
+                  {"bookId": "x", "price": 1.00},
+                  {"bookId": 4, "price": 12.345},
+                  {"bookId": 5, "price": 0}
+                ]
+                """;
+
+        // Act
+        BookRepriceResponse response = bookRepriceService.reprice(ImportFormat.JSON, stream(json));
+
+        // Assert
+        assertEquals(7, response.getRows());
+        assertEquals(2, response.getUpdated());
+        assertNull(response.getFailure());
+        BookRepriceResponse.Chunk chunk = response.getChunks().get(0);
+        assertEquals(List.of(2L, 3L, 4L, 5L, 6L),
+                chunk.getErrors().stream().map(BookRepriceResponse.RowError::getRow).toList());
+        assertEquals("Unknown bookId 999", chunk.getErrors().get(0).getReason());
+
+        ArgumentCaptor<BooksRepricedEvent> event = ArgumentCaptor.forClass(BooksRepricedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(List.of(1, 5), event.getValue().getBookIds());
+    }
+
+    @Test
+    void reprice_Csv_ReadsBookIdAndPriceColumns() throws Exception {
+        // Arrange
+        String csv = "title,price,book_id\r\n"
+                + "\"Commas, here\",12.50,7\r\n"
+                + "Plain,abc,8\r\n";
+
+        // Act
+        BookRepriceResponse response = bookRepriceService.reprice(ImportFormat.CSV, stream(csv));
+
+        // Assert
+        assertEquals(2, response.getRows());
+        assertEquals(1, response.getUpdated());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BookPriceChange>> applied = ArgumentCaptor.forClass(List.class);
+        verify(bookRepository).updatePrices(applied.capture());
+        assertEquals(List.of(new BookPriceChange(7, new BigDecimal("12.50"))), applied.getValue());
+    }
+
+    @Test
+    void reprice_AppliesInChunksWithOneEventEach() throws Exception {
+        // Arrange
+        StringBuilder csv = new StringBuilder("book_id,price\n");
+        int rows = BookRepriceService.CHUNK_SIZE * 2 + 1;
+        for (int i = 0; i < rows; i++) {
+            csv.append(1 + i % 50).append(",9.99\n");
+        }
+
+        // Act
+        BookRepriceResponse response = bookRepriceService.reprice(ImportFormat.CSV, stream(csv.toString()));
+
+        // Assert
+        assertEquals(3, response.getChunks().size());
+        assertEquals(BookRepriceService.CHUNK_SIZE * 2 + 1, response.getChunks().get(2).getFirstRow());
+        verify(bookRepository, times(3)).updatePrices(anyList());
+        verify(eventPublisher, times(3)).publishEvent(any(BooksRepricedEvent.class));
+    }
+
+    @Test
+    void reprice_ChunkRejectedByDatabase_ReportsFailureAndPublishesNothing() throws Exception {
+        // Arrange
+        when(bookRepository.updatePrices(anyList())).thenThrow(new RuntimeException("lock wait timeout"));
+
+        // Act
+        BookRepriceResponse response = bookRepriceService.reprice(ImportFormat.JSON,
+                stream("[{\"bookId\": 1, \"price\": 9.99}]"));
+
+        // Assert
+        assertEquals(0, response.getUpdated());
+        assertEquals("Rejected by the database, no prices from this chunk were saved",
+                response.getChunks().get(0).getFailure());
+        verify(eventPublisher, never()).publishEvent(any(BooksRepricedEvent.class));
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
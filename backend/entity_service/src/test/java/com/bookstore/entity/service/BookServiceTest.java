@@ -2,22 +2,55 @@ package com.bookstore.entity.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.bookstore.entity.cache.BookCache;
+import com.bookstore.entity.cache.BookResponseCache;
+import com.bookstore.entity.cache.CachedPage;
+import com.bookstore.entity.cache.CatalogVersion;
+import com.bookstore.entity.cache.SearchResultCache;
+import com.bookstore.entity.events.BookChangedEvent;
+import com.bookstore.entity.events.ChangeType;
+import com.bookstore.entity.models.BookBatchResponse;
 import com.bookstore.entity.models.BookCreateRequest;
+import com.bookstore.entity.models.BookField;
+import com.bookstore.entity.models.BookSearchResponse;
+import com.bookstore.entity.models.BookSort;
+import com.bookstore.entity.repository.BookChangeLogRepository;
 import com.bookstore.entity.repository.BookRepository;
+import com.bookstore.entity.search.BookCatalogStore;
+import com.bookstore.entity.search.BookFacetCounts;
+import com.bookstore.entity.search.BookSearchIndex;
+import com.bookstore.entity.search.BookSuggestIndex;
+import com.bookstore.entity.search.FullTextCursor;
+import com.bookstore.entity.search.InvertedIndex;
+import com.example.common.pagination.KeysetPage;
+import com.example.common.pagination.KeysetPagination;
+import com.example.common.pagination.KeysetSlice;
 import com.example.database.generated.tables.pojos.BookAuthorVw;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @ExtendWith(MockitoExtension.class)
 class BookServiceTest {
@@ -25,6 +58,35 @@ class BookServiceTest {
     @Mock
     private BookRepository bookRepository;
 
+    @Spy
+    private BookCache bookCache = new BookCache(100, Duration.ofMinutes(1));
+
+    @Mock
+    private BookSearchIndex bookSearchIndex;
+
+    @Mock
+    private BookSuggestIndex bookSuggestIndex;
+
+    @Mock
+    private BookFacetCounts bookFacetCounts;
+
+    @Mock
+    private BookCatalogStore bookCatalogStore;
+
+    @Spy
+    private SearchResultCache searchResultCache = new SearchResultCache(100, Duration.ofMinutes(1));
+
+    @Spy
+    private BookResponseCache bookResponseCache = new BookResponseCache(
+            new CatalogVersion(mock(BookChangeLogRepository.class)), new ObjectMapper(),
+            DataSize.ofMegabytes(1), Duration.ofMinutes(10));
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private KeysetPagination keysetPagination = new KeysetPagination("test-secret", 100);
+
     @InjectMocks
     private BookService bookService;
 
@@ -40,16 +102,90 @@ class BookServiceTest {
         );
 
         List<BookAuthorVw> mockBooks = Arrays.asList(book1, book2);
-        when(bookRepository.findAll(0)).thenReturn(mockBooks);
+        when(bookRepository.findPage(BookSort.ID, null, null, null, BookService.DEFAULT_PAGE_SIZE, BookField.ALL))
+                .thenReturn(new KeysetSlice<>(mockBooks, null));
+
+        // Act
+        KeysetPage<BookAuthorVw> result = bookService.getAllBooks(0, BookSort.ID, null, null, null, null,
+                BookField.ALL);
+
+        // Assert
+        assertEquals(2, result.getItems().size());
+        assertEquals("Book 1", result.getItems().get(0).getTitle());
+        assertEquals("Book 2", result.getItems().get(1).getTitle());
+        assertNull(result.getNextCursor());
+        verify(bookRepository, times(1)).findPage(BookSort.ID, null, null, null, BookService.DEFAULT_PAGE_SIZE,
+                BookField.ALL);
+    }
+
+    @Test
+    void testGetAllBooks_LegacyPrevPageLastBookId() {
+        // Arrange
+        when(bookRepository.findPage(eq(BookSort.ID), isNull(), isNull(), any(), eq(BookService.DEFAULT_PAGE_SIZE),
+                eq(BookField.ALL)))
+                .thenReturn(new KeysetSlice<>(List.of(), null));
+
+        // Act
+        bookService.getAllBooks(10, BookSort.ID, null, null, null, null, BookField.ALL);
+
+        // Assert
+        verify(bookRepository).findPage(BookSort.ID, null, null, new Object[] { 10 }, BookService.DEFAULT_PAGE_SIZE,
+                BookField.ALL);
+    }
+
+    @Test
+    void testGetAllBooks_CursorRoundTrip() {
+        // Arrange
+        BookAuthorVw book = new BookAuthorVw(7, 1, "Book 7", new BigDecimal("9.99"), null, "First", "Last");
+        Object[] lastKey = { new BigDecimal("9.99"), 7 };
+        when(bookRepository.findPage(BookSort.PRICE_ASC, null, null, null, 1, BookField.ALL))
+                .thenReturn(new KeysetSlice<>(List.of(book), lastKey));
+        when(bookRepository.findPage(eq(BookSort.PRICE_ASC), isNull(), isNull(), notNull(), eq(1), eq(BookField.ALL)))
+                .thenReturn(new KeysetSlice<>(List.of(), null));
 
         // Act
-        List<BookAuthorVw> result = bookService.getAllBooks(0);
+        String cursor = bookService.getAllBooks(0, BookSort.PRICE_ASC, null, null, 1, null, BookField.ALL)
+                .getNextCursor();
+        bookService.getAllBooks(0, BookSort.PRICE_ASC, null, null, 1, cursor, BookField.ALL);
 
         // Assert
-        assertEquals(2, result.size());
-        assertEquals("Book 1", result.get(0).getTitle());
-        assertEquals("Book 2", result.get(1).getTitle());
-        verify(bookRepository, times(1)).findAll(0);
+        assertNotNull(cursor);
+        verify(bookRepository).findPage(BookSort.PRICE_ASC, null, null, lastKey, 1, BookField.ALL);
+    }
+
+    @Test
+    void testGetAllBooks_CursorFromOtherSort_Returns400() {
+        // Arrange
+        String idCursor = keysetPagination.encode(BookSort.ID.getKeyset(), new Object[] { 10 });
+
+        // Act / Assert
+        assertThrows(ResponseStatusException.class,
+                () -> bookService.getAllBooks(0, BookSort.TITLE, null, null, null, idCursor, BookField.ALL));
+        verifyNoInteractions(bookRepository);
+    }
+
+    @Test
+    void testGetAllBooks_PriceRange() {
+        // Arrange
+        BigDecimal min = new BigDecimal("10");
+        BigDecimal max = new BigDecimal("20");
+        when(bookRepository.findPage(BookSort.PRICE_DESC, min, max, null, BookService.DEFAULT_PAGE_SIZE, BookField.ALL))
+                .thenReturn(new KeysetSlice<>(List.of(), null));
+
+        // Act
+        bookService.getAllBooks(0, BookSort.PRICE_DESC, min, max, null, null, BookField.ALL);
+
+        // Assert
+        verify(bookRepository).findPage(BookSort.PRICE_DESC, min, max, null, BookService.DEFAULT_PAGE_SIZE,
+                BookField.ALL);
+    }
+
+    @Test
+    void testGetAllBooks_InvertedPriceRange_Returns400() {
+        // Act / Assert
+        assertThrows(ResponseStatusException.class, () -> bookService.getAllBooks(0, BookSort.PRICE_ASC,
+                new BigDecimal("20"), new BigDecimal("10"), null, null, BookField.ALL));
+        verifyNoInteractions(bookRepository);
     }
 
     @Test
@@ -70,6 +206,41 @@ class BookServiceTest {
         verify(bookRepository, times(1)).findById(1);
     }
 
+    @Test
+    void testGetAllBooksJson_SecondRequestReusesTheBytes() {
+        // Arrange
+        BookAuthorVw book = new BookAuthorVw(1, 1, "Book 1", new BigDecimal("19.99"), null, "First", "Last");
+        when(bookRepository.findPage(BookSort.ID, null, null, null, BookService.DEFAULT_PAGE_SIZE, BookField.ALL))
+                .thenReturn(new KeysetSlice<>(List.of(book), null));
+
+        // Act
+        CachedPage first = bookService.getAllBooksJson(0, BookSort.ID, null, null, null, null, BookField.ALL);
+        CachedPage second = bookService.getAllBooksJson(0, BookSort.ID, null, null, null, null, BookField.ALL);
+
+        // Assert
+        assertSame(first.json(), second.json());
+        assertTrue(new String(first.json().body(), StandardCharsets.UTF_8).contains("\"title\":\"Book 1\""));
+        verify(bookRepository, times(1)).findPage(any(), any(), any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void testGetBookById_SecondReadIsCached() {
+        // Arrange
+        BookAuthorVw book = new BookAuthorVw(
+            1, 1, "Test Book", new BigDecimal("19.99"), "Test Description", "First", "Last"
+        );
+
+        when(bookRepository.findById(1)).thenReturn(Optional.of(book));
+
+        // Act
+        bookService.getBookById(1);
+        Optional<BookAuthorVw> result = bookService.getBookById(1);
+
+        // Assert
+        assertEquals("Test Book", result.get().getTitle());
+        verify(bookRepository, times(1)).findById(1);
+    }
+
     @Test
     void testGetBookById_NotFound() {
         // Arrange
@@ -83,6 +254,142 @@ class BookServiceTest {
         verify(bookRepository, times(1)).findById(999);
     }
 
+    @Test
+    void testGetBooksByIds_KeepsOrderAndReportsMissing() {
+        // Arrange
+        BookAuthorVw book1 = new BookAuthorVw(
+            1, 1, "Book 1", new BigDecimal("19.99"), "Description 1", "First", "Last"
+        );
+        BookAuthorVw book3 = new BookAuthorVw(
+            3, 1, "Book 3", new BigDecimal("9.99"), "Description 3", "First", "Last"
+        );
+
+        when(bookRepository.findAllById(Set.of(3, 1, 2))).thenReturn(List.of(book1, book3));
+
+        // Act
+        BookBatchResponse result = bookService.getBooksByIds(List.of(3, 1, 2, 3), BookField.ALL);
+
+        // Assert
+        assertEquals(List.of(3, 1), result.getBooks().stream().map(BookAuthorVw::getId).toList());
+        assertEquals(List.of(2), result.getMissingIds());
+        verify(bookRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    void testGetBooksByIds_OnlyQueriesUncachedIds() {
+        // Arrange
+        BookAuthorVw book1 = new BookAuthorVw(
+            1, 1, "Book 1", new BigDecimal("19.99"), "Description 1", "First", "Last"
+        );
+        BookAuthorVw book2 = new BookAuthorVw(
+            2, 1, "Book 2", new BigDecimal("9.99"), "Description 2", "First", "Last"
+        );
+
+        when(bookRepository.findById(1)).thenReturn(Optional.of(book1));
+        when(bookRepository.findAllById(Set.of(2))).thenReturn(List.of(book2));
+        bookService.getBookById(1);
+
+        // Act
+        BookBatchResponse result = bookService.getBooksByIds(List.of(1, 2), BookField.ALL);
+
+        // Assert
+        assertEquals(2, result.getBooks().size());
+        assertTrue(result.getMissingIds().isEmpty());
+    }
+
+    @Test
+    void testGetBooksByIds_TooManyIds() {
+        // Arrange
+        List<Integer> ids = IntStream.rangeClosed(1, BookService.MAX_BATCH_SIZE + 1).boxed().toList();
+
+        // Act & Assert
+        assertThrows(ResponseStatusException.class, () -> bookService.getBooksByIds(ids, BookField.ALL));
+        verify(bookRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void testGetAllBooks_CatalogReady_ReadsFromMemory() {
+        // Arrange
+        BookAuthorVw book = new BookAuthorVw(4, 1, "Book 4", new BigDecimal("5.00"), null, "First", "Last");
+        when(bookCatalogStore.isReady()).thenReturn(true);
+        when(bookCatalogStore.findPage(BookSort.PRICE_ASC, null, null, null, 1))
+                .thenReturn(new KeysetSlice<>(List.of(book), new Object[] { new BigDecimal("5.00"), 4 }));
+
+        // Act
+        KeysetPage<BookAuthorVw> result = bookService.getAllBooks(0, BookSort.PRICE_ASC, null, null, 1, null,
+                BookField.ALL);
+
+        // Assert
+        assertEquals(List.of(book), result.getItems());
+        assertNotNull(result.getNextCursor());
+        verify(bookRepository, never()).findPage(any(), any(), any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void testGetAllBooks_CatalogReady_ReturnsOnlyRequestedFields() {
+        // Arrange
+        BookAuthorVw book = new BookAuthorVw(4, 1, "Book 4", new BigDecimal("5.00"), "Long description", "First",
+                "Last");
+        when(bookCatalogStore.isReady()).thenReturn(true);
+        when(bookCatalogStore.findPage(BookSort.ID, null, null, null, 1))
+                .thenReturn(new KeysetSlice<>(List.of(book), null));
+
+        // Act
+        KeysetPage<BookAuthorVw> result = bookService.getAllBooks(0, BookSort.ID, null, null, 1, null,
+                BookField.parse("title,price,author"));
+
+        // Assert
+        assertEquals(List.of(new BookAuthorVw(4, null, "Book 4", new BigDecimal("5.00"), null, "First", "Last")),
+                result.getItems());
+    }
+
+    @Test
+    void testGetAllBooks_Fields_ProjectedInTheQuery() {
+        // Arrange
+        Set<BookField> fields = BookField.parse("id,title");
+        when(bookRepository.findPage(BookSort.ID, null, null, null, BookService.DEFAULT_PAGE_SIZE, fields))
+                .thenReturn(new KeysetSlice<>(List.of(), null));
+
+        // Act
+        bookService.getAllBooks(0, BookSort.ID, null, null, null, null, fields);
+
+        // Assert
+        verify(bookRepository).findPage(BookSort.ID, null, null, null, BookService.DEFAULT_PAGE_SIZE,
+                EnumSet.of(BookField.ID, BookField.TITLE));
+    }
+
+    @Test
+    void testGetBookById_CatalogReady_SkipsCacheAndDatabase() {
+        // Arrange
+        BookAuthorVw book = new BookAuthorVw(1, 1, "Test Book", new BigDecimal("19.99"), null, "First", "Last");
+        when(bookCatalogStore.isReady()).thenReturn(true);
+        when(bookCatalogStore.findById(1)).thenReturn(Optional.of(book));
+
+        // Act
+        Optional<BookAuthorVw> result = bookService.getBookById(1);
+
+        // Assert
+        assertEquals(Optional.of(book), result);
+        verify(bookCache, never()).get(any(), any());
+        verify(bookRepository, never()).findById(any());
+    }
+
+    @Test
+    void testGetBooksByIds_CatalogReady_ReadsFromMemory() {
+        // Arrange
+        BookAuthorVw book1 = new BookAuthorVw(1, 1, "Book 1", new BigDecimal("19.99"), null, "First", "Last");
+        when(bookCatalogStore.isReady()).thenReturn(true);
+        when(bookCatalogStore.findAllById(List.of(2, 1))).thenReturn(List.of(book1));
+
+        // Act
+        BookBatchResponse result = bookService.getBooksByIds(List.of(2, 1), BookField.ALL);
+
+        // Assert
+        assertEquals(List.of(book1), result.getBooks());
+        assertEquals(List.of(2), result.getMissingIds());
+        verify(bookRepository, never()).findAllById(any());
+    }
+
     @Test
     void testCreateBook() {
         // Arrange
@@ -90,13 +397,14 @@ class BookServiceTest {
             1, "New Book", new BigDecimal("25.00"), "New Description"
         );
 
-        doNothing().when(bookRepository).save(newBook);
+        when(bookRepository.save(newBook)).thenReturn(1);
 
         // Act
         bookService.createBook(newBook);
 
         // Assert
         verify(bookRepository, times(1)).save(newBook);
+        verify(eventPublisher, times(1)).publishEvent(new BookChangedEvent(1, ChangeType.CREATED));
     }
 
     @Test
@@ -119,6 +427,7 @@ class BookServiceTest {
         // Assert
         verify(bookRepository, times(1)).findById(1);
         verify(bookRepository, times(1)).update(existingBook, updatedDetails);
+        verify(eventPublisher, times(1)).publishEvent(new BookChangedEvent(1, ChangeType.UPDATED));
     }
 
     @Test
@@ -153,6 +462,7 @@ class BookServiceTest {
         assertTrue(result);
         verify(bookRepository, times(1)).findById(1);
         verify(bookRepository, times(1)).deleteById(1);
+        verify(eventPublisher, times(1)).publishEvent(new BookChangedEvent(1, ChangeType.DELETED));
     }
 
     @Test
@@ -180,14 +490,138 @@ class BookServiceTest {
             2, 2, "Advanced Java", new BigDecimal("29.99"), "Description", "First", "Last"
         );
 
-        List<BookAuthorVw> mockBooks = Arrays.asList(book1, book2);
-        when(bookRepository.findByTitleContaining("Java")).thenReturn(mockBooks);
+        when(bookSearchIndex.isReady()).thenReturn(true);
+        when(bookSearchIndex.search("Java", 0, 20)).thenReturn(new InvertedIndex.Hits(List.of(2, 1), 2));
+        when(bookRepository.findAllById(List.of(2, 1), BookField.ALL)).thenReturn(Arrays.asList(book1, book2));
+
+        // Act
+        BookSearchResponse result = bookService.searchBooks("Java", 0, 20, BookField.ALL);
+
+        // Assert - index ranking order is kept
+        assertEquals(2, result.getBooks().size());
+        assertEquals(2, result.getBooks().get(0).getId());
+        assertEquals(1, result.getBooks().get(1).getId());
+        assertEquals(2, result.getTotalMatches());
+        verify(bookRepository, never()).findByTitleContaining(any(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void testSearchBooks_ClampsPageSize() {
+        // Arrange
+        when(bookSearchIndex.isReady()).thenReturn(true);
+        when(bookSearchIndex.search("Java", 200, BookService.MAX_SEARCH_PAGE_SIZE))
+                .thenReturn(new InvertedIndex.Hits(List.of(), 0));
+
+        // Act
+        BookSearchResponse result = bookService.searchBooks("Java", 2, 1000, BookField.ALL);
+
+        // Assert
+        assertEquals(BookService.MAX_SEARCH_PAGE_SIZE, result.getSize());
+        assertTrue(result.getBooks().isEmpty());
+    }
+
+    @Test
+    void testSearchBooks_SameNormalizedQuery_SearchesOnce() {
+        // Arrange
+        when(bookSearchIndex.isReady()).thenReturn(true);
+        when(bookSearchIndex.search("Java", 0, 20)).thenReturn(new InvertedIndex.Hits(List.of(), 0));
 
         // Act
-        List<BookAuthorVw> result = bookService.searchBooks("Java");
+        bookService.searchBooks("Java", 0, 20, BookField.ALL);
+        BookSearchResponse result = bookService.searchBooks("  java ", 0, 20, BookField.ALL);
 
         // Assert
-        assertEquals(2, result.size());
-        verify(bookRepository, times(1)).findByTitleContaining("Java");
+        assertEquals(0, result.getTotalMatches());
+        verify(bookSearchIndex, times(1)).search(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void testSearchBooksFuzzy_UsesFuzzyIndexSearch() {
+        // Arrange
+        BookAuthorVw book = new BookAuthorVw(
+            1, 1, "Java Programming", new BigDecimal("19.99"), "Description", "First", "Last"
+        );
+
+        when(bookSearchIndex.isReady()).thenReturn(true);
+        when(bookSearchIndex.search("Jvaa", 0, 20)).thenReturn(new InvertedIndex.Hits(List.of(), 0));
+        when(bookSearchIndex.searchFuzzy("Jvaa", 0, 20)).thenReturn(new InvertedIndex.Hits(List.of(1), 1));
+        when(bookRepository.findAllById(List.of(1), BookField.ALL)).thenReturn(List.of(book));
+
+        // Act
+        bookService.searchBooks("Jvaa", 0, 20, BookField.ALL);
+        BookSearchResponse result = bookService.searchBooksFuzzy("Jvaa", 0, 20, BookField.ALL);
+
+        // Assert - the exact-match page cached for the same query is not reused
+        assertEquals(1, result.getBooks().size());
+        assertEquals(1, result.getTotalMatches());
+        verify(bookSearchIndex, times(1)).searchFuzzy(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void testSearchBooks_IndexNotReady_FallsBackToDatabase() {
+        // Arrange
+        BookAuthorVw book = new BookAuthorVw(
+            1, 1, "Java Programming", new BigDecimal("19.99"), "Description", "First", "Last"
+        );
+
+        when(bookSearchIndex.isReady()).thenReturn(false);
+        when(bookRepository.findByTitleContaining("Java", 20, 10, BookField.ALL)).thenReturn(List.of(book));
+
+        // Act
+        BookSearchResponse result = bookService.searchBooks("Java", 2, 10, BookField.ALL);
+
+        // Assert
+        assertEquals(1, result.getBooks().size());
+        assertNull(result.getTotalMatches());
+        verify(bookSearchIndex, never()).search(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void testSearchBooksFullText_ReturnsCursorWhenMoreRows() {
+        // Arrange
+        BookAuthorVw book1 = new BookAuthorVw(
+            1, 1, "Java Programming", new BigDecimal("19.99"), "Description", "First", "Last"
+        );
+        BookAuthorVw book2 = new BookAuthorVw(
+            2, 2, "Advanced Java", new BigDecimal("29.99"), "Description", "First", "Last"
+        );
+
+        when(bookRepository.searchFullText("java", null, 2)).thenReturn(List.of(
+            new BookRepository.ScoredBook(book1, 2.5),
+            new BookRepository.ScoredBook(book2, 1.5)));
+
+        // Act
+        BookSearchResponse result = bookService.searchBooksFullText("java", null, 1, BookField.ALL);
+
+        // Assert
+        assertEquals(1, result.getBooks().size());
+        assertEquals(1, result.getBooks().get(0).getId());
+        assertEquals(new FullTextCursor(2.5, 1), FullTextCursor.decode(result.getNextCursor()));
+    }
+
+    @Test
+    void testSearchBooksFullText_LastPageHasNoCursor() {
+        // Arrange
+        FullTextCursor after = new FullTextCursor(2.5, 1);
+        BookAuthorVw book = new BookAuthorVw(
+            2, 2, "Advanced Java", new BigDecimal("29.99"), "Description", "First", "Last"
+        );
+
+        when(bookRepository.searchFullText("java", after, 11)).thenReturn(List.of(
+            new BookRepository.ScoredBook(book, 1.5)));
+
+        // Act
+        BookSearchResponse result = bookService.searchBooksFullText("java", after.encode(), 10, BookField.ALL);
+
+        // Assert
+        assertEquals(1, result.getBooks().size());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void testSearchBooksFullText_InvalidCursor() {
+        assertThrows(ResponseStatusException.class,
+                () -> bookService.searchBooksFullText("java", "not-a-cursor", 10, BookField.ALL));
+        verify(bookRepository, never()).searchFullText(any(), any(), anyInt());
     }
 }
@@ -0,0 +1,84 @@
+package com.bookstore.entity.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bookstore.entity.cache.CachedPage;
+import com.bookstore.entity.models.BookBatchResponse;
+import com.bookstore.entity.models.BookField;
+import com.bookstore.entity.models.BookSort;
+import com.bookstore.entity.repository.BookRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogWarmupTest {
+
+    @Mock
+    private BookService bookService;
+
+    @Mock
+    private AuthorService authorService;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    private CatalogWarmup catalogWarmup;
+
+    @BeforeEach
+    void setUp() {
+        catalogWarmup = new CatalogWarmup(bookService, authorService, bookRepository, 2, 300, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void warmUp_WalksBookPagesTopSellersAndAuthorPages() {
+        // Arrange
+        when(bookService.getAllBooksJson(eq(0), any(), isNull(), isNull(), isNull(), any(), any()))
+                .thenReturn(new CachedPage(null, "next"));
+        List<Integer> topSellers = IntStream.rangeClosed(1, 300).boxed().toList();
+        when(bookRepository.findTopSellerIds(300)).thenReturn(topSellers);
+        when(bookService.getBooksByIds(any(), any())).thenReturn(new BookBatchResponse(List.of(), List.of()));
+        when(authorService.getAuthorPage(null, null, null)).thenReturn(new CachedPage(null, "a2"));
+        when(authorService.getAuthorPage(null, null, "a2")).thenReturn(new CachedPage(null, null));
+
+        // Act
+        catalogWarmup.warmUp();
+
+        // Assert - two pages in the default order, the first page of every other sort
+        verify(bookService).getAllBooksJson(0, BookSort.ID, null, null, null, null, BookField.ALL);
+        verify(bookService).getAllBooksJson(0, BookSort.ID, null, null, null, "next", BookField.ALL);
+        verify(bookService, times(BookSort.values().length))
+                .getAllBooksJson(eq(0), any(), isNull(), isNull(), isNull(), isNull(), any());
+        verify(bookService).getBooksByIds(topSellers.subList(0, BookService.MAX_BATCH_SIZE), BookField.ALL);
+        verify(bookService).getBooksByIds(topSellers.subList(BookService.MAX_BATCH_SIZE, 300), BookField.ALL);
+        verify(bookService, times(300)).getBookJson(any());
+        verify(authorService, times(2)).getAuthorPage(any(), any(), any());
+    }
+
+    @Test
+    void warmUp_Failure_IsSwallowedSoTheInstanceStillBecomesReady() {
+        // Arrange
+        when(bookService.getAllBooksJson(any(), any(), any(), any(), any(), any(), any()))
+                .thenThrow(new IllegalStateException("db down"));
+
+        // Act
+        catalogWarmup.warmUp();
+
+        // Assert
+        verify(bookRepository, never()).findTopSellerIds(300);
+        verify(authorService, never()).getAuthorPage(any(), any(), any());
+    }
+}
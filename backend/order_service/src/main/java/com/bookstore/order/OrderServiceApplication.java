@@ -3,9 +3,11 @@ package com.bookstore.order;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(scanBasePackages = {"com.bookstore.order", "com.example.common"})
 @EnableFeignClients
+@EnableScheduling
 public class OrderServiceApplication {
 
     public static void main(String[] args) {
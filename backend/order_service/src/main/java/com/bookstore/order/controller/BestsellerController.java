@@ -0,0 +1,49 @@
+package com.bookstore.order.controller;
+
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.bookstore.order.model.Bestseller;
+import com.bookstore.order.model.BestsellerWindow;
+import com.bookstore.order.service.BestsellerService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Lives under /book because it is storefront browsing, but is served here next to the orders it counts; the gateway
+ * routes /book/bestsellers to this service.
+ */
+@RestController
+@RequestMapping(path = "/book/bestsellers", produces = { MediaType.APPLICATION_JSON_VALUE })
+@Tag(name = "Bestsellers", description = "Books ranked by copies ordered")
+@RequiredArgsConstructor
+public class BestsellerController {
+
+    private final BestsellerService bestsellerService;
+
+    @Operation(summary = "Get the bestselling books", description = "Books with the most copies ordered in the last "
+            + "24 hours (window=24h, to the hour), the last 7 days (7d) or ever (all), most first. Served from memory")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK", content = {
+                    @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = Bestseller.class)))
+            }),
+            @ApiResponse(responseCode = "400", description = "Unknown window")
+    })
+    @GetMapping
+    public List<Bestseller> getBestsellers(@RequestParam(defaultValue = "7d") String window,
+            @RequestParam(defaultValue = "10") int limit) {
+        return bestsellerService.getBestsellers(BestsellerWindow.parse(window), limit);
+    }
+}
@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.bookstore.order.service.OrderService;
 import com.example.common.controller.BaseController;
 import com.example.common.model.OrderStatus;
+import com.example.common.pagination.KeysetPage;
 import com.example.database.generated.tables.pojos.OrderDetailVw;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -40,18 +42,21 @@ public class OrderController extends BaseController {
 
     private final OrderService orderService;
 
-    @Operation(summary = "Get order history for authenticated user")
+    @Operation(summary = "Get order history for authenticated user", description = "Newest orders first. "
+            + "Pass the X-Next-Cursor response header back as cursor to get older orders")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "OK", content = {
                     @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = OrderDetailResponse.class)))
             })
     })
     @GetMapping
-    public List<OrderDetailResponse> getOrders() {
+    public ResponseEntity<List<OrderDetailResponse>> getOrders(@RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor) {
         Integer userId = getCurrentUserId();
         log.info("Getting orders for user: {}", userId);
         
-        List<OrderDetailVw> orderDetails = orderService.getUserOrderDetails(userId);
+        KeysetPage<OrderDetailVw> page = orderService.getUserOrderDetails(userId, size, cursor);
+        List<OrderDetailVw> orderDetails = page.getItems();
         
         // Group order details by order ID
         Map<Integer, OrderDetailResponse> orderMap = new LinkedHashMap<>();
@@ -77,7 +82,7 @@ public class OrderController extends BaseController {
             }
         }
         
-        return new ArrayList<>(orderMap.values());
+        return keysetPage(new KeysetPage<>(new ArrayList<>(orderMap.values()), page.getNextCursor()));
     }
 
     @Operation(summary = "Create order from cart for authenticated user")
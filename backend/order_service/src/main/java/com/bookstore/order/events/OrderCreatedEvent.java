@@ -0,0 +1,18 @@
+package com.bookstore.order.events;
+
+import java.util.Map;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published by OrderService.createOrderFromCart with the quantity of each book written to book_orders, so listeners
+ * only see it once the order has committed.
+ */
+@Data
+@RequiredArgsConstructor
+public class OrderCreatedEvent {
+    private final int orderId;
+    // bookId -> quantity
+    private final Map<Integer, Integer> quantities;
+}
@@ -0,0 +1,14 @@
+package com.bookstore.order.model;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * One place on the bestseller leaderboard: a book and the copies ordered within the window.
+ */
+@Data
+@RequiredArgsConstructor
+public class Bestseller {
+    private final int bookId;
+    private final long quantity;
+}
@@ -0,0 +1,40 @@
+package com.bookstore.order.model;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The ?window= of GET /book/bestsellers. Bounded windows are counted to the hour, so "24h" covers the current hour
+ * and the 23 before it.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BestsellerWindow {
+    DAY("24h", 24),
+    WEEK("7d", 7 * 24),
+    // Every order ever placed
+    ALL("all", 0);
+
+    private final String paramName;
+    private final int hours;
+
+    public boolean isBounded() {
+        return hours > 0;
+    }
+
+    public static BestsellerWindow parse(String window) {
+        return Arrays.stream(values())
+                .filter(value -> value.paramName.equalsIgnoreCase(window.strip()))
+                .findFirst()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Unknown window '" + window + "', expected one of " + Arrays.stream(values())
+                                .map(BestsellerWindow::getParamName)
+                                .collect(Collectors.joining(","))));
+    }
+}
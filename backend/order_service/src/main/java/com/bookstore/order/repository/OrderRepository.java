@@ -5,13 +5,20 @@ import static com.example.database.generated.Tables.BOOK_ORDERS;
 import static com.example.database.generated.Tables.ORDER_DETAIL_VW;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.impl.DSL;
 import org.jooq.impl.DefaultConfiguration;
+import org.jooq.impl.SQLDataType;
 import org.springframework.stereotype.Repository;
 
 import com.example.common.model.OrderStatus;
+import com.example.common.pagination.KeysetSlice;
+import com.example.common.pagination.KeysetSort;
 import com.example.database.generated.tables.daos.OrdersDao;
 import com.example.database.generated.tables.pojos.OrderDetailVw;
 
@@ -21,6 +28,14 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class OrderRepository extends OrdersDao {
 
+    // Newest first by id alone: ids grow with insertion, and orders.created_at is nullable, which the seek
+    // predicate could not compare
+    public static final KeysetSort RECENT_FIRST = KeysetSort.named("recent").desc(ORDERS.ID);
+
+    // Copies of one book ordered in one clock hour, counted in hours since the epoch
+    public record HourlySales(int bookId, long hour, long quantity) {
+    }
+
     private final DSLContext create;
 
     public OrderRepository(DSLContext dslContext, DefaultConfiguration configuration) {
@@ -66,12 +81,51 @@ public class OrderRepository extends OrdersDao {
         log.info("Added book {} to order {}", bookId, orderId);
     }
 
-    public List<OrderDetailVw> getOrderDetailsByUserId(int userId) {
+    /**
+     * Ids of one page of the user's orders, newest first. Paging runs on the orders table alone so the page
+     * boundary never splits an order's book rows.
+     */
+    public KeysetSlice<Integer> findOrderIdsPage(int userId, Object[] after, int limit) {
+        return RECENT_FIRST.fetch(create.select(ORDERS.ID)
+                .from(ORDERS)
+                .where(ORDERS.USER_ID.eq(userId)), after, limit, r -> r.get(ORDERS.ID));
+    }
+
+    public List<OrderDetailVw> getOrderDetailsByOrderIds(Collection<Integer> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
         return create.selectFrom(ORDER_DETAIL_VW)
-                .where(ORDER_DETAIL_VW.USER_ID.eq(userId))
-                .orderBy(ORDER_DETAIL_VW.CREATED_AT.desc())
+                .where(ORDER_DETAIL_VW.ID.in(orderIds))
+                .orderBy(ORDER_DETAIL_VW.ID.desc())
                 .fetch()
                 .into(OrderDetailVw.class);
     }
-}
 
+    /**
+     * Copies ordered per book over the whole order history. One aggregate over book_orders, for rebuilding the
+     * bestseller leaderboard, never for a request.
+     */
+    public Map<Integer, Long> findQuantitiesSold() {
+        return create.select(BOOK_ORDERS.BOOK_ID, DSL.sum(BOOK_ORDERS.QUANTITY))
+                .from(BOOK_ORDERS)
+                .groupBy(BOOK_ORDERS.BOOK_ID)
+                .fetchMap(r -> r.value1(), r -> r.value2().longValue());
+    }
+
+    /**
+     * Copies ordered per book and clock hour over the last `hours` hours, by the orders' created_at. Hours are
+     * floor(unix_timestamp(created_at) / 3600), the same epoch-hour buckets BestsellerService files live orders
+     * under, and do not depend on the time zone the timestamps are read in.
+     */
+    public List<HourlySales> findHourlySales(int hours) {
+        Field<Long> hour = DSL.field("floor(unix_timestamp({0}) / 3600)", SQLDataType.BIGINT, ORDERS.CREATED_AT);
+        return create.select(BOOK_ORDERS.BOOK_ID, hour, DSL.sum(BOOK_ORDERS.QUANTITY))
+                .from(BOOK_ORDERS)
+                .join(ORDERS).on(ORDERS.ID.eq(BOOK_ORDERS.ORDER_ID))
+                .where(ORDERS.CREATED_AT.gt(DSL.field("now() - interval {0} hour", ORDERS.CREATED_AT.getDataType(),
+                        DSL.val(hours))))
+                .groupBy(BOOK_ORDERS.BOOK_ID, hour)
+                .fetch(r -> new HourlySales(r.value1(), r.value2(), r.value3().longValue()));
+    }
+}
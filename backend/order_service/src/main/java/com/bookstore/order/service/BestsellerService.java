@@ -0,0 +1,159 @@
+package com.bookstore.order.service;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.bookstore.order.events.OrderCreatedEvent;
+import com.bookstore.order.model.Bestseller;
+import com.bookstore.order.model.BestsellerWindow;
+import com.bookstore.order.repository.OrderRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bestseller leaderboards for the last 24 hours, the last 7 days and all time, kept in memory so GET
+ * /book/bestsellers never aggregates book_orders.
+ *
+ * Loaded from book_orders when the application is ready, then moved by the quantities of each order this instance
+ * commits. The bounded windows keep per-hour quantities and take an hour back off their board once it falls out of
+ * the window. Orders placed through other instances only arrive with the next rebuild, every
+ * bookstore.bestsellers.rebuild-interval; a rebuild swaps in fresh boards, and an order committing while it runs can
+ * be missed until the one after.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class BestsellerService {
+
+    static final int MAX_LIMIT = 100;
+
+    private final OrderRepository orderRepository;
+
+    // Guarded by this; replaced whole by a rebuild
+    private Boards boards = new Boards(currentHour());
+    private volatile boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${bookstore.bestsellers.rebuild-interval:15m}",
+            initialDelayString = "${bookstore.bestsellers.rebuild-interval:15m}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        long hour = currentHour();
+        Boards fresh = new Boards(hour);
+        // Read outside the lock so orders keep committing meanwhile
+        orderRepository.findQuantitiesSold().forEach(fresh::addAllTime);
+        orderRepository.findHourlySales(BestsellerWindow.WEEK.getHours())
+                .forEach(sales -> fresh.addHour(sales.bookId(), sales.hour(), sales.quantity()));
+        synchronized (this) {
+            boards = fresh;
+        }
+        loaded = true;
+        log.info("Loaded bestsellers for {} books in {} ms", fresh.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener
+    public synchronized void onOrderCreated(OrderCreatedEvent event) {
+        long hour = currentHour();
+        boards.advance(hour);
+        event.getQuantities().forEach((bookId, quantity) -> {
+            boards.addAllTime(bookId, quantity);
+            boards.addHour(bookId, hour, quantity);
+        });
+    }
+
+    /**
+     * The books with the most copies ordered within the window, most first. Empty until the first load has finished.
+     */
+    public List<Bestseller> getBestsellers(BestsellerWindow window, int limit) {
+        if (!loaded) {
+            return List.of();
+        }
+        synchronized (this) {
+            boards.advance(currentHour());
+            return boards.top(window, Math.max(1, Math.min(limit, MAX_LIMIT)));
+        }
+    }
+
+    private static long currentHour() {
+        return Instant.now().getEpochSecond() / 3600;
+    }
+
+    /**
+     * One leaderboard per window, plus the per-hour quantities the bounded windows still cover. Hours are counted
+     * since the epoch.
+     */
+    static final class Boards {
+
+        private final Map<BestsellerWindow, Leaderboard> boards = new EnumMap<>(BestsellerWindow.class);
+        // First hour each bounded window covers
+        private final Map<BestsellerWindow, Long> firstHours = new EnumMap<>(BestsellerWindow.class);
+        // hour -> bookId -> quantity
+        private final TreeMap<Long, Map<Integer, Long>> hours = new TreeMap<>();
+
+        Boards(long hour) {
+            for (BestsellerWindow window : BestsellerWindow.values()) {
+                boards.put(window, new Leaderboard());
+                if (window.isBounded()) {
+                    firstHours.put(window, hour - window.getHours() + 1);
+                }
+            }
+        }
+
+        void addAllTime(int bookId, long quantity) {
+            boards.get(BestsellerWindow.ALL).add(bookId, quantity);
+        }
+
+        void addHour(int bookId, long hour, long quantity) {
+            if (hour < oldestHour()) {
+                return;
+            }
+            hours.computeIfAbsent(hour, h -> new HashMap<>()).merge(bookId, quantity, Long::sum);
+            firstHours.forEach((window, first) -> {
+                if (hour >= first) {
+                    boards.get(window).add(bookId, quantity);
+                }
+            });
+        }
+
+        /**
+         * Slides the bounded windows up to the hour, taking the hours they no longer cover back off their boards.
+         */
+        void advance(long hour) {
+            firstHours.replaceAll((window, first) -> {
+                long next = hour - window.getHours() + 1;
+                if (next <= first) {
+                    return first;
+                }
+                Leaderboard board = boards.get(window);
+                hours.subMap(first, next).values()
+                        .forEach(quantities -> quantities.forEach((bookId, quantity) -> board.add(bookId, -quantity)));
+                return next;
+            });
+            hours.headMap(oldestHour()).clear();
+        }
+
+        List<Bestseller> top(BestsellerWindow window, int limit) {
+            return boards.get(window).top(limit);
+        }
+
+        int size() {
+            return boards.get(BestsellerWindow.ALL).size();
+        }
+
+        private long oldestHour() {
+            return Collections.min(firstHours.values());
+        }
+    }
+}
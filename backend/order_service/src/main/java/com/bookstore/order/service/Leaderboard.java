@@ -0,0 +1,64 @@
+package com.bookstore.order.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import com.bookstore.order.model.Bestseller;
+
+/**
+ * Exact top-K over per-book quantities: a count map plus the same counts kept ranked in a tree, so an order moves a
+ * book in O(log n) and the top K are read off the front of the tree. The catalog bounds the number of books, which
+ * keeps exact counts affordable; no approximate sketch is needed. Not thread-safe, BestsellerService guards it.
+ */
+final class Leaderboard {
+
+    // Most copies first, ties by lowest book id so the order is stable
+    private static final Comparator<Bestseller> RANKING = Comparator.comparingLong(Bestseller::getQuantity).reversed()
+            .thenComparingInt(Bestseller::getBookId);
+
+    private final Map<Integer, Long> quantities = new HashMap<>();
+    private final TreeSet<Bestseller> ranked = new TreeSet<>(RANKING);
+
+    /**
+     * Adds delta copies to the book, or takes them back off when negative. A book left with none drops out.
+     */
+    void add(int bookId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        Long old = quantities.get(bookId);
+        long quantity = (old == null ? 0 : old) + delta;
+        if (old != null) {
+            ranked.remove(new Bestseller(bookId, old));
+        }
+        if (quantity > 0) {
+            quantities.put(bookId, quantity);
+            ranked.add(new Bestseller(bookId, quantity));
+        } else {
+            quantities.remove(bookId);
+        }
+    }
+
+    List<Bestseller> top(int limit) {
+        List<Bestseller> top = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (Bestseller bestseller : ranked) {
+            if (top.size() == limit) {
+                break;
+            }
+            top.add(bestseller);
+        }
+        return top;
+    }
+
+    long quantity(int bookId) {
+        return quantities.getOrDefault(bookId, 0L);
+    }
+
+    int size() {
+        return quantities.size();
+    }
+}
@@ -1,19 +1,26 @@
 package com.bookstore.order.service;
 
 import java.math.BigDecimal;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.bookstore.order.client.PaymentServiceClient;
+import com.bookstore.order.events.OrderCreatedEvent;
 import com.bookstore.order.model.PaymentRequest;
 import com.bookstore.order.model.PaymentResponse;
 import com.example.common.model.OrderStatus;
+import com.example.common.pagination.KeysetPage;
+import com.example.common.pagination.KeysetPagination;
+import com.example.common.pagination.KeysetSlice;
 import com.example.database.generated.tables.pojos.CartItemDetailVw;
 import com.example.database.generated.tables.pojos.OrderDetailVw;
 import com.bookstore.order.repository.CartRepository;
@@ -27,9 +34,13 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class OrderService {
 
+    static final int DEFAULT_ORDER_PAGE_SIZE = 20;
+
     private final OrderRepository orderRepository;
     private final CartRepository cartRepository;
     private final PaymentServiceClient paymentServiceClient;
+    private final KeysetPagination keysetPagination;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Creates an order from the user's cart with status CREATED.
@@ -55,14 +66,18 @@ public class OrderService {
         log.info("Created order {} from cart for user with ID {} with status CREATED", orderId, userId);
 
         // Add books to order
+        Map<Integer, Integer> quantities = new LinkedHashMap<>();
         for (CartItemDetailVw item : cartItems) {
             orderRepository.addBookToOrder(
                     orderId,
                     item.getBookId(),
                     item.getPrice(),
                     item.getBookQuantity());
+            quantities.merge(item.getBookId(), item.getBookQuantity(), Integer::sum);
             log.debug("Added book {} (quantity {}) to order {}", item.getBookId(), item.getBookQuantity(), orderId);
         }
+        // Delivered after commit, e.g. to the bestseller leaderboard
+        eventPublisher.publishEvent(new OrderCreatedEvent(orderId, quantities));
 
         // Clear the cart
         cartRepository.clearCart(userId);
@@ -147,7 +162,14 @@ public class OrderService {
         log.info("Order {} status updated to {}", orderId, status);
     }
 
-    public List<OrderDetailVw> getUserOrderDetails(int userId) {
-        return orderRepository.getOrderDetailsByUserId(userId);
+    /**
+     * One keyset page of the user's orders, newest first, with a row per ordered book.
+     */
+    public KeysetPage<OrderDetailVw> getUserOrderDetails(int userId, Integer size, String cursor) {
+        Object[] after = keysetPagination.decode(OrderRepository.RECENT_FIRST, cursor);
+        KeysetSlice<Integer> orderIds = orderRepository.findOrderIdsPage(userId, after,
+                keysetPagination.pageSize(size, DEFAULT_ORDER_PAGE_SIZE));
+        List<OrderDetailVw> details = orderRepository.getOrderDetailsByOrderIds(orderIds.items());
+        return keysetPagination.toPage(new KeysetSlice<>(details, orderIds.nextKey()), OrderRepository.RECENT_FIRST);
     }
 }
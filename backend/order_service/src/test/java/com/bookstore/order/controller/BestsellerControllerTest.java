@@ -0,0 +1,78 @@
+package com.bookstore.order.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.bookstore.order.model.Bestseller;
+import com.bookstore.order.model.BestsellerWindow;
+import com.bookstore.order.service.BestsellerService;
+import com.example.common.security.CustomJwtDecoder;
+import com.example.common.security.JwtUtil;
+
+import liquibase.integration.spring.SpringLiquibase;
+
+@WebMvcTest(controllers = BestsellerController.class)
+class BestsellerControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private BestsellerService bestsellerService;
+
+    @MockitoBean
+    private JwtUtil jwtUtil;
+
+    @MockitoBean
+    private CustomJwtDecoder customJwtDecoder;
+
+    @MockitoBean
+    private com.example.common.repository.UserRepository userRepository;
+
+    @MockitoBean
+    private DataSource dataSource;
+
+    @MockitoBean
+    private SpringLiquibase liquibase;
+
+    @Test
+    void testGetBestsellers_PublicAndRankedForWindow() throws Exception {
+        // Setup
+        when(bestsellerService.getBestsellers(BestsellerWindow.DAY, 5))
+                .thenReturn(List.of(new Bestseller(10, 7), new Bestseller(20, 3)));
+
+        // Act / Assert - no JWT, the storefront shows it to everyone
+        mockMvc.perform(get("/book/bestsellers")
+                .param("window", "24h")
+                .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].bookId").value(10))
+                .andExpect(jsonPath("$[0].quantity").value(7))
+                .andExpect(jsonPath("$[1].bookId").value(20));
+    }
+
+    @Test
+    void testGetBestsellers_UnknownWindow_Returns400() throws Exception {
+        // Act / Assert
+        mockMvc.perform(get("/book/bestsellers").param("window", "1y"))
+                .andExpect(status().isBadRequest());
+
+        verify(bestsellerService, never()).getBestsellers(any(), anyInt());
+    }
+}
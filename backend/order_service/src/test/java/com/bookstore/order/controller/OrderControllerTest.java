@@ -9,6 +9,7 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -26,6 +27,8 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.example.common.pagination.KeysetPage;
+import com.example.common.pagination.KeysetPagination;
 import com.example.common.security.CustomJwtDecoder;
 import com.example.common.security.JwtUtil;
 import com.example.database.generated.tables.pojos.OrderDetailVw;
@@ -81,33 +84,38 @@ class OrderControllerTest {
         List<OrderDetailVw> orderDetails = new ArrayList<>();
         orderDetails.add(orderDetail);
         
-        when(orderService.getUserOrderDetails(USER_ID)).thenReturn(orderDetails);
+        when(orderService.getUserOrderDetails(USER_ID, null, null))
+                .thenReturn(new KeysetPage<>(orderDetails, "next-page"));
         
         // Act / Assert
         mockMvc.perform(get("/orders")
                 .with(jwt().jwt(jwt -> jwt.claim("userId", USER_ID))))
                 .andExpect(status().isOk())
+                .andExpect(header().string(KeysetPagination.NEXT_CURSOR_HEADER, "next-page"))
                 .andExpect(jsonPath("$[0].orderId").value(ORDER_ID))
                 .andExpect(jsonPath("$[0].totalAmount").value(29.99))
                 .andExpect(jsonPath("$[0].status").value("Completed"))
                 .andExpect(jsonPath("$[0].books[0].bookId").value(10))
                 .andExpect(jsonPath("$[0].books[0].title").value("Test Book Title"));
         
-        verify(orderService, times(1)).getUserOrderDetails(USER_ID);
+        verify(orderService, times(1)).getUserOrderDetails(USER_ID, null, null);
     }
 
     @Test
     void testGetOrders_EmptyList_Returns200() throws Exception {
         // Setup - empty orders
-        when(orderService.getUserOrderDetails(USER_ID)).thenReturn(new ArrayList<>());
+        when(orderService.getUserOrderDetails(USER_ID, 5, "abc")).thenReturn(new KeysetPage<>(new ArrayList<>(), null));
         
         // Act / Assert
         mockMvc.perform(get("/orders")
+                .param("size", "5")
+                .param("cursor", "abc")
                 .with(jwt().jwt(jwt -> jwt.claim("userId", USER_ID))))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(KeysetPagination.NEXT_CURSOR_HEADER))
                 .andExpect(content().json("[]"));
         
-        verify(orderService, times(1)).getUserOrderDetails(USER_ID);
+        verify(orderService, times(1)).getUserOrderDetails(USER_ID, 5, "abc");
     }
 
     @Test
@@ -5,7 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,6 +17,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import com.example.common.database.MyDataSource;
 import com.example.common.model.OrderStatus;
+import com.example.common.pagination.KeysetSlice;
 import com.example.common.repository.BaseIntegrationTest;
 import com.example.database.generated.tables.pojos.OrderDetailVw;
 
@@ -42,7 +45,7 @@ class OrderRepositoryTest extends BaseIntegrationTest {
         assertTrue(orderId > 0);
         
         // Verify order was created
-        List<OrderDetailVw> orderDetails = orderRepository.getOrderDetailsByUserId(USER_ID);
+        List<OrderDetailVw> orderDetails = orderRepository.getOrderDetailsByOrderIds(List.of(orderId));
         assertTrue(orderDetails.stream().anyMatch(o -> o.getId().equals(orderId)));
     }
 
@@ -56,7 +59,7 @@ class OrderRepositoryTest extends BaseIntegrationTest {
         orderRepository.addBookToOrder(orderId, BOOK_ID_2, BOOK_PRICE_2, 1);
 
         // Assert - verify using OrderDetailVw
-        List<OrderDetailVw> orderDetails = orderRepository.getOrderDetailsByUserId(USER_ID);
+        List<OrderDetailVw> orderDetails = orderRepository.getOrderDetailsByOrderIds(List.of(orderId));
         List<OrderDetailVw> thisOrderDetails = orderDetails.stream()
             .filter(od -> od.getId().equals(orderId))
             .toList();
@@ -84,33 +87,44 @@ class OrderRepositoryTest extends BaseIntegrationTest {
     }
 
     @Test
-    void testGetOrderDetailsByUserId() {
+    void testGetOrderDetailsByOrderIds_NewestFirst() {
         // Arrange - create multiple orders
         int orderId1 = orderRepository.createOrder(USER_ID, BigDecimal.valueOf(29.99), OrderStatus.CREATED);
         int orderId2 = orderRepository.createOrder(USER_ID, BigDecimal.valueOf(49.99), OrderStatus.CREATED);
 
         // Act
-        List<OrderDetailVw> orderDetails = orderRepository.getOrderDetailsByUserId(USER_ID);
+        List<OrderDetailVw> orderDetails = orderRepository.getOrderDetailsByOrderIds(List.of(orderId1, orderId2));
 
-        // Assert
-        assertTrue(orderDetails.size() >= 2);
-        assertTrue(orderDetails.stream().anyMatch(o -> o.getId().equals(orderId1)));
-        assertTrue(orderDetails.stream().anyMatch(o -> o.getId().equals(orderId2)));
-        
-        // Verify orders are sorted by created_at descending (most recent first)
-        OrderDetailVw firstOrder = orderDetails.get(0);
-        OrderDetailVw secondOrder = orderDetails.get(1);
-        assertTrue(firstOrder.getCreatedAt().isAfter(secondOrder.getCreatedAt()) 
-                || firstOrder.getCreatedAt().isEqual(secondOrder.getCreatedAt()));
+        // Assert - the later order has the higher id and comes first
+        assertEquals(List.of(orderId2, orderId1), orderDetails.stream().map(OrderDetailVw::getId).toList());
+    }
+
+    @Test
+    void testFindOrderIdsPage_SeeksPastPreviousPage() {
+        // Arrange
+        int older = orderRepository.createOrder(USER_ID, TOTAL_PRICE, OrderStatus.CREATED);
+        int newer = orderRepository.createOrder(USER_ID, TOTAL_PRICE, OrderStatus.CREATED);
+
+        // Act
+        KeysetSlice<Integer> first = orderRepository.findOrderIdsPage(USER_ID, null, 1);
+        KeysetSlice<Integer> second = orderRepository.findOrderIdsPage(USER_ID, first.nextKey(), 1);
+
+        // Assert - orders are paged by id desc, newest first
+        assertEquals(List.of(newer), first.items());
+        assertTrue(first.hasMore());
+        assertEquals(older, second.items().get(0));
+        assertEquals(2, orderRepository.getOrderDetailsByOrderIds(List.of(older, newer)).stream()
+                .map(OrderDetailVw::getId).distinct().count());
     }
 
     @Test
-    void testGetOrderDetailsByUserId_EmptyList() {
+    void testFindOrderIdsPage_NoOrders() {
         // Act - use a user ID that has no orders
-        List<OrderDetailVw> orderDetails = orderRepository.getOrderDetailsByUserId(999);
+        KeysetSlice<Integer> page = orderRepository.findOrderIdsPage(999, null, 10);
 
         // Assert
-        assertEquals(0, orderDetails.size());
+        assertEquals(0, page.items().size());
+        assertEquals(0, orderRepository.getOrderDetailsByOrderIds(page.items()).size());
     }
 
     @Test
@@ -126,7 +140,8 @@ class OrderRepositoryTest extends BaseIntegrationTest {
         orderRepository.addBookToOrder(orderId, BOOK_ID_2, BOOK_PRICE_2, 1);
         
         // Step 3: Verify order exists in user's order details
-        List<OrderDetailVw> userOrderDetails = orderRepository.getOrderDetailsByUserId(USER_ID);
+        List<OrderDetailVw> userOrderDetails = orderRepository.getOrderDetailsByOrderIds(
+            orderRepository.findOrderIdsPage(USER_ID, null, 100).items());
         List<OrderDetailVw> thisOrderDetails = userOrderDetails.stream()
             .filter(od -> od.getId().equals(orderId))
             .toList();
@@ -143,4 +158,30 @@ class OrderRepositoryTest extends BaseIntegrationTest {
             .sum();
         assertEquals(3, totalQuantity);
     }
+
+    @Test
+    void testFindHourlySalesAndQuantitiesSold_SumPerBook() {
+        // Arrange
+        Map<Integer, Long> before = orderRepository.findQuantitiesSold();
+        int orderId1 = orderRepository.createOrder(USER_ID, TOTAL_PRICE, OrderStatus.CREATED);
+        orderRepository.addBookToOrder(orderId1, BOOK_ID_1, BOOK_PRICE_1, 2);
+        orderRepository.addBookToOrder(orderId1, BOOK_ID_2, BOOK_PRICE_2, 1);
+        int orderId2 = orderRepository.createOrder(USER_ID, TOTAL_PRICE, OrderStatus.CREATED);
+        orderRepository.addBookToOrder(orderId2, BOOK_ID_1, BOOK_PRICE_1, 3);
+
+        // Act
+        Map<Integer, Long> sold = orderRepository.findQuantitiesSold();
+        List<OrderRepository.HourlySales> lastHours = orderRepository.findHourlySales(24);
+
+        // Assert
+        assertEquals(before.getOrDefault(BOOK_ID_1, 0L) + 5, sold.get(BOOK_ID_1));
+        assertEquals(before.getOrDefault(BOOK_ID_2, 0L) + 1, sold.get(BOOK_ID_2));
+        // Orders just placed are in the current epoch hour
+        long hour = Instant.now().getEpochSecond() / 3600;
+        OrderRepository.HourlySales book1 = lastHours.stream()
+            .filter(sales -> sales.bookId() == BOOK_ID_1 && sales.hour() == hour)
+            .findFirst()
+            .orElseThrow();
+        assertTrue(book1.quantity() >= 5);
+    }
 }
@@ -0,0 +1,115 @@
+package com.bookstore.order.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.bookstore.order.events.OrderCreatedEvent;
+import com.bookstore.order.model.Bestseller;
+import com.bookstore.order.model.BestsellerWindow;
+import com.bookstore.order.repository.OrderRepository;
+
+@ExtendWith(MockitoExtension.class)
+class BestsellerServiceTest {
+
+    private static final long HOUR = 500_000;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @InjectMocks
+    private BestsellerService bestsellerService;
+
+    @Test
+    void rebuild_LoadsEachWindowFromBookOrders() {
+        // Arrange - book 1 sold most ever, book 2 most this week, book 3 most today
+        long hour = Instant.now().getEpochSecond() / 3600;
+        when(orderRepository.findQuantitiesSold()).thenReturn(Map.of(1, 100L, 2, 30L, 3, 5L));
+        when(orderRepository.findHourlySales(BestsellerWindow.WEEK.getHours())).thenReturn(List.of(
+                new OrderRepository.HourlySales(2, hour - 72, 30),
+                new OrderRepository.HourlySales(3, hour - 2, 5),
+                new OrderRepository.HourlySales(1, hour - 100, 1)));
+
+        // Act
+        bestsellerService.rebuild();
+
+        // Assert
+        assertEquals(List.of(new Bestseller(1, 100), new Bestseller(2, 30), new Bestseller(3, 5)),
+                bestsellerService.getBestsellers(BestsellerWindow.ALL, 10));
+        assertEquals(List.of(new Bestseller(2, 30), new Bestseller(3, 5), new Bestseller(1, 1)),
+                bestsellerService.getBestsellers(BestsellerWindow.WEEK, 10));
+        assertEquals(List.of(new Bestseller(3, 5)), bestsellerService.getBestsellers(BestsellerWindow.DAY, 10));
+    }
+
+    @Test
+    void onOrderCreated_AddsQuantitiesToEveryWindow() {
+        // Arrange
+        when(orderRepository.findQuantitiesSold()).thenReturn(Map.of(1, 3L));
+        when(orderRepository.findHourlySales(BestsellerWindow.WEEK.getHours())).thenReturn(List.of());
+        bestsellerService.rebuild();
+
+        // Act
+        bestsellerService.onOrderCreated(new OrderCreatedEvent(7, Map.of(1, 1, 2, 4)));
+
+        // Assert
+        assertEquals(List.of(new Bestseller(1, 4)), bestsellerService.getBestsellers(BestsellerWindow.ALL, 1));
+        assertEquals(List.of(new Bestseller(2, 4), new Bestseller(1, 1)),
+                bestsellerService.getBestsellers(BestsellerWindow.DAY, 10));
+    }
+
+    @Test
+    void getBestsellers_EmptyUntilLoaded() {
+        // Act / Assert
+        assertTrue(bestsellerService.getBestsellers(BestsellerWindow.ALL, 10).isEmpty());
+    }
+
+    @Test
+    void boards_AdvanceTakesExpiredHoursOffBoundedWindows() {
+        // Arrange
+        BestsellerService.Boards boards = new BestsellerService.Boards(HOUR);
+        boards.addHour(1, HOUR - 23, 10);
+        boards.addHour(2, HOUR, 4);
+        boards.addHour(1, HOUR - 7 * 24, 99); // already outside the week
+
+        // Act
+        boards.advance(HOUR + 1);
+
+        // Assert - the hour 23 back fell out of the day, not the week
+        assertEquals(List.of(new Bestseller(2, 4)), boards.top(BestsellerWindow.DAY, 10));
+        assertEquals(List.of(new Bestseller(1, 10), new Bestseller(2, 4)), boards.top(BestsellerWindow.WEEK, 10));
+
+        // Act - a week later everything has expired
+        boards.advance(HOUR + 7 * 24);
+
+        // Assert
+        assertTrue(boards.top(BestsellerWindow.WEEK, 10).isEmpty());
+    }
+
+    @Test
+    void leaderboard_RanksByQuantityThenBookId() {
+        // Arrange
+        Leaderboard leaderboard = new Leaderboard();
+
+        // Act
+        leaderboard.add(5, 2);
+        leaderboard.add(3, 2);
+        leaderboard.add(9, 1);
+        leaderboard.add(9, 4);
+        leaderboard.add(5, -2);
+
+        // Assert
+        assertEquals(List.of(new Bestseller(9, 5), new Bestseller(3, 2)), leaderboard.top(5));
+        assertEquals(0, leaderboard.quantity(5));
+        assertEquals(2, leaderboard.size());
+    }
+}
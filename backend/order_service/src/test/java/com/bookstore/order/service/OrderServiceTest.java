@@ -1,6 +1,7 @@
 package com.bookstore.order.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -15,18 +16,25 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import com.bookstore.order.events.OrderCreatedEvent;
 import com.example.database.generated.tables.pojos.CartItemDetailVw;
 import com.example.database.generated.tables.pojos.OrderDetailVw;
 import com.bookstore.order.repository.CartRepository;
 import com.bookstore.order.repository.OrderRepository;
 import com.example.common.model.OrderStatus;
+import com.example.common.pagination.KeysetPage;
+import com.example.common.pagination.KeysetPagination;
+import com.example.common.pagination.KeysetSlice;
 
 @ExtendWith(MockitoExtension.class)
 class OrderServiceTest {
@@ -48,6 +56,12 @@ class OrderServiceTest {
     @Mock
     private CartItemDetailVw cartItem2;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private KeysetPagination keysetPagination = new KeysetPagination("test-secret", 100);
+
     @InjectMocks
     private OrderService orderService;
 
@@ -75,6 +89,7 @@ class OrderServiceTest {
         verify(orderRepository, times(1)).addBookToOrder(ORDER_ID, BOOK_ID_1, BigDecimal.valueOf(15.99), 2);
         verify(orderRepository, times(1)).addBookToOrder(ORDER_ID, BOOK_ID_2, BigDecimal.valueOf(9.99), 1);
         verify(cartRepository, times(1)).clearCart(USER_ID);
+        verify(eventPublisher, times(1)).publishEvent(new OrderCreatedEvent(ORDER_ID, Map.of(BOOK_ID_1, 2, BOOK_ID_2, 1)));
     }
 
     @Test
@@ -89,6 +104,7 @@ class OrderServiceTest {
         
         verify(orderRepository, never()).createOrder(anyInt(), any(BigDecimal.class), any(OrderStatus.class));
         verify(cartRepository, never()).clearCart(anyInt());
+        verify(eventPublisher, never()).publishEvent(any(OrderCreatedEvent.class));
     }
 
     @Test
@@ -141,28 +157,47 @@ class OrderServiceTest {
         );
         
         List<OrderDetailVw> expectedOrders = Arrays.asList(order1, order2);
-        when(orderRepository.getOrderDetailsByUserId(USER_ID)).thenReturn(expectedOrders);
+        when(orderRepository.findOrderIdsPage(USER_ID, null, OrderService.DEFAULT_ORDER_PAGE_SIZE))
+                .thenReturn(new KeysetSlice<>(List.of(ORDER_ID, ORDER_ID + 1), null));
+        when(orderRepository.getOrderDetailsByOrderIds(List.of(ORDER_ID, ORDER_ID + 1))).thenReturn(expectedOrders);
+
+        // Act
+        KeysetPage<OrderDetailVw> result = orderService.getUserOrderDetails(USER_ID, null, null);
+
+        // Assert
+        assertEquals(2, result.getItems().size());
+        assertEquals(ORDER_ID, result.getItems().get(0).getId());
+        assertEquals(ORDER_ID + 1, result.getItems().get(1).getId());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void testGetUserOrderDetails_NextCursorSeeksAfterLastOrder() {
+        // Arrange
+        when(orderRepository.findOrderIdsPage(USER_ID, null, 1))
+                .thenReturn(new KeysetSlice<>(List.of(ORDER_ID), new Object[] { ORDER_ID }));
+        when(orderRepository.getOrderDetailsByOrderIds(List.of(ORDER_ID))).thenReturn(List.of());
 
         // Act
-        List<OrderDetailVw> result = orderService.getUserOrderDetails(USER_ID);
+        String cursor = orderService.getUserOrderDetails(USER_ID, 1, null).getNextCursor();
+        orderService.getUserOrderDetails(USER_ID, 1, cursor);
 
         // Assert
-        assertEquals(2, result.size());
-        assertEquals(ORDER_ID, result.get(0).getId());
-        assertEquals(ORDER_ID + 1, result.get(1).getId());
-        verify(orderRepository, times(1)).getOrderDetailsByUserId(USER_ID);
+        verify(orderRepository).findOrderIdsPage(eq(USER_ID), eq(new Object[] { ORDER_ID }), eq(1));
     }
 
     @Test
     void testGetUserOrderDetails_EmptyList() {
         // Arrange
-        when(orderRepository.getOrderDetailsByUserId(USER_ID)).thenReturn(new ArrayList<>());
+        when(orderRepository.findOrderIdsPage(USER_ID, null, OrderService.DEFAULT_ORDER_PAGE_SIZE))
+                .thenReturn(new KeysetSlice<>(List.of(), null));
+        when(orderRepository.getOrderDetailsByOrderIds(List.of())).thenReturn(new ArrayList<>());
 
         // Act
-        List<OrderDetailVw> result = orderService.getUserOrderDetails(USER_ID);
+        KeysetPage<OrderDetailVw> result = orderService.getUserOrderDetails(USER_ID, null, null);
 
         // Assert
-        assertEquals(0, result.size());
-        verify(orderRepository, times(1)).getOrderDetailsByUserId(USER_ID);
+        assertEquals(0, result.getItems().size());
+        assertNull(result.getNextCursor());
     }
 }
@@ -21,6 +21,7 @@ kubectl delete pvc mysql-pvc -n bookstore 2>/dev/null || echo "  MySQL PVC not f
 echo "🔐 Deleting secrets..."
 kubectl delete secret mysql-secret -n bookstore 2>/dev/null || echo "  mysql-secret not found"
 kubectl delete secret stripe-secret -n bookstore 2>/dev/null || echo "  stripe-secret not found"
+kubectl delete secret pagination-secret -n bookstore 2>/dev/null || echo "  pagination-secret not found"
 
 # Delete namespace
 echo "🗂️  Deleting bookstore namespace..."
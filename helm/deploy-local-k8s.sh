@@ -33,6 +33,13 @@ kubectl create secret generic mysql-secret \
   --namespace=bookstore \
   --dry-run=client -o yaml | kubectl apply -f -
 
+# Cursor signing secret for keyset pagination (entity and order services), random unless already created
+if ! kubectl get secret pagination-secret --namespace=bookstore >/dev/null 2>&1; then
+    kubectl create secret generic pagination-secret \
+      --from-literal=cursor-secret="$(openssl rand -base64 32)" \
+      --namespace=bookstore
+fi
+
 # Stripe secret (read from .env file if exists)
 if [ -f "../.env" ]; then
     source ../.env
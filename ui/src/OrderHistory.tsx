@@ -2,6 +2,7 @@ import {
   AppBar,
   Badge,
   Box,
+  Button,
   Card,
   CardContent,
   Container,
@@ -23,7 +24,7 @@ import {
   ShoppingCart as ShoppingCartIcon,
   Receipt as ReceiptIcon 
 } from "@mui/icons-material";
-import { useQuery, useQueryClient } from "@tanstack/react-query";
+import { useInfiniteQuery, useQuery, useQueryClient } from "@tanstack/react-query";
 import { getOrders, getCartItems } from "./api";
 import { useNavigate } from "react-router-dom";
 import Footer from "./Footer";
@@ -56,9 +57,12 @@ export default function OrderHistory() {
   const navigate = useNavigate();
   const queryClient = useQueryClient();
 
-  const ordersQuery = useQuery({
+  // The order service pages history, so older orders are loaded on request
+  const ordersQuery = useInfiniteQuery({
     queryKey: ["orders"],
-    queryFn: getOrders,
+    queryFn: ({ pageParam }) => getOrders(pageParam),
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => lastPage.nextCursor ?? undefined,
   });
 
   const cartQuery = useQuery({
@@ -156,7 +160,7 @@ export default function OrderHistory() {
     );
   }
 
-  const orders = ordersQuery.data || [];
+  const orders: Order[] = ordersQuery.data?.pages.flatMap((page) => page.orders) || [];
 
   return (
     <Box sx={{ display: 'flex', flexDirection: 'column', minHeight: '100vh' }}>
@@ -268,6 +272,18 @@ export default function OrderHistory() {
           </CardContent>
         </Card>
       ))}
+
+            {ordersQuery.hasNextPage && (
+              <Box sx={{ display: "flex", justifyContent: "center" }}>
+                <Button
+                  variant="outlined"
+                  onClick={() => ordersQuery.fetchNextPage()}
+                  disabled={ordersQuery.isFetchingNextPage}
+                >
+                  {ordersQuery.isFetchingNextPage ? "Loading..." : "Load older orders"}
+                </Button>
+              </Box>
+            )}
           </>
         )}
       </Container>
@@ -141,13 +141,18 @@ export function setDefaultAddress(addressId: number){
    });
 }
 
-export function getOrders(){
+// One page of order history, newest first; pass nextCursor back to get older orders
+export function getOrders(cursor?: string){
    const token = sessionStorage.getItem('authToken');
-   return fetch(`${API_CONFIG.API_URL}/orders`, {
+   const query = cursor ? `?cursor=${encodeURIComponent(cursor)}` : '';
+   return fetch(`${API_CONFIG.API_URL}/orders${query}`, {
       headers: {
          'Authorization': `Bearer ${token}`
       }
-   }).then((res) => res.json());
+   }).then(async (res) => ({
+      orders: await res.json(),
+      nextCursor: res.headers.get('X-Next-Cursor'),
+   }));
 }
 
 export function createOrderFromCart(){